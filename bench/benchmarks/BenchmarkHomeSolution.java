@@ -0,0 +1,206 @@
+package benchmarks;
+
+import entidades.ConsumidorIntObjeto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks JMH de las operaciones principales de HomeSolution.
+ *
+ * Las operaciones que cambian el estado de forma irreversible (registrar,
+ * asignar, finalizar) se miden como una pasada completa sobre un sistema
+ * recien armado en cada iteracion (SingleShotTime). Las que se pueden repetir
+ * (retrasos y consultas) se miden en tiempo promedio por llamada.
+ *
+ * Como compilarlos y ejecutarlos esta en ReadMe.txt.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class BenchmarkHomeSolution {
+
+    /** Solo empleados: para medir el alta de proyectos. */
+    @State(Scope.Benchmark)
+    public static class SoloEmpleados extends Escenario {
+        @Setup(Level.Iteration)
+        public void preparar() {
+            armarEmpleados();
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminar() {
+            restaurar();
+        }
+    }
+
+    /** Proyectos registrados sin ninguna tarea asignada. */
+    @State(Scope.Benchmark)
+    public static class SinAsignar extends Escenario {
+        @Setup(Level.Iteration)
+        public void preparar() throws Exception {
+            armar(false);
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminar() {
+            restaurar();
+        }
+    }
+
+    /** Todas las tareas asignables ya tienen responsable. */
+    @State(Scope.Benchmark)
+    public static class Asignado extends Escenario {
+        @Setup(Level.Iteration)
+        public void preparar() throws Exception {
+            armar(true);
+        }
+
+        @TearDown(Level.Iteration)
+        public void terminar() {
+            restaurar();
+        }
+    }
+
+    /**
+     * Sistema para consultas y retrasos, armado una sola vez. Uno de cada
+     * cuatro proyectos se completa tarea por tarea, para que los tres listados
+     * por estado tengan elementos; en el resto se asignan tareas hasta que no
+     * quedan empleados libres, y sobre esas se registran los retrasos.
+     */
+    @State(Scope.Benchmark)
+    public static class Consultas extends Escenario {
+        int[] asignadas;
+        int cantidadAsignadas;
+        int siguiente;
+
+        @Setup(Level.Trial)
+        public void preparar() throws Exception {
+            armar(false);
+            int tareas = proyectos * tareasPorProyecto;
+            for (int i = 0; i < tareas; i++) {
+                if (finalizado(i)) {
+                    sistema.asignarResponsableEnTarea(numero(i), titulo(i));
+                    sistema.finalizarTarea(numero(i), titulo(i));
+                }
+            }
+            asignadas = new int[asignables()];
+            for (int i = 0; i < tareas && cantidadAsignadas < asignadas.length; i++) {
+                if (!finalizado(i)) {
+                    sistema.asignarResponsableEnTarea(numero(i), titulo(i));
+                    asignadas[cantidadAsignadas++] = i;
+                }
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void terminar() {
+            restaurar();
+        }
+
+        private boolean finalizado(int i) {
+            return (numero(i) - PRIMER_NUMERO_PROYECTO) % 4 == 3;
+        }
+
+        int proximaAsignada() {
+            int i = asignadas[siguiente];
+            siguiente = siguiente + 1 == cantidadAsignadas ? 0 : siguiente + 1;
+            return i;
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void registrarProyecto(SoloEmpleados e) {
+        for (int p = 0; p < e.proyectos; p++) {
+            e.registrarProyecto(p);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void asignarResponsableEnTarea(SinAsignar e) throws Exception {
+        for (int i = 0; i < e.asignables(); i++) {
+            e.sistema.asignarResponsableEnTarea(e.numero(i), e.titulo(i));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void asignarResponsableMenosRetraso(SinAsignar e) throws Exception {
+        for (int i = 0; i < e.asignables(); i++) {
+            e.sistema.asignarResponsableMenosRetraso(e.numero(i), e.titulo(i));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void finalizarTarea(Asignado e) throws Exception {
+        for (int i = 0; i < e.asignables(); i++) {
+            e.sistema.finalizarTarea(e.numero(i), e.titulo(i));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void registrarRetrasoEnTarea(Consultas e) {
+        int i = e.proximaAsignada();
+        e.sistema.registrarRetrasoEnTarea(e.numero(i), e.titulo(i), 0.5);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object proyectosActivos(Consultas e) {
+        return e.sistema.proyectosActivos();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object proyectosPendientes(Consultas e) {
+        return e.sistema.proyectosPendientes();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object proyectosFinalizados(Consultas e) {
+        return e.sistema.proyectosFinalizados();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void recorrerProyectosActivos(Consultas e, Blackhole bh) {
+        ConsumidorIntObjeto<String> consumir = (numero, domicilio) -> {
+            bh.consume(numero);
+            bh.consume(domicilio);
+        };
+        e.sistema.recorrerProyectosActivos(consumir);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object tareaMasLarga(Consultas e) throws Exception {
+        return e.sistema.tareaMasLarga();
+    }
+}
@@ -0,0 +1,113 @@
+package benchmarks;
+
+import entidades.HomeSolution;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Sistema de prueba parametrizado por cantidad de empleados, de proyectos y
+ * de tareas por proyecto. Las tareas de cada proyecto se llaman T0, T1, ...
+ * y los proyectos se numeran desde 5000, como en un sistema nuevo.
+ *
+ * HomeSolution escribe un mensaje por operacion en System.out; mientras el
+ * escenario esta armado la salida se descarta para no medir la consola.
+ */
+@State(Scope.Benchmark)
+public class Escenario {
+    static final int PRIMER_NUMERO_PROYECTO = 5000;
+
+    @Param({"100", "10000"})
+    public int empleados;
+
+    @Param({"100", "1000"})
+    public int proyectos;
+
+    @Param({"4", "64"})
+    public int tareasPorProyecto;
+
+    HomeSolution sistema;
+    String[] titulos;
+    private PrintStream salidaOriginal;
+
+    /**
+     * Sistema nuevo con los empleados registrados (un tercio de planta) y
+     * todavia sin proyectos.
+     */
+    void armarEmpleados() {
+        silenciar();
+        sistema = new HomeSolution();
+        for (int i = 0; i < empleados; i++) {
+            if (i % 3 == 0) {
+                sistema.registrarEmpleado("Planta " + i, 20000, i % 2 == 0 ? "EXPERTO" : "INICIAL");
+            } else {
+                sistema.registrarEmpleado("Contratado " + i, 1500 + i % 500);
+            }
+        }
+        titulos = new String[tareasPorProyecto];
+        for (int j = 0; j < tareasPorProyecto; j++) {
+            titulos[j] = "T" + j;
+        }
+    }
+
+    /**
+     * Empleados y proyectos registrados; si {@code asignar}, las primeras
+     * {@link #asignables()} tareas (en orden de proyecto) quedan con responsable.
+     */
+    void armar(boolean asignar) throws Exception {
+        armarEmpleados();
+        for (int p = 0; p < proyectos; p++) {
+            registrarProyecto(p);
+        }
+        if (asignar) {
+            for (int i = 0; i < asignables(); i++) {
+                sistema.asignarResponsableEnTarea(numero(i), titulo(i));
+            }
+        }
+    }
+
+    void registrarProyecto(int p) {
+        double[] dias = new double[tareasPorProyecto];
+        for (int j = 0; j < tareasPorProyecto; j++) {
+            dias[j] = 1 + (p + j) % 7;
+        }
+        sistema.registrarProyecto(titulos, new String[tareasPorProyecto], dias, "Calle " + p,
+                new String[] {"Cliente " + p % 500, "cliente" + p + "@mail.com", "11" + p}, "2025-01-01",
+                "2025-12-31");
+    }
+
+    /**
+     * Cantidad de tareas que se pueden asignar antes de quedarse sin empleados libres.
+     */
+    int asignables() {
+        return Math.min(empleados, proyectos * tareasPorProyecto);
+    }
+
+    /**
+     * Numero de proyecto de la i-esima tarea, contando en orden de proyecto.
+     */
+    int numero(int i) {
+        return PRIMER_NUMERO_PROYECTO + i / tareasPorProyecto;
+    }
+
+    String titulo(int i) {
+        return titulos[i % tareasPorProyecto];
+    }
+
+    private void silenciar() {
+        if (salidaOriginal == null) {
+            salidaOriginal = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+    }
+
+    void restaurar() {
+        if (salidaOriginal != null) {
+            System.setOut(salidaOriginal);
+            salidaOriginal = null;
+        }
+    }
+}
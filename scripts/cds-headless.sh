@@ -0,0 +1,25 @@
+#!/bin/sh
+# Arranque rapido de los modos sin pantallas con Class Data Sharing (JDK 13+).
+#
+# La primera vez empaqueta las clases compiladas en un jar (CDS no admite
+# directorios en el classpath), corre el lote de ejemplo y guarda las clases
+# que se cargaron; las siguientes ejecuciones las mapean desde ese archivo en
+# lugar de leerlas y verificarlas de nuevo. Si se recompila, borrar DESTINO.
+#
+# Uso: scripts/cds-headless.sh [archivo-de-comandos]
+# Variables: CLASES (default bin, donde compila Eclipse), DESTINO (default cds).
+set -e
+cd "$(dirname "$0")/.."
+CLASES=${CLASES:-bin}
+DESTINO=${DESTINO:-cds}
+JAR="$DESTINO/homesolution.jar"
+ARCHIVO_CDS="$DESTINO/homesolution-headless.jsa"
+
+if [ ! -f "$ARCHIVO_CDS" ]; then
+    mkdir -p "$DESTINO"
+    jar cf "$JAR" -C "$CLASES" .
+    java -XX:ArchiveClassesAtExit="$ARCHIVO_CDS" -cp "$JAR" \
+        Main --modo=batch scripts/ejemplo-batch.txt > /dev/null
+fi
+exec java -XX:SharedArchiveFile="$ARCHIVO_CDS" -XX:TieredStopAtLevel=1 -cp "$JAR" \
+    Main --modo=batch "$@"
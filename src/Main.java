@@ -1,12 +1,79 @@
-import entidades.Empleado;
-import entidades.EmpleadoPlanta;
+import entidades.GeneradorCarga;
 import entidades.HomeSolution;
+import entidades.InterpreteComandos;
+import entidades.ServidorComandos;
+import entidades.SimuladorCarga;
 import gui.PanelManager;
 
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
 //TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
 // click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+/**
+ * Uso: Main [--modo=gui|batch|servidor|carga] [--puerto=N] [--hilos=N] [--operaciones=N] [--semilla=N] [archivo]
+ *
+ * gui (por defecto) carga datos de ejemplo y abre las pantallas.
+ * batch ejecuta los comandos del archivo (o de la entrada estandar) y termina.
+ * servidor atiende comandos por TCP.
+ * carga genera datos y operaciones sinteticas, las ejecuta desde varios hilos
+ * e informa throughput y latencias. Solo el modo gui carga Swing.
+ */
 public class Main {
-    public static void main(String[] args) {
+    private static final int PUERTO_POR_DEFECTO = 9090;
+    private static final int EMPLEADOS_CARGA = 5000;
+    private static final int PROYECTOS_CARGA = 2000;
+    // Cada tarea da unas tres operaciones (asignar, finalizar y algun retraso) y un proyecto tiene unas cuatro tareas.
+    private static final int OPERACIONES_POR_PROYECTO = 12;
+
+    public static void main(String[] args) throws IOException {
+        String modo="gui";
+        int puerto=PUERTO_POR_DEFECTO;
+        String archivo=null;
+        int hilos=4;
+        int operaciones=100000;
+        long semilla=42;
+        for (String arg : args) {
+            if (arg.startsWith("--modo="))
+                modo=arg.substring("--modo=".length());
+            else if (arg.startsWith("--puerto="))
+                puerto=Integer.parseInt(arg.substring("--puerto=".length()));
+            else if (arg.startsWith("--hilos="))
+                hilos=Integer.parseInt(arg.substring("--hilos=".length()));
+            else if (arg.startsWith("--operaciones="))
+                operaciones=Integer.parseInt(arg.substring("--operaciones=".length()));
+            else if (arg.startsWith("--semilla="))
+                semilla=Long.parseLong(arg.substring("--semilla=".length()));
+            else
+                archivo=arg;
+        }
+        switch (modo) {
+            case "gui":
+                iniciarGui();
+                break;
+            case "batch":
+                System.exit(ejecutarLote(archivo) == 0 ? 0 : 1);
+                break;
+            case "servidor":
+                new ServidorComandos(new HomeSolution(), puerto).atender();
+                break;
+            case "carga":
+                simularCarga(hilos, operaciones, semilla);
+                break;
+            default:
+                System.err.println("Modo desconocido: " + modo + " (gui, batch, servidor o carga)");
+                System.exit(2);
+        }
+    }
+
+    // Separado de main para que los modos sin pantallas no lleguen a cargar gui ni Swing.
+    private static void iniciarGui() {
         HomeSolution homeSolution=new HomeSolution();
         String titulos[]={"Pintar","Instacion electrica","Trabajos jardineria","Instalar AA"};
         String descripciones[]={"","","",""};
@@ -17,5 +84,38 @@ public class Main {
         homeSolution.registrarEmpleado("Luis",80000, "EXPERTO");
         homeSolution.registrarEmpleado("Julieta",15000);
         PanelManager panelManager=new PanelManager(homeSolution);
+    }
+
+    private static int ejecutarLote(String archivo) throws IOException {
+        InputStream entrada = archivo == null ? System.in : new FileInputStream(archivo);
+        // Las respuestas van a la salida original; los avisos de HomeSolution por consola se descartan
+        // para que la salida del lote se pueda procesar linea por linea.
+        PrintStream salida=System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try (BufferedReader lector = new BufferedReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            return new InterpreteComandos(new HomeSolution(), salida).ejecutarTodo(lector);
+        } finally {
+            System.setOut(salida);
+        }
+    }
+
+    private static void simularCarga(int hilos, int operaciones, long semilla) {
+        GeneradorCarga generador=new GeneradorCarga(semilla, EMPLEADOS_CARGA,
+                Math.max(PROYECTOS_CARGA, operaciones / OPERACIONES_POR_PROYECTO));
+        HomeSolution sistema=new HomeSolution();
+        SimuladorCarga simulador=new SimuladorCarga(sistema, generador);
+        // HomeSolution informa cada operacion por consola; no es parte de lo que se mide.
+        PrintStream salida=System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            SimuladorCarga.Resultado resultado=simulador.ejecutar(hilos, operaciones / hilos);
+            salida.print(resultado);
+            salida.println();
+            salida.print(sistema.metricas());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            System.setOut(salida);
         }
     }
+}
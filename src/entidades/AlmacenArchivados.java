@@ -0,0 +1,231 @@
+package entidades;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Guarda proyectos terminados fuera del heap, en ByteBuffers directos, con el
+ * formato de {@link CodificadorEntidades} (tareas, retrasos e historial incluidos).
+ * Cada consulta reconstruye el proyecto a partir de sus bytes; en el heap solo
+ * quedan el indice por numero y las posiciones.
+ *
+ * Los registros se agregan al final de bloques de TAMANIO_BLOQUE bytes. Un
+ * registro mas grande que un bloque ocupa un buffer propio. Los datos no
+ * sobreviven al proceso: para persistir estan los repositorios en archivo.
+ */
+public class AlmacenArchivados implements MedibleEnMemoria {
+
+	public static final int TAMANIO_BLOQUE = 1 << 20;
+	private static final int CAPACIDAD_INICIAL = 64;
+
+	private final RepositorioEmpleados empleados;
+	private final MapaEnteroEntero entradaPorNumero;
+	private final ByteArrayOutputStream buffer;
+
+	private ByteBuffer[] bloques;
+	private int cantidadBloques;
+	private int[] numeros;
+	private long[] posiciones;
+	private int cantidad;
+	private long bytesUsados;
+
+	/**
+	 * @param empleados para resolver responsables e historiales al leer.
+	 */
+	public AlmacenArchivados(RepositorioEmpleados empleados) {
+		this.empleados = empleados;
+		this.entradaPorNumero = new MapaEnteroEntero();
+		this.buffer = new ByteArrayOutputStream(4096);
+		this.bloques = new ByteBuffer[8];
+		this.numeros = new int[CAPACIDAD_INICIAL];
+		this.posiciones = new long[CAPACIDAD_INICIAL];
+	}
+
+	/**
+	 * Copia el proyecto fuera del heap. El objeto recibido ya puede descartarse.
+	 * @throws IllegalArgumentException si ya hay un proyecto archivado con ese numero.
+	 */
+	public synchronized void archivar(Proyecto proyecto) {
+		int numero = proyecto.getNumeroProyecto();
+		if (entradaPorNumero.containsKey(numero)) {
+			throw new IllegalArgumentException("El proyecto " + numero + " ya esta archivado.");
+		}
+		buffer.reset();
+		try {
+			CodificadorEntidades.escribirProyecto(new DataOutputStream(buffer), proyecto);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo archivar el proyecto " + numero, e);
+		}
+		guardarRegistro(numero, buffer.toByteArray());
+	}
+
+	/**
+	 * Agrega un proyecto ya codificado con {@link CodificadorEntidades}, por
+	 * ejemplo al restaurar un punto de control.
+	 * @throws IllegalArgumentException si ya hay un proyecto archivado con ese numero.
+	 */
+	synchronized void archivarRegistro(int numero, byte[] registro) {
+		if (entradaPorNumero.containsKey(numero)) {
+			throw new IllegalArgumentException("El proyecto " + numero + " ya esta archivado.");
+		}
+		guardarRegistro(numero, registro);
+	}
+
+	private void guardarRegistro(int numero, byte[] registro) {
+		int largo = Integer.BYTES + registro.length;
+
+		ByteBuffer destino = bloqueCon(largo);
+		long posicion = ((long) (cantidadBloques - 1) << 32) | destino.position();
+		destino.putInt(registro.length);
+		destino.put(registro);
+
+		if (cantidad == numeros.length) {
+			numeros = Arrays.copyOf(numeros, cantidad * 2);
+			posiciones = Arrays.copyOf(posiciones, cantidad * 2);
+		}
+		numeros[cantidad] = numero;
+		posiciones[cantidad] = posicion;
+		entradaPorNumero.put(numero, cantidad);
+		cantidad++;
+		bytesUsados += largo;
+	}
+
+	private ByteBuffer bloqueCon(int largo) {
+		ByteBuffer actual = cantidadBloques == 0 ? null : bloques[cantidadBloques - 1];
+		if (actual != null && actual.remaining() >= largo) {
+			return actual;
+		}
+		if (cantidadBloques == bloques.length) {
+			bloques = Arrays.copyOf(bloques, bloques.length * 2);
+		}
+		ByteBuffer nuevo = ByteBuffer.allocateDirect(Math.max(largo, TAMANIO_BLOQUE));
+		bloques[cantidadBloques++] = nuevo;
+		return nuevo;
+	}
+
+	/**
+	 * @return una copia nueva del proyecto archivado, o null si no esta.
+	 */
+	public synchronized Proyecto buscar(int numero) {
+		int entrada = entradaPorNumero.get(numero);
+		if (entrada == MapaEnteroEntero.NO_ENCONTRADO) {
+			return null;
+		}
+		try {
+			return CodificadorEntidades.leerProyecto(leerRegistro(entrada), empleados);
+		} catch (IOException e) {
+			throw new UncheckedIOException("Registro danado del proyecto archivado " + numero, e);
+		}
+	}
+
+	/**
+	 * @return los bytes del proyecto tal como los escribe {@link CodificadorEntidades},
+	 * o null si no esta archivado.
+	 */
+	synchronized byte[] copiarRegistro(int numero) {
+		int entrada = entradaPorNumero.get(numero);
+		if (entrada == MapaEnteroEntero.NO_ENCONTRADO) {
+			return null;
+		}
+		long posicion = posiciones[entrada];
+		ByteBuffer bloque = bloques[(int) (posicion >>> 32)].duplicate();
+		bloque.position((int) posicion);
+		byte[] registro = new byte[bloque.getInt()];
+		bloque.get(registro);
+		return registro;
+	}
+
+	public synchronized boolean contiene(int numero) {
+		return entradaPorNumero.containsKey(numero);
+	}
+
+	/**
+	 * Recorre los proyectos archivados con (numero, direccion) sin reconstruirlos.
+	 */
+	public synchronized void recorrerDirecciones(ConsumidorIntObjeto<String> consumidor) {
+		for (int i = 0; i < cantidad; i++) {
+			try {
+				consumidor.aceptar(numeros[i], CodificadorEntidades.leerDireccion(leerRegistro(i)));
+			} catch (IOException e) {
+				throw new UncheckedIOException("Registro danado del proyecto archivado " + numeros[i], e);
+			}
+		}
+	}
+
+	/**
+	 * Recorre los proyectos archivados reconstruyendo cada uno.
+	 */
+	public synchronized void recorrer(ConsumidorIntObjeto<Proyecto> consumidor) {
+		for (int i = 0; i < cantidad; i++) {
+			consumidor.aceptar(numeros[i], buscar(numeros[i]));
+		}
+	}
+
+	private DataInputStream leerRegistro(int entrada) {
+		long posicion = posiciones[entrada];
+		ByteBuffer bloque = bloques[(int) (posicion >>> 32)].duplicate();
+		bloque.position((int) posicion);
+		int largo = bloque.getInt();
+		bloque.limit(bloque.position() + largo);
+		return new DataInputStream(new EntradaBuffer(bloque));
+	}
+
+	public synchronized int cantidad() {
+		return cantidad;
+	}
+
+	/**
+	 * @return bytes ocupados por los registros, sin contar el espacio libre de los bloques.
+	 */
+	public synchronized long bytesUsados() {
+		return bytesUsados;
+	}
+
+	/**
+	 * @return bytes reservados fuera del heap.
+	 */
+	public synchronized long bytesReservados() {
+		long total = 0;
+		for (int i = 0; i < cantidadBloques; i++) {
+			total += bloques[i].capacity();
+		}
+		return total;
+	}
+
+	@Override
+	public synchronized void medir(ReporteMemoria.Acumulador acumulador) {
+		acumulador.sumar(ReporteMemoria.INDICE_ARCHIVADOS, cantidad, entradaPorNumero.bytesEstimados()
+				+ EstimadorMemoria.arreglo(numeros.length, 4) + EstimadorMemoria.arreglo(posiciones.length, 8)
+				+ EstimadorMemoria.arreglo(bloques.length, EstimadorMemoria.REFERENCIA));
+		acumulador.sumarFueraDelHeap(bytesReservados());
+	}
+
+	private static class EntradaBuffer extends InputStream {
+
+		private final ByteBuffer origen;
+
+		EntradaBuffer(ByteBuffer origen) {
+			this.origen = origen;
+		}
+
+		@Override
+		public int read() {
+			return origen.hasRemaining() ? origen.get() & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] destino, int desde, int largo) {
+			if (!origen.hasRemaining()) {
+				return -1;
+			}
+			int leidos = Math.min(largo, origen.remaining());
+			origen.get(destino, desde, leidos);
+			return leidos;
+		}
+	}
+}
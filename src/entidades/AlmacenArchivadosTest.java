@@ -0,0 +1,79 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AlmacenArchivadosTest {
+    private HomeSolution homeSolution;
+
+    @Before
+    public void setUp() throws Exception {
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 15000);
+        String[] cliente = {"Pedro Gomez", "mail@mail.com", "123456"};
+        homeSolution.registrarProyecto(new String[] {"Larga"}, new String[] {""}, new double[] {10},
+                "San Martin 1000", cliente, "2025-12-01", "2025-12-31");
+        homeSolution.registrarProyecto(new String[] {"Corta"}, new String[] {""}, new double[] {1},
+                "San Martin 2000", cliente, "2025-12-01", "2025-12-31");
+        homeSolution.asignarResponsableEnTarea(5000, "Larga");
+        homeSolution.finalizarTarea(5000, "Larga");
+        homeSolution.finalizarProyecto(5000, "2025-12-20");
+        assertEquals(1, homeSolution.archivarFinalizados());
+    }
+
+    @Test
+    public void testTareaMasLargaIncluyeArchivados() throws Exception {
+        Tupla<String, Double> masLarga = homeSolution.tareaMasLarga();
+        assertEquals("Larga", masLarga.getValor1());
+        assertEquals(10.0, masLarga.getValor2(), 0.001);
+    }
+
+    @Test
+    public void testExportarTareasColumnarIncluyeArchivados() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        homeSolution.exportarTareasColumnar(bytes);
+        ColumnasTareas columnas = ExportadorColumnarTareas.leer(new ByteArrayInputStream(bytes.toByteArray()));
+
+        assertEquals(2, columnas.getCantidad());
+        assertEquals(5001, columnas.getNumerosProyecto()[0]);
+        assertEquals(5000, columnas.getNumerosProyecto()[1]);
+        assertEquals(true, columnas.getTerminadas()[1]);
+    }
+
+    @Test
+    public void testArchivadoNoAdmiteCambios() throws Exception {
+        assertEquals(ResultadoOperacion.PROYECTO_FINALIZADO,
+                homeSolution.intentarAsignarResponsableEnTarea(5000, "Larga"));
+        assertEquals(ResultadoOperacion.PROYECTO_FINALIZADO, homeSolution.intentarFinalizarTarea(5000, "Larga"));
+        try {
+            homeSolution.agregarTareaEnProyecto(5000, "Nueva", "", 2);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("archivado"));
+        }
+        try {
+            homeSolution.registrarRetrasoEnTarea(5000, "Larga", 3);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("archivado"));
+        }
+        assertEquals(1, homeSolution.tareasDeUnProyecto(5000).length);
+        assertEquals(0, homeSolution.consultarCantidadRetrasosEmpleado(1000));
+    }
+
+    @Test
+    public void testBuscarProyectosNoDevuelveArchivados() throws Exception {
+        List<Integer> encontrados = new ArrayList<>();
+        assertEquals(1, homeSolution.buscarProyectos("san martin", 10, (numero, domicilio) -> encontrados.add(numero)));
+        assertEquals(5001, (int) encontrados.get(0));
+    }
+}
@@ -0,0 +1,478 @@
+package entidades;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Guarda las tareas de un proyecto en arreglos paralelos, una fila por tarea,
+ * en lugar de un objeto Tarea por cada una. Pensado para proyectos con decenas
+ * de miles de tareas: los recorridos de costo, retraso y estado leen arreglos
+ * primitivos sin crear objetos.
+ *
+ * El responsable se guarda por legajo y se resuelve contra el repositorio de
+ * empleados. Las tareas se exponen como vistas que se crean a pedido.
+ *
+ * Las operaciones que cambian al responsable (liberarlo, sumarle un retraso)
+ * reciben la instancia de Empleado de quien llama en lugar de buscarla: con un
+ * repositorio en archivo cada busqueda devuelve una copia nueva, y el cambio
+ * tiene que quedar en la instancia que HomeSolution despues persiste.
+ */
+public class AlmacenTareasColumnar {
+
+	private static final int CAPACIDAD_INICIAL = 1024;
+
+	private final RepositorioEmpleados empleados;
+	private final PoolCadenas cadenas;
+	private final HashMap<String, Integer> filaPorTitulo;
+
+	private String[] titulos;
+	private String[] descripciones;
+	private double[] duraciones;
+	private double[] retrasos;
+	private double[] costos;
+	private boolean[] terminadas;
+	private int[] legajos;
+	private HistorialAsignaciones[] historiales;
+	private int cantidad;
+
+	private double duracionTotal;
+	private double retrasoTotal;
+
+	public AlmacenTareasColumnar(RepositorioEmpleados empleados, PoolCadenas cadenas) {
+		this(empleados, cadenas, CAPACIDAD_INICIAL);
+	}
+
+	public AlmacenTareasColumnar(RepositorioEmpleados empleados, PoolCadenas cadenas, int capacidad) {
+		if (empleados == null) {
+			throw new IllegalArgumentException("El repositorio de empleados no puede ser nulo.");
+		}
+		int inicial = Math.max(capacidad, 16);
+		this.empleados = empleados;
+		this.cadenas = cadenas;
+		this.filaPorTitulo = new HashMap<>();
+		this.titulos = new String[inicial];
+		this.descripciones = new String[inicial];
+		this.duraciones = new double[inicial];
+		this.retrasos = new double[inicial];
+		this.costos = new double[inicial];
+		this.terminadas = new boolean[inicial];
+		this.legajos = new int[inicial];
+		this.historiales = new HistorialAsignaciones[inicial];
+		this.cantidad = 0;
+	}
+
+	/**
+	 * Agrega una tarea nueva, sin responsable ni retraso.
+	 * @return la fila asignada.
+	 */
+	public int agregar(String titulo, String descripcion, double duracion) {
+		if (cantidad == titulos.length) {
+			crecer();
+		}
+		int fila = cantidad++;
+		titulos[fila] = internar(titulo);
+		descripciones[fila] = internar(descripcion);
+		duraciones[fila] = duracion;
+		legajos[fila] = ColumnasTareas.SIN_RESPONSABLE;
+		duracionTotal += Math.ceil(duracion);
+		filaPorTitulo.put(titulo, fila);
+		return fila;
+	}
+
+	/**
+	 * Copia el estado completo de una tarea existente a una fila nueva.
+	 */
+	public int agregar(Tarea tarea) {
+		int fila = agregar(tarea.getTitulo(), tarea.getDescripcion(), tarea.getCantDiasDuracion());
+		retrasos[fila] = tarea.getDiasDeRetraso();
+		retrasoTotal += retrasos[fila];
+		costos[fila] = tarea.getCostoTarea();
+		terminadas[fila] = tarea.isTareaTerminada();
+		Empleado responsable = tarea.getResponsable();
+		legajos[fila] = responsable == null ? ColumnasTareas.SIN_RESPONSABLE : responsable.getNumeroLegajo();
+		HistorialAsignaciones historial = tarea.getHistorial();
+		if (historial != HistorialAsignaciones.VACIO) {
+			historiales[fila] = historial;
+		}
+		return fila;
+	}
+
+	private String internar(String texto) {
+		return cadenas == null ? texto : cadenas.internar(texto);
+	}
+
+	private void crecer() {
+		int nueva = titulos.length * 2;
+		titulos = Arrays.copyOf(titulos, nueva);
+		descripciones = Arrays.copyOf(descripciones, nueva);
+		duraciones = Arrays.copyOf(duraciones, nueva);
+		retrasos = Arrays.copyOf(retrasos, nueva);
+		costos = Arrays.copyOf(costos, nueva);
+		terminadas = Arrays.copyOf(terminadas, nueva);
+		legajos = Arrays.copyOf(legajos, nueva);
+		historiales = Arrays.copyOf(historiales, nueva);
+	}
+
+	public int cantidad() {
+		return cantidad;
+	}
+
+	/**
+	 * @return la fila de la ultima tarea agregada con ese titulo, o -1.
+	 */
+	public int buscarFila(String titulo) {
+		Integer fila = filaPorTitulo.get(titulo);
+		return fila == null ? -1 : fila;
+	}
+
+	/**
+	 * @return la primera fila cuyo titulo coincide, o -1.
+	 */
+	public int buscarPrimeraFila(String titulo, boolean ignorarMayusculas) {
+		for (int i = 0; i < cantidad; i++) {
+			if (ignorarMayusculas ? titulos[i].equalsIgnoreCase(titulo) : titulos[i].equals(titulo)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public ITarea vista(int fila) {
+		verificarFila(fila);
+		return new VistaTarea(this, fila);
+	}
+
+	/**
+	 * Pasa cada tarea al consumidor junto con su posicion. Usa una unica vista
+	 * que se mueve de fila en fila: no debe guardarse fuera de la llamada.
+	 */
+	public void recorrer(ConsumidorIntObjeto<ITarea> consumidor) {
+		if (cantidad == 0) {
+			return;
+		}
+		VistaTarea cursor = new VistaTarea(this, 0);
+		for (int i = 0; i < cantidad; i++) {
+			cursor.mover(i);
+			consumidor.aceptar(i, cursor);
+		}
+	}
+
+	/**
+	 * @return una lista de solo lectura que crea las vistas a medida que se piden.
+	 */
+	public List<ITarea> comoLista() {
+		return new AbstractList<ITarea>() {
+			@Override
+			public ITarea get(int index) {
+				return vista(index);
+			}
+
+			@Override
+			public int size() {
+				return cantidad;
+			}
+		};
+	}
+
+	private void verificarFila(int fila) {
+		if (fila < 0 || fila >= cantidad) {
+			throw new IndexOutOfBoundsException("Fila " + fila + " fuera de rango (" + cantidad + " tareas).");
+		}
+	}
+
+	// ----------------------------------------------------------------- recorridos
+
+	public boolean todasTerminadas() {
+		for (int i = 0; i < cantidad; i++) {
+			if (!terminadas[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean hayPendientesSinAsignar() {
+		for (int i = 0; i < cantidad; i++) {
+			if (legajos[i] == ColumnasTareas.SIN_RESPONSABLE && !terminadas[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return la primera fila con la mayor duracion, o -1 si no hay tareas.
+	 */
+	public int filaMasLarga() {
+		int fila = -1;
+		double maxima = 0.0;
+		for (int i = 0; i < cantidad; i++) {
+			if (fila < 0 || duraciones[i] > maxima) {
+				maxima = duraciones[i];
+				fila = i;
+			}
+		}
+		return fila;
+	}
+
+	/**
+	 * @return las filas sin responsable y sin terminar, en orden.
+	 */
+	public int[] filasSinAsignar() {
+		int[] filas = new int[16];
+		int encontradas = 0;
+		for (int i = 0; i < cantidad; i++) {
+			if (legajos[i] == ColumnasTareas.SIN_RESPONSABLE && !terminadas[i]) {
+				if (encontradas == filas.length) {
+					filas = Arrays.copyOf(filas, encontradas * 2);
+				}
+				filas[encontradas++] = i;
+			}
+		}
+		return Arrays.copyOf(filas, encontradas);
+	}
+
+	/**
+	 * @return el legajo del responsable, o el del ultimo que tuvo si ya no tiene;
+	 * {@link ColumnasTareas#SIN_RESPONSABLE} si nunca fue asignada.
+	 */
+	public int ultimoLegajo(int fila) {
+		verificarFila(fila);
+		if (legajos[fila] != ColumnasTareas.SIN_RESPONSABLE) {
+			return legajos[fila];
+		}
+		return historiales[fila] == null ? ColumnasTareas.SIN_RESPONSABLE : historiales[fila].ultimoLegajo();
+	}
+
+	public boolean hayRetrasos() {
+		for (int i = 0; i < cantidad; i++) {
+			if (retrasos[i] > 0.0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public double costoTotal() {
+		double total = 0.0;
+		for (int i = 0; i < cantidad; i++) {
+			total += costos[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Suma el adicional de los empleados de planta que siguen como responsables.
+	 */
+	public double bonificacionPlanta() {
+		double total = 0.0;
+		for (int i = 0; i < cantidad; i++) {
+			if (legajos[i] != ColumnasTareas.SIN_RESPONSABLE) {
+				Empleado e = empleados.buscar(legajos[i]);
+				if (e instanceof EmpleadoPlanta) {
+					total += ((EmpleadoPlanta) e).calcularAdicional(costos[i]);
+				}
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * @return la suma de las duraciones redondeadas hacia arriba.
+	 */
+	public double getDuracionTotal() {
+		return duracionTotal;
+	}
+
+	public double getRetrasoTotal() {
+		return retrasoTotal;
+	}
+
+	void medir(ReporteMemoria.Acumulador acumulador) {
+		int capacidad = titulos.length;
+		long bytes = EstimadorMemoria.objeto(AlmacenTareasColumnar.class)
+				+ 3 * EstimadorMemoria.arreglo(capacidad, EstimadorMemoria.REFERENCIA)
+				+ 3 * EstimadorMemoria.arreglo(capacidad, 8)
+				+ EstimadorMemoria.arreglo(capacidad, 1)
+				+ EstimadorMemoria.arreglo(capacidad, 4)
+				+ EstimadorMemoria.hashMap(filaPorTitulo.size());
+		for (int i = 0; i < cantidad; i++) {
+			bytes += EstimadorMemoria.cadena(titulos[i]) + EstimadorMemoria.cadena(descripciones[i]);
+			if (historiales[i] != null) {
+				acumulador.sumar(ReporteMemoria.HISTORIALES, 1, historiales[i].bytesEstimados());
+			}
+		}
+		acumulador.sumar(ReporteMemoria.TAREAS_COLUMNARES, cantidad, bytes);
+	}
+
+	// ----------------------------------------------------------------- operaciones por fila
+
+	/**
+	 * @param anterior el responsable actual de la fila, o null si no tiene.
+	 * @param numeroProyecto proyecto de la tarea, para las entradas que se archiven.
+	 */
+	public void asignarEmpleado(int fila, Empleado empleado, Empleado anterior, LimiteHistorial limite,
+			int numeroProyecto) {
+		getEstado(fila).verificarTransicion(EstadoTarea.ASIGNADA);
+		if (anterior != null) {
+			anterior.setEstaDisponible(true);
+		}
+		legajos[fila] = empleado.getNumeroLegajo();
+		empleado.setEstaDisponible(false);
+		if (historiales[fila] == null) {
+			historiales[fila] = new HistorialAsignaciones();
+		}
+		historiales[fila].agregar(legajos[fila], System.currentTimeMillis(), limite, numeroProyecto, titulos[fila]);
+	}
+
+	/**
+	 * @param responsable el responsable actual de la fila, o null si no tiene.
+	 */
+	public void registrarRetraso(int fila, double cantidadDias, Empleado responsable) {
+		verificarFila(fila);
+		retrasos[fila] += cantidadDias;
+		retrasoTotal += cantidadDias;
+		if (responsable != null) {
+			responsable.registrarRetraso();
+		}
+	}
+
+	public double calcularCosto(int fila, Empleado responsable) {
+		verificarFila(fila);
+		if (responsable == null) {
+			return 0.0;
+		}
+		double diasACobrar;
+		if (responsable instanceof EmpleadoPlanta && duraciones[fila] == 0.5) {
+			diasACobrar = 1.0;
+		} else {
+			diasACobrar = duraciones[fila];
+		}
+		return diasACobrar * responsable.calcularCostoPorDia();
+	}
+
+	public void desasignarEmpleado(int fila) {
+		if (getLegajo(fila) == ColumnasTareas.SIN_RESPONSABLE) {
+			return;
+		}
+		getEstado(fila).verificarTransicion(EstadoTarea.PENDIENTE);
+		legajos[fila] = ColumnasTareas.SIN_RESPONSABLE;
+	}
+
+	/**
+	 * @param responsable el responsable actual de la fila, o null si no tiene.
+	 */
+	public void establecerTareaFinalizada(int fila, Empleado responsable) {
+		getEstado(fila).verificarTransicion(EstadoTarea.FINALIZADA);
+		terminadas[fila] = true;
+		costos[fila] = calcularCosto(fila, responsable);
+		if (responsable != null) {
+			responsable.setEstaDisponible(true);
+			legajos[fila] = ColumnasTareas.SIN_RESPONSABLE;
+		}
+	}
+
+	// ----------------------------------------------------------------- columnas
+
+	public EstadoTarea getEstado(int fila) {
+		verificarFila(fila);
+		return EstadoTarea.de(terminadas[fila], legajos[fila] != ColumnasTareas.SIN_RESPONSABLE);
+	}
+
+	public String getTitulo(int fila) {
+		verificarFila(fila);
+		return titulos[fila];
+	}
+
+	public void setTitulo(int fila, String titulo) {
+		verificarFila(fila);
+		Integer actual = filaPorTitulo.get(titulos[fila]);
+		if (actual != null && actual == fila) {
+			filaPorTitulo.remove(titulos[fila]);
+		}
+		titulos[fila] = internar(titulo);
+		filaPorTitulo.put(titulo, fila);
+	}
+
+	public String getDescripcion(int fila) {
+		verificarFila(fila);
+		return descripciones[fila];
+	}
+
+	public void setDescripcion(int fila, String descripcion) {
+		verificarFila(fila);
+		descripciones[fila] = internar(descripcion);
+	}
+
+	public double getDuracion(int fila) {
+		verificarFila(fila);
+		return duraciones[fila];
+	}
+
+	public void setDuracion(int fila, double duracion) {
+		verificarFila(fila);
+		duracionTotal += Math.ceil(duracion) - Math.ceil(duraciones[fila]);
+		duraciones[fila] = duracion;
+	}
+
+	public double getRetraso(int fila) {
+		verificarFila(fila);
+		return retrasos[fila];
+	}
+
+	public void setRetraso(int fila, double dias) {
+		verificarFila(fila);
+		retrasoTotal += dias - retrasos[fila];
+		retrasos[fila] = dias;
+	}
+
+	public double getCosto(int fila) {
+		verificarFila(fila);
+		return costos[fila];
+	}
+
+	public void setCosto(int fila, double costo) {
+		verificarFila(fila);
+		costos[fila] = costo;
+	}
+
+	public boolean isTerminada(int fila) {
+		verificarFila(fila);
+		return terminadas[fila];
+	}
+
+	public void setTerminada(int fila, boolean terminada) {
+		verificarFila(fila);
+		terminadas[fila] = terminada;
+	}
+
+	/**
+	 * @return el legajo del responsable, o {@link ColumnasTareas#SIN_RESPONSABLE}.
+	 */
+	public int getLegajo(int fila) {
+		verificarFila(fila);
+		return legajos[fila];
+	}
+
+	/**
+	 * Busca al responsable en el repositorio; con un repositorio en archivo es
+	 * una copia nueva en cada llamada.
+	 */
+	public Empleado getResponsable(int fila) {
+		verificarFila(fila);
+		int legajo = legajos[fila];
+		return legajo == ColumnasTareas.SIN_RESPONSABLE ? null : empleados.buscar(legajo);
+	}
+
+	public void setResponsable(int fila, Empleado responsable) {
+		verificarFila(fila);
+		legajos[fila] = responsable == null ? ColumnasTareas.SIN_RESPONSABLE : responsable.getNumeroLegajo();
+	}
+
+	public HistorialAsignaciones getHistorial(int fila) {
+		verificarFila(fila);
+		HistorialAsignaciones historial = historiales[fila];
+		return historial == null ? HistorialAsignaciones.VACIO : historial;
+	}
+}
@@ -0,0 +1,18 @@
+package entidades;
+import java.util.function.BiConsumer;
+
+/**
+ * Recibe las entradas de historial que una tarea deja de guardar en memoria.
+ */
+@FunctionalInterface
+public interface ArchivoHistorial {
+
+	void archivar(int numeroProyecto, String tituloTarea, int legajo, long instante);
+
+	/**
+	 * Entrega el numero de proyecto y el titulo de cada entrada archivada del
+	 * legajo. Los archivos que no se pueden leer no entregan nada.
+	 */
+	default void recorrerEntradas(int legajo, BiConsumer<Integer, String> accion) {
+	}
+}
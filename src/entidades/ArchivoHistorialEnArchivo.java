@@ -0,0 +1,74 @@
+package entidades;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+
+/**
+ * Agrega las entradas archivadas al final de un archivo: numero de proyecto,
+ * titulo, legajo e instante.
+ */
+public class ArchivoHistorialEnArchivo implements ArchivoHistorial, Closeable {
+
+	private final Path archivo;
+	private final DataOutputStream salida;
+
+	public ArchivoHistorialEnArchivo(Path archivo) throws IOException {
+		this.archivo = archivo;
+		this.salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(archivo,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)));
+	}
+
+	@Override
+	public synchronized void archivar(int numeroProyecto, String tituloTarea, int legajo, long instante) {
+		try {
+			salida.writeInt(numeroProyecto);
+			salida.writeUTF(tituloTarea == null ? "" : tituloTarea);
+			salida.writeInt(legajo);
+			salida.writeLong(instante);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo archivar el historial de " + tituloTarea, e);
+		}
+	}
+
+	/**
+	 * Lee el archivo completo; pensado para consultas ocasionales.
+	 */
+	@Override
+	public synchronized void recorrerEntradas(int legajo, BiConsumer<Integer, String> accion) {
+		try {
+			salida.flush();
+			try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(archivo)))) {
+				while (true) {
+					int numeroProyecto;
+					try {
+						numeroProyecto = entrada.readInt();
+					} catch (EOFException fin) {
+						return;
+					}
+					String titulo = entrada.readUTF();
+					int legajoEntrada = entrada.readInt();
+					entrada.readLong();
+					if (legajoEntrada == legajo) {
+						accion.accept(numeroProyecto, titulo);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el historial archivado de " + archivo, e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		salida.close();
+	}
+}
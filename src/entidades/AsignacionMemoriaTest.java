@@ -0,0 +1,184 @@
+package entidades;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Bytes reservados por llamada en las operaciones que no deberian reservar
+ * memoria. Cada operacion se repite primero para que el JIT la compile y
+ * despues se mide con el contador de bytes reservados del hilo; la prueba
+ * falla si el promedio supera el presupuesto de la operacion.
+ */
+public class AsignacionMemoriaTest {
+    private static final int CALENTAMIENTO = 50_000;
+    private static final int REPETICIONES = 100_000;
+
+    private static final com.sun.management.ThreadMXBean HILOS = hilos();
+
+    private HomeSolution homeSolution;
+    private PrintStream salidaOriginal;
+    private int proyecto;
+    private int finalizado;
+    private int legajo;
+    private int resultado;
+
+    @Before
+    public void setUp() throws Exception {
+        assumeTrue("La JVM no mide la memoria reservada por hilo", HILOS != null);
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        homeSolution = new HomeSolution();
+        String titulos[] = {"Pintar", "Instalacion electrica", "Trabajos jardineria", "Instalar AA"};
+        String descripciones[] = {"", "", "", ""};
+        double duracion[] = {4, 2, 1, .5};
+        String cliente[] = {"Pedro Gomez", "mail@mail.com", "123456"};
+        for (int i = 0; i < 100; i++) {
+            homeSolution.registrarEmpleado("Empleado " + i, 15000);
+            homeSolution.registrarProyecto(titulos, descripciones, duracion, "Calle " + i, cliente, "2025-12-01",
+                    "2025-12-05");
+        }
+        proyecto = 5010;
+        finalizado = 5020;
+        legajo = 1010;
+        homeSolution.asignarResponsableEnTarea(proyecto, "Pintar");
+        homeSolution.registrarRetrasoEnTarea(proyecto, "Pintar", 2);
+        for (String titulo : titulos) {
+            homeSolution.asignarResponsableEnTarea(finalizado, titulo);
+            homeSolution.finalizarTarea(finalizado, titulo);
+        }
+    }
+
+    @After
+    public void tearDown() {
+        if (salidaOriginal != null) {
+            System.setOut(salidaOriginal);
+        }
+    }
+
+    @Test
+    public void testEstaFinalizadoNoReservaMemoria() {
+        verificarPresupuesto("estaFinalizado", 0, () -> resultado += homeSolution.estaFinalizado(finalizado) ? 1 : 0);
+    }
+
+    @Test
+    public void testConsultarCantidadRetrasosEmpleadoNoReservaMemoria() {
+        verificarPresupuesto("consultarCantidadRetrasosEmpleado", 0,
+                () -> resultado += homeSolution.consultarCantidadRetrasosEmpleado(legajo));
+    }
+
+    @Test
+    public void testConsultarDomicilioProyectoNoReservaMemoria() {
+        verificarPresupuesto("consultarDomicilioProyecto", 0,
+                () -> resultado += homeSolution.consultarDomicilioProyecto(proyecto).length());
+    }
+
+    @Test
+    public void testTieneRetrasosNoReservaMemoria() {
+        verificarPresupuesto("tieneRestrasos", 0, () -> resultado += homeSolution.tieneRestrasos(legajo) ? 1 : 0);
+    }
+
+    @Test
+    public void testConsultarNombreEmpleadoNoReservaMemoria() {
+        verificarPresupuesto("consultarNombreEmpleado", 0,
+                () -> resultado += homeSolution.consultarNombreEmpleado(legajo).length());
+    }
+
+    @Test
+    public void testCantidadProyectosNoReservaMemoria() {
+        verificarPresupuesto("cantidadProyectos", 0,
+                () -> resultado += (int) homeSolution.cantidadProyectos(EstadoProyecto.ACTIVO));
+    }
+
+    @Test
+    public void testRecorrerProyectosActivosNoReservaMemoria() {
+        ConsumidorIntObjeto<String> contar = (numero, domicilio) -> resultado++;
+        verificarPresupuesto("recorrerProyectosActivos", 0, () -> homeSolution.recorrerProyectosActivos(contar));
+    }
+
+    @Test
+    public void testAsignarEnProyectoFinalizadoNoReservaMemoria() {
+        verificarPresupuesto("intentarAsignarResponsableEnTarea", 0,
+                () -> resultado += homeSolution.intentarAsignarResponsableEnTarea(finalizado, "Pintar").ordinal());
+    }
+
+    @Test
+    public void testBuscarProyectosReservaPoco() {
+        ConsumidorIntObjeto<String> contar = (numero, domicilio) -> resultado++;
+        // Normalizar la consulta arma un String nuevo.
+        verificarPresupuesto("buscarProyectos", 128, () -> homeSolution.buscarProyectos("Calle 4", 10, contar));
+    }
+
+    @Test
+    public void testTareaMasLargaColumnarReservaPoco() {
+        registrarProyectoColumnar();
+        // La Tupla del resultado y la vista de la tarea ganadora, no una vista por fila.
+        verificarPresupuesto("tareaMasLarga", 128, () -> {
+            try {
+                resultado += homeSolution.tareaMasLarga().getValor1().length();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * Registra un proyecto con tareas en columnas; todas menos T0 duran un dia.
+     */
+    private void registrarProyectoColumnar() {
+        int cantidad = Proyecto.UMBRAL_TAREAS_COLUMNAR;
+        String[] titulos = new String[cantidad];
+        String[] descripciones = new String[cantidad];
+        double[] dias = new double[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            titulos[i] = "T" + i;
+            descripciones[i] = "";
+            dias[i] = i == 0 ? 10 : 1;
+        }
+        homeSolution.registrarProyecto(titulos, descripciones, dias, "San Martin 1000",
+                new String[] {"Pedro Gomez", "mail@mail.com", "123456"}, "2025-12-01", "2025-12-31");
+    }
+
+    /**
+     * Falla si {@code operacion} reserva en promedio mas de {@code presupuesto} bytes por llamada.
+     */
+    private void verificarPresupuesto(String nombre, long presupuesto, Runnable operacion) {
+        for (int i = 0; i < CALENTAMIENTO; i++) {
+            operacion.run();
+        }
+        long base = bytesReservados(() -> { });
+        long total = bytesReservados(operacion);
+        double porLlamada = Math.max(0, total - base) / (double) REPETICIONES;
+        assertTrue(nombre + " reserva " + porLlamada + " bytes por llamada; presupuesto: " + presupuesto,
+                porLlamada <= presupuesto + 0.5);
+    }
+
+    private static long bytesReservados(Runnable operacion) {
+        long hilo = Thread.currentThread().getId();
+        long antes = HILOS.getThreadAllocatedBytes(hilo);
+        for (int i = 0; i < REPETICIONES; i++) {
+            operacion.run();
+        }
+        return HILOS.getThreadAllocatedBytes(hilo) - antes;
+    }
+
+    private static com.sun.management.ThreadMXBean hilos() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!hilos.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        hilos.setThreadAllocatedMemoryEnabled(true);
+        return hilos;
+    }
+}
@@ -0,0 +1,487 @@
+package entidades;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Bitacora de las operaciones que modifican HomeSolution, para poder reproducirlas
+ * sobre el ultimo punto de control.
+ *
+ * Se escribe en segmentos bitacora-NNNNNN.log; cuando el segmento actual supera
+ * tamanioMaximoSegmento se abre uno nuevo. Cada segmento empieza con la secuencia de
+ * su primera operacion, asi se sabe que secuencias cubre sin leerlo entero.
+ *
+ * marcarPuntoDeControl(s) indica que el estado hasta la operacion s ya esta guardado
+ * en un punto de control; descartarSegmentosCubiertos() borra los segmentos que solo
+ * tienen operaciones anteriores a esa marca.
+ */
+public class BitacoraOperaciones implements Closeable {
+
+	public static final long TAMANIO_SEGMENTO_POR_DEFECTO = 4L * 1024 * 1024;
+
+	private static final int MAGIA = 0x48534a4c;
+	private static final String PREFIJO = "bitacora-";
+	private static final String SUFIJO = ".log";
+	private static final String MARCA = "bitacora.marca";
+	private static final int TAMANIO_CABECERA_SEGMENTO = 12;
+	private static final int TAMANIO_CABECERA_REGISTRO = 13;
+
+	private static final byte REGISTRAR_CONTRATADO = 1;
+	private static final byte REGISTRAR_PLANTA = 2;
+	private static final byte REGISTRAR_PROYECTO = 3;
+	private static final byte ASIGNAR = 4;
+	private static final byte ASIGNAR_MENOS_RETRASO = 5;
+	private static final byte REGISTRAR_RETRASO = 6;
+	private static final byte AGREGAR_TAREA = 7;
+	private static final byte FINALIZAR_TAREA = 8;
+	private static final byte FINALIZAR_PROYECTO = 9;
+	private static final byte REASIGNAR = 10;
+	private static final byte REASIGNAR_MENOS_RETRASO = 11;
+
+	private Path directorio;
+	private long tamanioMaximoSegmento;
+	private DataOutputStream salida;
+	private int segmentoActual;
+	private long bytesSegmentoActual;
+	private long ultimaSecuencia;
+	private long marca;
+	private ByteArrayOutputStream registro;
+	private DataOutputStream datos;
+
+	public BitacoraOperaciones(Path directorio) {
+		this(directorio, TAMANIO_SEGMENTO_POR_DEFECTO);
+	}
+
+	public BitacoraOperaciones(Path directorio, long tamanioMaximoSegmento) {
+		if (tamanioMaximoSegmento <= 0) {
+			throw new IllegalArgumentException("El tamaño de segmento debe ser positivo.");
+		}
+		this.directorio = directorio;
+		this.tamanioMaximoSegmento = tamanioMaximoSegmento;
+		this.registro = new ByteArrayOutputStream(256);
+		this.datos = new DataOutputStream(registro);
+		try {
+			Files.createDirectories(directorio);
+			Path archivoMarca = directorio.resolve(MARCA);
+			this.marca = Files.exists(archivoMarca)
+					? Long.parseLong(new String(Files.readAllBytes(archivoMarca), StandardCharsets.UTF_8).trim())
+					: 0;
+			List<Path> segmentos = segmentos();
+			this.ultimaSecuencia = marca;
+			if (!segmentos.isEmpty()) {
+				Path ultimo = segmentos.get(segmentos.size() - 1);
+				this.segmentoActual = numeroSegmento(ultimo);
+				this.ultimaSecuencia = Math.max(marca, leerUltimaSecuencia(ultimo));
+			}
+			// Nunca se agrega a un segmento viejo: si quedo cortado a la mitad, la basura queda al final de ese.
+			abrirSegmentoNuevo();
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo abrir la bitacora en " + directorio, e);
+		}
+	}
+
+	public synchronized long getUltimaSecuencia() {
+		return ultimaSecuencia;
+	}
+
+	public synchronized long getMarca() {
+		return marca;
+	}
+
+	public synchronized void registrarEmpleado(String nombre, double valor) {
+		try {
+			registro.reset();
+			escribirTexto(datos, nombre);
+			datos.writeDouble(valor);
+			terminar(REGISTRAR_CONTRATADO);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	public synchronized void registrarEmpleado(String nombre, double valor, String categoria) {
+		try {
+			registro.reset();
+			escribirTexto(datos, nombre);
+			datos.writeDouble(valor);
+			escribirTexto(datos, categoria);
+			terminar(REGISTRAR_PLANTA);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	public synchronized void registrarProyecto(String[] titulos, String[] descripcion, double[] dias,
+			String domicilio, String[] cliente, String inicio, String fin) {
+		try {
+			registro.reset();
+			escribirTextos(datos, titulos);
+			escribirTextos(datos, descripcion);
+			datos.writeInt(dias.length);
+			for (double d : dias) {
+				datos.writeDouble(d);
+			}
+			escribirTexto(datos, domicilio);
+			escribirTextos(datos, cliente);
+			escribirTexto(datos, inicio);
+			escribirTexto(datos, fin);
+			terminar(REGISTRAR_PROYECTO);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	public void registrarAsignacion(int numero, String titulo) {
+		registrarProyectoYTexto(ASIGNAR, numero, titulo);
+	}
+
+	public void registrarAsignacionMenosRetraso(int numero, String titulo) {
+		registrarProyectoYTexto(ASIGNAR_MENOS_RETRASO, numero, titulo);
+	}
+
+	public synchronized void registrarRetraso(int numero, String titulo, double dias) {
+		try {
+			registro.reset();
+			datos.writeInt(numero);
+			escribirTexto(datos, titulo);
+			datos.writeDouble(dias);
+			terminar(REGISTRAR_RETRASO);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	public synchronized void registrarTareaAgregada(int numero, String titulo, String descripcion, double dias) {
+		try {
+			registro.reset();
+			datos.writeInt(numero);
+			escribirTexto(datos, titulo);
+			escribirTexto(datos, descripcion);
+			datos.writeDouble(dias);
+			terminar(AGREGAR_TAREA);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	public void registrarFinalizacionTarea(int numero, String titulo) {
+		registrarProyectoYTexto(FINALIZAR_TAREA, numero, titulo);
+	}
+
+	public void registrarFinalizacionProyecto(int numero, String fin) {
+		registrarProyectoYTexto(FINALIZAR_PROYECTO, numero, fin);
+	}
+
+	public synchronized void registrarReasignacion(int numero, int legajo, String titulo) {
+		try {
+			registro.reset();
+			datos.writeInt(numero);
+			datos.writeInt(legajo);
+			escribirTexto(datos, titulo);
+			terminar(REASIGNAR);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	public void registrarReasignacionMenosRetraso(int numero, String titulo) {
+		registrarProyectoYTexto(REASIGNAR_MENOS_RETRASO, numero, titulo);
+	}
+
+	private synchronized void registrarProyectoYTexto(byte operacion, int numero, String texto) {
+		try {
+			registro.reset();
+			datos.writeInt(numero);
+			escribirTexto(datos, texto);
+			terminar(operacion);
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	/**
+	 * Escribe el registro armado en el buffer como (secuencia, operacion, largo, datos)
+	 * y rota el segmento si supero el tamaño maximo.
+	 */
+	private void terminar(byte operacion) throws IOException {
+		salida.writeLong(ultimaSecuencia + 1);
+		salida.writeByte(operacion);
+		salida.writeInt(registro.size());
+		registro.writeTo(salida);
+		salida.flush();
+		ultimaSecuencia++;
+		bytesSegmentoActual += TAMANIO_CABECERA_REGISTRO + registro.size();
+		if (bytesSegmentoActual >= tamanioMaximoSegmento) {
+			salida.close();
+			abrirSegmentoNuevo();
+		}
+	}
+
+	/**
+	 * Aplica sobre destino, en orden, todas las operaciones con secuencia mayor a desdeSecuencia.
+	 * @return cantidad de operaciones aplicadas.
+	 */
+	public int reproducir(IHomeSolution destino, long desdeSecuencia) {
+		List<Path> segmentos;
+		synchronized (this) {
+			try {
+				salida.flush();
+				segmentos = segmentos();
+			} catch (IOException e) {
+				throw fallo(e);
+			}
+		}
+		int aplicadas = 0;
+		for (Path segmento : segmentos) {
+			try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(segmento)))) {
+				leerCabecera(entrada, segmento);
+				while (true) {
+					long secuencia;
+					byte operacion;
+					byte[] contenido;
+					try {
+						secuencia = entrada.readLong();
+						operacion = entrada.readByte();
+						contenido = new byte[entrada.readInt()];
+						entrada.readFully(contenido);
+					} catch (EOFException fin) {
+						// Fin del segmento, o un registro que nunca termino de escribirse.
+						break;
+					}
+					if (secuencia > desdeSecuencia) {
+						aplicar(destino, secuencia, operacion,
+								new DataInputStream(new ByteArrayInputStream(contenido)));
+						aplicadas++;
+					}
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("No se pudo leer el segmento " + segmento, e);
+			}
+		}
+		return aplicadas;
+	}
+
+	private static void aplicar(IHomeSolution destino, long secuencia, byte operacion, DataInputStream e)
+			throws IOException {
+		try {
+			switch (operacion) {
+			case REGISTRAR_CONTRATADO:
+				destino.registrarEmpleado(leerTexto(e), e.readDouble());
+				break;
+			case REGISTRAR_PLANTA:
+				destino.registrarEmpleado(leerTexto(e), e.readDouble(), leerTexto(e));
+				break;
+			case REGISTRAR_PROYECTO: {
+				String[] titulos = leerTextos(e);
+				String[] descripcion = leerTextos(e);
+				double[] dias = new double[e.readInt()];
+				for (int i = 0; i < dias.length; i++) {
+					dias[i] = e.readDouble();
+				}
+				destino.registrarProyecto(titulos, descripcion, dias, leerTexto(e), leerTextos(e), leerTexto(e),
+						leerTexto(e));
+				break;
+			}
+			case ASIGNAR:
+				destino.asignarResponsableEnTarea(e.readInt(), leerTexto(e));
+				break;
+			case ASIGNAR_MENOS_RETRASO:
+				destino.asignarResponsableMenosRetraso(e.readInt(), leerTexto(e));
+				break;
+			case REGISTRAR_RETRASO:
+				destino.registrarRetrasoEnTarea(e.readInt(), leerTexto(e), e.readDouble());
+				break;
+			case AGREGAR_TAREA:
+				destino.agregarTareaEnProyecto(e.readInt(), leerTexto(e), leerTexto(e), e.readDouble());
+				break;
+			case FINALIZAR_TAREA:
+				destino.finalizarTarea(e.readInt(), leerTexto(e));
+				break;
+			case FINALIZAR_PROYECTO:
+				destino.finalizarProyecto(e.readInt(), leerTexto(e));
+				break;
+			case REASIGNAR:
+				destino.reasignarEmpleadoEnProyecto(e.readInt(), e.readInt(), leerTexto(e));
+				break;
+			case REASIGNAR_MENOS_RETRASO:
+				destino.reasignarEmpleadoConMenosRetraso(e.readInt(), leerTexto(e));
+				break;
+			default:
+				throw new IOException("Operacion desconocida en la bitacora: " + operacion);
+			}
+		} catch (IOException ex) {
+			throw ex;
+		} catch (Exception ex) {
+			throw new IllegalStateException("No se pudo reproducir la operacion " + secuencia + " de la bitacora.", ex);
+		}
+	}
+
+	/**
+	 * Indica que el estado hasta la operacion secuencia ya esta en un punto de control.
+	 */
+	public synchronized void marcarPuntoDeControl(long secuencia) {
+		if (secuencia <= marca) {
+			return;
+		}
+		try {
+			Path temporal = directorio.resolve(MARCA + ".tmp");
+			Files.write(temporal, Long.toString(secuencia).getBytes(StandardCharsets.UTF_8));
+			Files.move(temporal, directorio.resolve(MARCA), StandardCopyOption.REPLACE_EXISTING,
+					StandardCopyOption.ATOMIC_MOVE);
+			this.marca = secuencia;
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	/**
+	 * Borra los segmentos cerrados cuyas operaciones ya estan todas cubiertas por la marca.
+	 * @return cantidad de segmentos borrados.
+	 */
+	public synchronized int descartarSegmentosCubiertos() {
+		try {
+			List<Path> segmentos = segmentos();
+			int borrados = 0;
+			// El ultimo segmento es el que se esta escribiendo y nunca se borra.
+			for (int i = 0; i < segmentos.size() - 1; i++) {
+				long ultimaDelSegmento = leerPrimeraSecuencia(segmentos.get(i + 1)) - 1;
+				if (ultimaDelSegmento > marca) {
+					break;
+				}
+				Files.delete(segmentos.get(i));
+				borrados++;
+			}
+			return borrados;
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	/**
+	 * @return cantidad de segmentos en disco, incluido el actual.
+	 */
+	public synchronized int cantidadSegmentos() {
+		try {
+			return segmentos().size();
+		} catch (IOException e) {
+			throw fallo(e);
+		}
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		salida.close();
+	}
+
+	private void abrirSegmentoNuevo() throws IOException {
+		segmentoActual++;
+		Path archivo = directorio.resolve(String.format("%s%06d%s", PREFIJO, segmentoActual, SUFIJO));
+		salida = new DataOutputStream(new BufferedOutputStream(
+				Files.newOutputStream(archivo, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)));
+		salida.writeInt(MAGIA);
+		salida.writeLong(ultimaSecuencia + 1);
+		salida.flush();
+		bytesSegmentoActual = TAMANIO_CABECERA_SEGMENTO;
+	}
+
+	private List<Path> segmentos() throws IOException {
+		List<Path> segmentos = new ArrayList<>();
+		try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, PREFIJO + "*" + SUFIJO)) {
+			for (Path p : archivos) {
+				segmentos.add(p);
+			}
+		}
+		Collections.sort(segmentos);
+		return segmentos;
+	}
+
+	private static int numeroSegmento(Path segmento) {
+		String nombre = segmento.getFileName().toString();
+		return Integer.parseInt(nombre.substring(PREFIJO.length(), nombre.length() - SUFIJO.length()));
+	}
+
+	private static long leerCabecera(DataInputStream entrada, Path segmento) throws IOException {
+		if (entrada.readInt() != MAGIA) {
+			throw new IOException("El archivo " + segmento + " no es un segmento de bitacora.");
+		}
+		return entrada.readLong();
+	}
+
+	private static long leerPrimeraSecuencia(Path segmento) throws IOException {
+		try (DataInputStream entrada = new DataInputStream(Files.newInputStream(segmento))) {
+			return leerCabecera(entrada, segmento);
+		}
+	}
+
+	private static long leerUltimaSecuencia(Path segmento) throws IOException {
+		try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(segmento)))) {
+			long ultima = leerCabecera(entrada, segmento) - 1;
+			try {
+				while (true) {
+					long secuencia = entrada.readLong();
+					entrada.readByte();
+					int largo = entrada.readInt();
+					if (entrada.skipBytes(largo) < largo) {
+						break;
+					}
+					ultima = secuencia;
+				}
+			} catch (EOFException fin) {
+				// Fin del segmento.
+			}
+			return ultima;
+		}
+	}
+
+	private static void escribirTexto(DataOutputStream s, String texto) throws IOException {
+		s.writeBoolean(texto != null);
+		if (texto != null) {
+			s.writeUTF(texto);
+		}
+	}
+
+	private static String leerTexto(DataInputStream e) throws IOException {
+		return e.readBoolean() ? e.readUTF() : null;
+	}
+
+	private static void escribirTextos(DataOutputStream s, String[] textos) throws IOException {
+		s.writeInt(textos == null ? -1 : textos.length);
+		if (textos != null) {
+			for (String t : textos) {
+				escribirTexto(s, t);
+			}
+		}
+	}
+
+	private static String[] leerTextos(DataInputStream e) throws IOException {
+		int cantidad = e.readInt();
+		if (cantidad < 0) {
+			return null;
+		}
+		String[] textos = new String[cantidad];
+		for (int i = 0; i < cantidad; i++) {
+			textos[i] = leerTexto(e);
+		}
+		return textos;
+	}
+
+	private static UncheckedIOException fallo(IOException e) {
+		return new UncheckedIOException("Error de escritura en la bitacora", e);
+	}
+}
@@ -0,0 +1,130 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BitacoraOperacionesTest {
+    private Path directorio;
+    private BitacoraOperaciones bitacora;
+
+    @Before
+    public void setUp() throws IOException {
+        directorio = Files.createTempDirectory("bitacora");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        if (bitacora != null) {
+            bitacora.close();
+        }
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private void registrarProyecto(BitacoraOperaciones b) {
+        b.registrarProyecto(new String[] {"T0"}, new String[] {""}, new double[] {1}, "Calle 0",
+                new String[] {"Pedro Gomez", "mail@mail.com", "123456"}, "2025-12-01", "2025-12-31");
+    }
+
+    @Test
+    public void testRotaElSegmentoAlLlegarAlTamanioMaximo() {
+        // Cabecera de 12 bytes y registros de 22: el tercero pasa los 64.
+        bitacora = new BitacoraOperaciones(directorio, 64);
+        assertEquals(1, bitacora.cantidadSegmentos());
+        bitacora.registrarAsignacion(5000, "T0");
+        bitacora.registrarAsignacion(5000, "T0");
+        assertEquals(1, bitacora.cantidadSegmentos());
+        bitacora.registrarAsignacion(5000, "T0");
+        assertEquals(2, bitacora.cantidadSegmentos());
+        assertEquals(3, bitacora.getUltimaSecuencia());
+    }
+
+    @Test
+    public void testReproducirDesdeLaMarcaDespuesDeReabrir() throws IOException {
+        bitacora = new BitacoraOperaciones(directorio);
+        bitacora.registrarEmpleado("Juan", 15000);
+        bitacora.registrarEmpleado("Luis", 15000);
+        bitacora.marcarPuntoDeControl(2);
+        registrarProyecto(bitacora);
+        bitacora.registrarAsignacion(5000, "T0");
+        bitacora.close();
+
+        bitacora = new BitacoraOperaciones(directorio);
+        assertEquals(2, bitacora.getMarca());
+        assertEquals(4, bitacora.getUltimaSecuencia());
+
+        // El punto de control ya tiene a los empleados; solo falta lo posterior a la marca.
+        HomeSolution destino = new HomeSolution();
+        destino.registrarEmpleado("Juan", 15000);
+        destino.registrarEmpleado("Luis", 15000);
+        assertEquals(2, bitacora.reproducir(destino, bitacora.getMarca()));
+        assertEquals("Calle 0", destino.consultarDomicilioProyecto(5000));
+        assertEquals(1, destino.empleadosNoAsignados().length);
+
+        bitacora.registrarFinalizacionTarea(5000, "T0");
+        assertEquals(5, bitacora.getUltimaSecuencia());
+    }
+
+    @Test
+    public void testDescartaSoloLosSegmentosCubiertosPorLaMarca() {
+        // Con tamaño 1 cada operacion queda sola en su segmento.
+        bitacora = new BitacoraOperaciones(directorio, 1);
+        bitacora.registrarEmpleado("Juan", 15000);
+        bitacora.registrarEmpleado("Luis", 15000);
+        registrarProyecto(bitacora);
+        bitacora.registrarAsignacion(5000, "T0");
+        assertEquals(5, bitacora.cantidadSegmentos());
+
+        assertEquals(0, bitacora.descartarSegmentosCubiertos());
+        bitacora.marcarPuntoDeControl(2);
+        assertEquals(2, bitacora.descartarSegmentosCubiertos());
+        assertEquals(3, bitacora.cantidadSegmentos());
+
+        HomeSolution destino = new HomeSolution();
+        destino.registrarEmpleado("Juan", 15000);
+        destino.registrarEmpleado("Luis", 15000);
+        assertEquals(2, bitacora.reproducir(destino, 0));
+
+        // El segmento actual no se borra aunque la marca lo cubra.
+        bitacora.marcarPuntoDeControl(4);
+        assertEquals(2, bitacora.descartarSegmentosCubiertos());
+        assertEquals(1, bitacora.cantidadSegmentos());
+    }
+
+    @Test
+    public void testErrorAlCompactarNoCancelaLasSiguientes() throws Exception {
+        AtomicInteger llamadas = new AtomicInteger();
+        CountDownLatch tresLlamadas = new CountDownLatch(3);
+        bitacora = new BitacoraOperaciones(directorio) {
+            @Override
+            public synchronized int descartarSegmentosCubiertos() {
+                tresLlamadas.countDown();
+                if (llamadas.incrementAndGet() == 1) {
+                    throw new IllegalStateException("falla de prueba");
+                }
+                return super.descartarSegmentosCubiertos();
+            }
+        };
+        CompactadorBitacora compactador = new CompactadorBitacora(bitacora, null);
+        try {
+            compactador.iniciar(10, TimeUnit.MILLISECONDS);
+            assertTrue("El compactador dejo de ejecutarse", tresLlamadas.await(5, TimeUnit.SECONDS));
+        } finally {
+            compactador.close();
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package entidades;
+import java.util.Arrays;
 
 public class Cliente {
 
 	private String nombre;
 	private String telefono;
 	private String email;
+	private int[] numerosProyecto;
+	private int cantidadProyectos;
 	
 	
 	
@@ -12,6 +15,32 @@ public class Cliente {
 		this.nombre = nombre;
 		this.telefono = telefono;
 		this.email = email;
+		this.numerosProyecto = new int[1];
+		this.cantidadProyectos = 0;
+	}
+
+	public void agregarProyecto(int numeroProyecto) {
+		if (cantidadProyectos == numerosProyecto.length) {
+			numerosProyecto = Arrays.copyOf(numerosProyecto, cantidadProyectos * 2);
+		}
+		numerosProyecto[cantidadProyectos++] = numeroProyecto;
+	}
+
+	/**
+	 * @return los numeros de los proyectos del cliente, en orden de registro.
+	 */
+	public int[] getNumerosProyecto() {
+		return Arrays.copyOf(numerosProyecto, cantidadProyectos);
+	}
+
+	public int getCantidadProyectos() {
+		return cantidadProyectos;
+	}
+
+	long bytesEstimados() {
+		return EstimadorMemoria.objeto(Cliente.class) + EstimadorMemoria.cadena(nombre)
+				+ EstimadorMemoria.cadena(telefono) + EstimadorMemoria.cadena(email)
+				+ (numerosProyecto == null ? 0 : EstimadorMemoria.arreglo(numerosProyecto.length, 4));
 	}
 	public String getNombre() {
 		return nombre;
@@ -0,0 +1,177 @@
+package entidades;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Formato binario de empleados y proyectos, compartido por todo lo que
+ * necesita guardar entidades fuera del heap (archivos, checkpoints, etc.).
+ * Los empleados se referencian por legajo, nunca por copia.
+ */
+public class CodificadorEntidades {
+
+	private static final byte TIPO_CONTRATADO = 1;
+	private static final byte TIPO_PLANTA = 2;
+	private static final int SIN_RESPONSABLE = -1;
+
+	private CodificadorEntidades() {
+	}
+
+	public static void escribirEmpleado(DataOutput salida, Empleado empleado) throws IOException {
+		salida.writeInt(empleado.getNumeroLegajo());
+		if (empleado instanceof EmpleadoPlanta) {
+			EmpleadoPlanta ep = (EmpleadoPlanta) empleado;
+			salida.writeByte(TIPO_PLANTA);
+			salida.writeDouble(ep.getValorDia());
+			escribirTexto(salida, ep.getCategoria());
+		} else if (empleado instanceof EmpleadoContratado) {
+			salida.writeByte(TIPO_CONTRATADO);
+			salida.writeDouble(((EmpleadoContratado) empleado).getValorHora());
+		} else {
+			throw new IllegalArgumentException("Tipo de empleado desconocido: " + empleado.getClass().getName());
+		}
+		escribirTexto(salida, empleado.getNombre());
+		salida.writeBoolean(empleado.isEstaDisponible());
+		salida.writeInt(empleado.getCantRetrasos());
+	}
+
+	public static Empleado leerEmpleado(DataInput entrada) throws IOException {
+		int legajo = entrada.readInt();
+		byte tipo = entrada.readByte();
+		double valor = entrada.readDouble();
+		String categoria = tipo == TIPO_PLANTA ? leerTexto(entrada) : null;
+		String nombre = leerTexto(entrada);
+
+		Empleado empleado;
+		if (tipo == TIPO_PLANTA) {
+			empleado = new EmpleadoPlanta(nombre, legajo, valor, categoria);
+		} else if (tipo == TIPO_CONTRATADO) {
+			empleado = new EmpleadoContratado(nombre, legajo, valor);
+		} else {
+			throw new IOException("Tipo de empleado desconocido en el registro: " + tipo);
+		}
+		empleado.setEstaDisponible(entrada.readBoolean());
+		empleado.setCantRetrasos(entrada.readInt());
+		return empleado;
+	}
+
+	public static void escribirProyecto(DataOutput salida, Proyecto proyecto) throws IOException {
+		salida.writeInt(proyecto.getNumeroProyecto());
+		Cliente cliente = proyecto.getCliente();
+		escribirTexto(salida, cliente.getNombre());
+		escribirTexto(salida, cliente.getTelefono());
+		escribirTexto(salida, cliente.getEmail());
+		escribirTexto(salida, proyecto.getDireccionVivienda());
+		salida.writeLong(proyecto.getFechaInicio().toEpochDay());
+		salida.writeLong(proyecto.getFechaFinEstimada().toEpochDay());
+		salida.writeLong(proyecto.getFechaFinReal().toEpochDay());
+		salida.writeUTF(proyecto.getEstado().name());
+		salida.writeDouble(proyecto.getCostoFinal());
+
+		salida.writeInt(proyecto.cantidadTareas());
+		AlmacenTareasColumnar almacen = proyecto.getAlmacenColumnar();
+		if (almacen != null) {
+			// Se leen las columnas fila por fila, sin crear una vista por tarea.
+			for (int fila = 0; fila < almacen.cantidad(); fila++) {
+				escribirTarea(salida, almacen.getTitulo(fila), almacen.getDescripcion(fila),
+						almacen.getDuracion(fila), almacen.getRetraso(fila), almacen.isTerminada(fila),
+						almacen.getCosto(fila), almacen.getLegajo(fila), almacen.getHistorial(fila));
+			}
+		} else {
+			for (ITarea t : proyecto.getListaTareas()) {
+				Empleado responsable = t.getResponsable();
+				escribirTarea(salida, t.getTitulo(), t.getDescripcion(), t.getCantDiasDuracion(),
+						t.getDiasDeRetraso(), t.isTareaTerminada(), t.getCostoTarea(),
+						responsable == null ? SIN_RESPONSABLE : responsable.getNumeroLegajo(), t.getHistorial());
+			}
+		}
+	}
+
+	public static Proyecto leerProyecto(DataInput entrada, RepositorioEmpleados empleados) throws IOException {
+		int numero = entrada.readInt();
+		Cliente cliente = new Cliente(leerTexto(entrada), leerTexto(entrada), leerTexto(entrada));
+		String direccion = leerTexto(entrada);
+		LocalDate inicio = LocalDate.ofEpochDay(entrada.readLong());
+		LocalDate finEstimada = LocalDate.ofEpochDay(entrada.readLong());
+		LocalDate finReal = LocalDate.ofEpochDay(entrada.readLong());
+		EstadoProyecto estado = EstadoProyecto.valueOf(entrada.readUTF());
+		double costoFinal = entrada.readDouble();
+
+		int cantTareas = entrada.readInt();
+		AlmacenTareasColumnar almacen = cantTareas >= Proyecto.UMBRAL_TAREAS_COLUMNAR
+				? new AlmacenTareasColumnar(empleados, null, cantTareas)
+				: null;
+		Proyecto proyecto = new Proyecto(numero, cliente, direccion, inicio, almacen);
+		for (int i = 0; i < cantTareas; i++) {
+			proyecto.agregarTarea(leerTarea(entrada, empleados));
+		}
+		proyecto.restaurar(estado, finEstimada, finReal, costoFinal);
+		return proyecto;
+	}
+
+	/**
+	 * Lee solo el comienzo de un registro de proyecto y devuelve su direccion,
+	 * sin reconstruir el cliente ni las tareas.
+	 */
+	public static String leerDireccion(DataInput entrada) throws IOException {
+		entrada.readInt();
+		leerTexto(entrada);
+		leerTexto(entrada);
+		leerTexto(entrada);
+		return leerTexto(entrada);
+	}
+
+	private static void escribirTarea(DataOutput salida, String titulo, String descripcion, double duracion,
+			double retraso, boolean terminada, double costo, int legajo, HistorialAsignaciones historial)
+			throws IOException {
+		escribirTexto(salida, titulo);
+		escribirTexto(salida, descripcion);
+		salida.writeDouble(duracion);
+		salida.writeDouble(retraso);
+		salida.writeBoolean(terminada);
+		salida.writeDouble(costo);
+		salida.writeInt(legajo);
+
+		salida.writeInt(historial.getArchivadas());
+		salida.writeInt(historial.cantidad());
+		for (int i = 0; i < historial.cantidad(); i++) {
+			salida.writeInt(historial.getLegajo(i));
+			salida.writeLong(historial.getInstante(i));
+		}
+	}
+
+	private static Tarea leerTarea(DataInput entrada, RepositorioEmpleados empleados) throws IOException {
+		Tarea tarea = new Tarea(leerTexto(entrada), leerTexto(entrada), entrada.readDouble());
+		tarea.setDiasDeRetraso(entrada.readDouble());
+		tarea.setTareaTerminada(entrada.readBoolean());
+		tarea.setCostoTarea(entrada.readDouble());
+		int legajoResponsable = entrada.readInt();
+		if (legajoResponsable != SIN_RESPONSABLE) {
+			tarea.setResponsable(empleados.buscar(legajoResponsable));
+		}
+
+		int archivadas = entrada.readInt();
+		int cantHistorial = entrada.readInt();
+		int[] legajos = new int[cantHistorial];
+		long[] instantes = new long[cantHistorial];
+		for (int i = 0; i < cantHistorial; i++) {
+			legajos[i] = entrada.readInt();
+			instantes[i] = entrada.readLong();
+		}
+		tarea.setHistorial(HistorialAsignaciones.restaurar(legajos, instantes, archivadas));
+		return tarea;
+	}
+
+	private static void escribirTexto(DataOutput salida, String texto) throws IOException {
+		salida.writeBoolean(texto != null);
+		if (texto != null) {
+			salida.writeUTF(texto);
+		}
+	}
+
+	private static String leerTexto(DataInput entrada) throws IOException {
+		return entrada.readBoolean() ? entrada.readUTF() : null;
+	}
+}
@@ -0,0 +1,79 @@
+package entidades;
+
+/**
+ * Tareas leidas desde un export columnar: una columna por atributo, en arreglos primitivos.
+ * La fila i de todas las columnas corresponde a la misma tarea.
+ * Los titulos vienen codificados con diccionario: titulo(i) = diccionarioTitulos[codigosTitulo[i]].
+ */
+public class ColumnasTareas {
+
+	public static final int SIN_RESPONSABLE = -1;
+
+	private int cantidad;
+	private int[] numerosProyecto;
+	private int[] legajos;
+	private double[] duraciones;
+	private double[] diasDeRetraso;
+	private double[] costos;
+	private boolean[] terminadas;
+	private int[] codigosTitulo;
+	private String[] diccionarioTitulos;
+
+	public ColumnasTareas(int cantidad, int[] numerosProyecto, int[] legajos, double[] duraciones,
+			double[] diasDeRetraso, double[] costos, boolean[] terminadas, int[] codigosTitulo,
+			String[] diccionarioTitulos) {
+		this.cantidad = cantidad;
+		this.numerosProyecto = numerosProyecto;
+		this.legajos = legajos;
+		this.duraciones = duraciones;
+		this.diasDeRetraso = diasDeRetraso;
+		this.costos = costos;
+		this.terminadas = terminadas;
+		this.codigosTitulo = codigosTitulo;
+		this.diccionarioTitulos = diccionarioTitulos;
+	}
+
+	public int getCantidad() {
+		return cantidad;
+	}
+
+	public int[] getNumerosProyecto() {
+		return numerosProyecto;
+	}
+
+	/**
+	 * @return legajo del responsable (o del ultimo responsable si la tarea ya termino),
+	 * SIN_RESPONSABLE si nunca tuvo uno.
+	 */
+	public int[] getLegajos() {
+		return legajos;
+	}
+
+	public double[] getDuraciones() {
+		return duraciones;
+	}
+
+	public double[] getDiasDeRetraso() {
+		return diasDeRetraso;
+	}
+
+	public double[] getCostos() {
+		return costos;
+	}
+
+	public boolean[] getTerminadas() {
+		return terminadas;
+	}
+
+	public int[] getCodigosTitulo() {
+		return codigosTitulo;
+	}
+
+	public String[] getDiccionarioTitulos() {
+		return diccionarioTitulos;
+	}
+
+	public String getTitulo(int fila) {
+		return diccionarioTitulos[codigosTitulo[fila]];
+	}
+}
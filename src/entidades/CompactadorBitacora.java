@@ -0,0 +1,68 @@
+package entidades;
+import java.io.Closeable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tarea de fondo que mantiene acotados la bitacora y los puntos de control:
+ * cada cierto periodo junta los deltas en la base y borra los segmentos de
+ * bitacora que ya quedaron cubiertos por el ultimo punto de control.
+ */
+public class CompactadorBitacora implements Closeable {
+
+	private BitacoraOperaciones bitacora;
+	private GestorPuntosDeControl puntosDeControl;
+	private ScheduledExecutorService ejecutor;
+
+	public CompactadorBitacora(BitacoraOperaciones bitacora, GestorPuntosDeControl puntosDeControl) {
+		this.bitacora = bitacora;
+		this.puntosDeControl = puntosDeControl;
+	}
+
+	/**
+	 * Empieza a compactar cada periodoSegundos en un hilo daemon.
+	 */
+	public synchronized void iniciar(long periodoSegundos) {
+		iniciar(periodoSegundos, TimeUnit.SECONDS);
+	}
+
+	synchronized void iniciar(long periodo, TimeUnit unidad) {
+		if (ejecutor != null) {
+			throw new IllegalStateException("El compactador ya fue iniciado.");
+		}
+		ejecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread hilo = new Thread(r, "compactador-bitacora");
+			hilo.setDaemon(true);
+			return hilo;
+		});
+		ejecutor.scheduleWithFixedDelay(this::compactarSinFallar, periodo, periodo, unidad);
+	}
+
+	/**
+	 * @return cantidad de segmentos de bitacora borrados.
+	 */
+	public int compactarAhora() {
+		if (puntosDeControl != null) {
+			puntosDeControl.compactar();
+		}
+		return bitacora.descartarSegmentosCubiertos();
+	}
+
+	private void compactarSinFallar() {
+		try {
+			compactarAhora();
+		} catch (RuntimeException e) {
+			// Un error no debe cancelar las proximas ejecuciones; se reintenta en el siguiente periodo.
+			System.err.println("Error al compactar la bitacora: " + e.getMessage());
+		}
+	}
+
+	@Override
+	public synchronized void close() {
+		if (ejecutor != null) {
+			ejecutor.shutdown();
+			ejecutor = null;
+		}
+	}
+}
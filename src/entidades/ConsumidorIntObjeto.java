@@ -0,0 +1,11 @@
+package entidades;
+
+/**
+ * Recibe una fila de un recorrido: una clave entera (numero, legajo o
+ * posicion) y un valor, sin empaquetar la clave en un Integer.
+ */
+@FunctionalInterface
+public interface ConsumidorIntObjeto<T> {
+
+	void aceptar(int clave, T valor);
+}
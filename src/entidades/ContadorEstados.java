@@ -0,0 +1,51 @@
+package entidades;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cantidad de elementos en cada estado, actualizada en cada transicion.
+ */
+public class ContadorEstados<E extends Enum<E>> {
+
+	private final Class<E> tipo;
+	private final EnumMap<E, AtomicLong> cantidades;
+
+	public ContadorEstados(Class<E> tipo) {
+		this.tipo = tipo;
+		this.cantidades = new EnumMap<>(tipo);
+		for (E estado : tipo.getEnumConstants()) {
+			cantidades.put(estado, new AtomicLong());
+		}
+	}
+
+	public void sumar(E estado) {
+		cantidades.get(estado).incrementAndGet();
+	}
+
+	public void sumar(E estado, long cantidad) {
+		cantidades.get(estado).addAndGet(cantidad);
+	}
+
+	public void mover(E desde, E hacia) {
+		if (desde != hacia) {
+			cantidades.get(desde).decrementAndGet();
+			cantidades.get(hacia).incrementAndGet();
+		}
+	}
+
+	public long get(E estado) {
+		return cantidades.get(estado).get();
+	}
+
+	/**
+	 * @return una copia de las cantidades actuales.
+	 */
+	public Map<E, Long> instantanea() {
+		EnumMap<E, Long> copia = new EnumMap<>(tipo);
+		for (Map.Entry<E, AtomicLong> e : cantidades.entrySet()) {
+			copia.put(e.getKey(), e.getValue().get());
+		}
+		return copia;
+	}
+}
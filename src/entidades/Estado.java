@@ -1,5 +1,9 @@
 package entidades;
 
+/**
+ * Nombres de los estados de proyecto para mostrar en pantalla.
+ * Coinciden con {@link EstadoProyecto#name()}.
+ */
 public class Estado {
     public static final String activo="ACTIVO";
     public static final String pendiente="PENDIENTE";
@@ -0,0 +1,32 @@
+package entidades;
+import java.util.EnumMap;
+import java.util.EnumSet;
+
+/**
+ * Ciclo de vida de un proyecto. Los nombres coinciden con las constantes de {@link Estado}.
+ */
+public enum EstadoProyecto {
+	PENDIENTE, ACTIVO, FINALIZADO;
+
+	private static final EnumMap<EstadoProyecto, EnumSet<EstadoProyecto>> TRANSICIONES =
+			new EnumMap<>(EstadoProyecto.class);
+
+	static {
+		TRANSICIONES.put(PENDIENTE, EnumSet.of(ACTIVO, FINALIZADO));
+		TRANSICIONES.put(ACTIVO, EnumSet.of(FINALIZADO));
+		TRANSICIONES.put(FINALIZADO, EnumSet.noneOf(EstadoProyecto.class));
+	}
+
+	public boolean puedePasarA(EstadoProyecto destino) {
+		return TRANSICIONES.get(this).contains(destino);
+	}
+
+	/**
+	 * @throws IllegalStateException si la transicion no esta permitida.
+	 */
+	public void verificarTransicion(EstadoProyecto destino) {
+		if (!puedePasarA(destino)) {
+			throw new IllegalStateException("Un proyecto " + this + " no puede pasar a " + destino + ".");
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package entidades;
+import java.util.EnumMap;
+import java.util.EnumSet;
+
+/**
+ * Ciclo de vida de una tarea. Se deriva de si tiene responsable y de si esta terminada.
+ */
+public enum EstadoTarea {
+	PENDIENTE, ASIGNADA, FINALIZADA;
+
+	private static final EnumMap<EstadoTarea, EnumSet<EstadoTarea>> TRANSICIONES =
+			new EnumMap<>(EstadoTarea.class);
+
+	static {
+		TRANSICIONES.put(PENDIENTE, EnumSet.of(ASIGNADA, FINALIZADA));
+		// Reasignar deja la tarea en ASIGNADA; desasignar la vuelve a PENDIENTE.
+		TRANSICIONES.put(ASIGNADA, EnumSet.of(ASIGNADA, PENDIENTE, FINALIZADA));
+		TRANSICIONES.put(FINALIZADA, EnumSet.noneOf(EstadoTarea.class));
+	}
+
+	static EstadoTarea de(boolean terminada, boolean tieneResponsable) {
+		if (terminada) {
+			return FINALIZADA;
+		}
+		return tieneResponsable ? ASIGNADA : PENDIENTE;
+	}
+
+	public boolean puedePasarA(EstadoTarea destino) {
+		return TRANSICIONES.get(this).contains(destino);
+	}
+
+	/**
+	 * @throws IllegalStateException si la transicion no esta permitida.
+	 */
+	public void verificarTransicion(EstadoTarea destino) {
+		if (!puedePasarA(destino)) {
+			throw new IllegalStateException("Una tarea " + this + " no puede pasar a " + destino + ".");
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package entidades;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+
+/**
+ * Tamanios aproximados de objetos en el heap, para {@link ReporteMemoria}.
+ * Supone una JVM de 64 bits con referencias comprimidas (encabezado de 12
+ * bytes, referencias de 4, alineacion a 8) y Strings en Latin-1.
+ */
+final class EstimadorMemoria {
+
+	static final int REFERENCIA = 4;
+	private static final int ENCABEZADO = 12;
+	private static final int ENCABEZADO_ARREGLO = 16;
+	private static final int ENTRADA_HASHMAP = 32;
+
+	private static final ClassValue<Long> TAMANIOS = new ClassValue<Long>() {
+		@Override
+		protected Long computeValue(Class<?> tipo) {
+			long campos = 0;
+			for (Class<?> c = tipo; c != null && c != Object.class; c = c.getSuperclass()) {
+				for (Field f : c.getDeclaredFields()) {
+					if (!Modifier.isStatic(f.getModifiers())) {
+						campos += tamanioCampo(f.getType());
+					}
+				}
+			}
+			return alinear(ENCABEZADO + campos);
+		}
+	};
+
+	private EstimadorMemoria() {
+	}
+
+	/**
+	 * @return tamanio superficial de una instancia, sin contar lo que referencia.
+	 */
+	static long objeto(Class<?> tipo) {
+		return TAMANIOS.get(tipo);
+	}
+
+	static long cadena(String texto) {
+		if (texto == null) {
+			return 0;
+		}
+		return objeto(String.class) + arreglo(texto.length(), 1);
+	}
+
+	static long arreglo(int largo, int tamanioElemento) {
+		return alinear(ENCABEZADO_ARREGLO + (long) largo * tamanioElemento);
+	}
+
+	/**
+	 * Estima un HashMap con esa cantidad de entradas, sin contar claves ni valores.
+	 */
+	static long hashMap(int entradas) {
+		int tabla = Integer.highestOneBit(Math.max(16, (int) (entradas / 0.75f)) - 1) << 1;
+		return objeto(HashMap.class) + arreglo(tabla, REFERENCIA) + (long) entradas * ENTRADA_HASHMAP;
+	}
+
+	/**
+	 * Estima un ArrayList cuya capacidad coincide con su tamanio.
+	 */
+	static long lista(int elementos) {
+		return objeto(java.util.ArrayList.class) + arreglo(elementos, REFERENCIA);
+	}
+
+	private static long tamanioCampo(Class<?> tipo) {
+		if (tipo == long.class || tipo == double.class) {
+			return 8;
+		}
+		if (tipo == int.class || tipo == float.class) {
+			return 4;
+		}
+		if (tipo == short.class || tipo == char.class) {
+			return 2;
+		}
+		if (tipo == byte.class || tipo == boolean.class) {
+			return 1;
+		}
+		return REFERENCIA;
+	}
+
+	private static long alinear(long bytes) {
+		return (bytes + 7) & ~7L;
+	}
+}
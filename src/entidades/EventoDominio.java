@@ -0,0 +1,242 @@
+package entidades;
+import java.time.LocalDate;
+
+/**
+ * Cambio ocurrido en HomeSolution, publicado a los suscriptores de
+ * HomeSolution.publicadorEventos() en el mismo orden en que ocurrieron.
+ * La secuencia es creciente dentro de una instancia de HomeSolution.
+ * Los eventos que no corresponden a un proyecto llevan numero de proyecto 0.
+ */
+public abstract class EventoDominio {
+
+	private long secuencia;
+	private int numeroProyecto;
+
+	protected EventoDominio(long secuencia, int numeroProyecto) {
+		this.secuencia = secuencia;
+		this.numeroProyecto = numeroProyecto;
+	}
+
+	public long getSecuencia() {
+		return secuencia;
+	}
+
+	public int getNumeroProyecto() {
+		return numeroProyecto;
+	}
+
+	public static class EmpleadoAsignado extends EventoDominio {
+		private String titulo;
+		private int legajo;
+
+		public EmpleadoAsignado(long secuencia, int numeroProyecto, String titulo, int legajo) {
+			super(secuencia, numeroProyecto);
+			this.titulo = titulo;
+			this.legajo = legajo;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public int getLegajo() {
+			return legajo;
+		}
+
+		@Override
+		public String toString() {
+			return "EmpleadoAsignado[" + getNumeroProyecto() + ", " + titulo + ", " + legajo + "]";
+		}
+	}
+
+	public static class EmpleadoReasignado extends EventoDominio {
+		private String titulo;
+		private int legajoAnterior;
+		private int legajoNuevo;
+
+		public EmpleadoReasignado(long secuencia, int numeroProyecto, String titulo, int legajoAnterior,
+				int legajoNuevo) {
+			super(secuencia, numeroProyecto);
+			this.titulo = titulo;
+			this.legajoAnterior = legajoAnterior;
+			this.legajoNuevo = legajoNuevo;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public int getLegajoAnterior() {
+			return legajoAnterior;
+		}
+
+		public int getLegajoNuevo() {
+			return legajoNuevo;
+		}
+
+		@Override
+		public String toString() {
+			return "EmpleadoReasignado[" + getNumeroProyecto() + ", " + titulo + ", " + legajoAnterior + " -> "
+					+ legajoNuevo + "]";
+		}
+	}
+
+	public static class RetrasoRegistrado extends EventoDominio {
+		private String titulo;
+		private int legajo;
+		private double dias;
+
+		public RetrasoRegistrado(long secuencia, int numeroProyecto, String titulo, int legajo, double dias) {
+			super(secuencia, numeroProyecto);
+			this.titulo = titulo;
+			this.legajo = legajo;
+			this.dias = dias;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public int getLegajo() {
+			return legajo;
+		}
+
+		public double getDias() {
+			return dias;
+		}
+
+		@Override
+		public String toString() {
+			return "RetrasoRegistrado[" + getNumeroProyecto() + ", " + titulo + ", " + legajo + ", " + dias + "]";
+		}
+	}
+
+	public static class TareaFinalizada extends EventoDominio {
+		private String titulo;
+		private int legajo;
+		private double costo;
+
+		public TareaFinalizada(long secuencia, int numeroProyecto, String titulo, int legajo, double costo) {
+			super(secuencia, numeroProyecto);
+			this.titulo = titulo;
+			this.legajo = legajo;
+			this.costo = costo;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public int getLegajo() {
+			return legajo;
+		}
+
+		public double getCosto() {
+			return costo;
+		}
+
+		@Override
+		public String toString() {
+			return "TareaFinalizada[" + getNumeroProyecto() + ", " + titulo + ", " + legajo + ", " + costo + "]";
+		}
+	}
+
+	public static class ProyectoFinalizado extends EventoDominio {
+		private LocalDate fechaFin;
+		private double costoFinal;
+
+		public ProyectoFinalizado(long secuencia, int numeroProyecto, LocalDate fechaFin, double costoFinal) {
+			super(secuencia, numeroProyecto);
+			this.fechaFin = fechaFin;
+			this.costoFinal = costoFinal;
+		}
+
+		public LocalDate getFechaFin() {
+			return fechaFin;
+		}
+
+		public double getCostoFinal() {
+			return costoFinal;
+		}
+
+		@Override
+		public String toString() {
+			return "ProyectoFinalizado[" + getNumeroProyecto() + ", " + fechaFin + ", " + costoFinal + "]";
+		}
+	}
+
+	public static class EmpleadoRegistrado extends EventoDominio {
+		private int legajo;
+		private String nombre;
+
+		public EmpleadoRegistrado(long secuencia, int legajo, String nombre) {
+			super(secuencia, 0);
+			this.legajo = legajo;
+			this.nombre = nombre;
+		}
+
+		public int getLegajo() {
+			return legajo;
+		}
+
+		public String getNombre() {
+			return nombre;
+		}
+
+		@Override
+		public String toString() {
+			return "EmpleadoRegistrado[" + legajo + ", " + nombre + "]";
+		}
+	}
+
+	public static class ProyectoRegistrado extends EventoDominio {
+		private String domicilio;
+		private EstadoProyecto estado;
+
+		public ProyectoRegistrado(long secuencia, int numeroProyecto, String domicilio, EstadoProyecto estado) {
+			super(secuencia, numeroProyecto);
+			this.domicilio = domicilio;
+			this.estado = estado;
+		}
+
+		public String getDomicilio() {
+			return domicilio;
+		}
+
+		/**
+		 * @return el estado con el que quedo el proyecto al registrarse.
+		 */
+		public EstadoProyecto getEstado() {
+			return estado;
+		}
+
+		@Override
+		public String toString() {
+			return "ProyectoRegistrado[" + getNumeroProyecto() + ", " + domicilio + ", " + estado + "]";
+		}
+	}
+
+	public static class TareaAgregada extends EventoDominio {
+		private String titulo;
+		private double dias;
+
+		public TareaAgregada(long secuencia, int numeroProyecto, String titulo, double dias) {
+			super(secuencia, numeroProyecto);
+			this.titulo = titulo;
+			this.dias = dias;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		public double getDias() {
+			return dias;
+		}
+
+		@Override
+		public String toString() {
+			return "TareaAgregada[" + getNumeroProyecto() + ", " + titulo + ", " + dias + "]";
+		}
+	}
+}
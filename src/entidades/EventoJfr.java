@@ -0,0 +1,190 @@
+package entidades;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Eventos de Java Flight Recorder que emite HomeSolution, para ver en una
+ * grabacion que operacion del negocio corresponde a cada pico de latencia.
+ * La duracion es la del evento (begin a commit).
+ *
+ * Cada tipo se obtiene con iniciar(), que devuelve null si ninguna grabacion
+ * lo tiene habilitado: asi, sin grabacion, las operaciones no reservan memoria
+ * por el evento. Para preguntar si esta habilitado sin crear uno nuevo cada
+ * vez se usa una instancia fija del tipo, que nunca se emite.
+ *
+ * Se habilitan en bloque con, por ejemplo:
+ * java -XX:StartFlightRecording:filename=hs.jfr,settings=profile ...
+ * y se listan con: jfr print --categories HomeSolution hs.jfr
+ */
+@Category("HomeSolution")
+@StackTrace(false)
+public abstract class EventoJfr extends Event {
+
+	@Label("Numero de proyecto")
+	int numeroProyecto;
+
+	@Label("Exito")
+	@Description("false si la operacion fue rechazada o lanzo una excepcion")
+	boolean exito;
+
+	@Name("homesolution.Asignacion")
+	@Label("Asignacion")
+	public static class Asignacion extends EventoJfr {
+		private static final Asignacion CONSULTA = new Asignacion();
+
+		/**
+		 * @return el evento ya iniciado, o null si no esta habilitado.
+		 */
+		static Asignacion iniciar() {
+			if (!CONSULTA.isEnabled()) {
+				return null;
+			}
+			Asignacion evento = new Asignacion();
+			evento.begin();
+			return evento;
+		}
+
+		@Label("Tarea")
+		String titulo;
+
+		@Label("Legajo")
+		int legajo;
+
+		@Label("Menos retraso")
+		boolean menosRetraso;
+	}
+
+	@Name("homesolution.Reasignacion")
+	@Label("Reasignacion")
+	public static class Reasignacion extends EventoJfr {
+		private static final Reasignacion CONSULTA = new Reasignacion();
+
+		/**
+		 * @return el evento ya iniciado, o null si no esta habilitado.
+		 */
+		static Reasignacion iniciar() {
+			if (!CONSULTA.isEnabled()) {
+				return null;
+			}
+			Reasignacion evento = new Reasignacion();
+			evento.begin();
+			return evento;
+		}
+
+		@Label("Tarea")
+		String titulo;
+
+		@Label("Legajo anterior")
+		int legajoAnterior;
+
+		@Label("Legajo")
+		int legajo;
+
+		@Label("Menos retraso")
+		boolean menosRetraso;
+	}
+
+	@Name("homesolution.Retraso")
+	@Label("Retraso")
+	public static class Retraso extends EventoJfr {
+		private static final Retraso CONSULTA = new Retraso();
+
+		/**
+		 * @return el evento ya iniciado, o null si no esta habilitado.
+		 */
+		static Retraso iniciar() {
+			if (!CONSULTA.isEnabled()) {
+				return null;
+			}
+			Retraso evento = new Retraso();
+			evento.begin();
+			return evento;
+		}
+
+		@Label("Tarea")
+		String titulo;
+
+		@Label("Legajo")
+		int legajo;
+
+		@Label("Dias")
+		double dias;
+	}
+
+	@Name("homesolution.FinalizacionTarea")
+	@Label("Finalizacion de tarea")
+	public static class FinalizacionTarea extends EventoJfr {
+		private static final FinalizacionTarea CONSULTA = new FinalizacionTarea();
+
+		/**
+		 * @return el evento ya iniciado, o null si no esta habilitado.
+		 */
+		static FinalizacionTarea iniciar() {
+			if (!CONSULTA.isEnabled()) {
+				return null;
+			}
+			FinalizacionTarea evento = new FinalizacionTarea();
+			evento.begin();
+			return evento;
+		}
+
+		@Label("Tarea")
+		String titulo;
+
+		@Label("Legajo")
+		int legajo;
+	}
+
+	@Name("homesolution.FinalizacionProyecto")
+	@Label("Finalizacion de proyecto")
+	public static class FinalizacionProyecto extends EventoJfr {
+		private static final FinalizacionProyecto CONSULTA = new FinalizacionProyecto();
+
+		/**
+		 * @return el evento ya iniciado, o null si no esta habilitado.
+		 */
+		static FinalizacionProyecto iniciar() {
+			if (!CONSULTA.isEnabled()) {
+				return null;
+			}
+			FinalizacionProyecto evento = new FinalizacionProyecto();
+			evento.begin();
+			return evento;
+		}
+
+		@Label("Costo final")
+		double costoFinal;
+	}
+
+	/**
+	 * Consulta que tardo mas que el umbral (10 ms salvo que la configuracion
+	 * de la grabacion diga otra cosa). Lleva la pila para ver quien la pidio.
+	 */
+	@Name("homesolution.ConsultaLenta")
+	@Label("Consulta lenta")
+	@Threshold("10 ms")
+	@StackTrace(true)
+	public static class ConsultaLenta extends EventoJfr {
+		private static final ConsultaLenta CONSULTA = new ConsultaLenta();
+
+		/**
+		 * @return el evento ya iniciado, o null si no esta habilitado.
+		 */
+		static ConsultaLenta iniciar() {
+			if (!CONSULTA.isEnabled()) {
+				return null;
+			}
+			ConsultaLenta evento = new ConsultaLenta();
+			evento.begin();
+			return evento;
+		}
+
+		@Label("Operacion")
+		String operacion;
+	}
+}
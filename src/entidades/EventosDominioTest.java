@@ -0,0 +1,121 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventosDominioTest {
+    private HomeSolution homeSolution;
+    private PrintStream salidaOriginal;
+
+    @Before
+    public void setUp() {
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        homeSolution = new HomeSolution();
+    }
+
+    @After
+    public void tearDown() {
+        homeSolution.cerrarEventos();
+        System.setOut(salidaOriginal);
+    }
+
+    /**
+     * Guarda las secuencias recibidas; pide un evento por vez y se frena en
+     * onNext mientras el cerrojo no se abra.
+     */
+    private static class Suscriptor implements Flow.Subscriber<EventoDominio> {
+        private final List<Long> secuencias = new CopyOnWriteArrayList<>();
+        private final CountDownLatch abierto;
+        private final CountDownLatch recibidos;
+        private Flow.Subscription suscripcion;
+
+        Suscriptor(CountDownLatch abierto, int esperados) {
+            this.abierto = abierto;
+            this.recibidos = new CountDownLatch(esperados);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription suscripcion) {
+            this.suscripcion = suscripcion;
+            suscripcion.request(1);
+        }
+
+        @Override
+        public void onNext(EventoDominio evento) {
+            try {
+                abierto.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            secuencias.add(evento.getSecuencia());
+            recibidos.countDown();
+            suscripcion.request(1);
+        }
+
+        @Override
+        public void onError(Throwable error) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+
+    @Test
+    public void testLaSecuenciaAvanzaSinSuscriptores() {
+        homeSolution.registrarEmpleado("Juan", 15000);
+        homeSolution.registrarEmpleado("Luis", 15000);
+        assertEquals(2, homeSolution.ultimaSecuenciaEventos());
+    }
+
+    @Test
+    public void testLosEventosLleganEnOrden() throws InterruptedException {
+        homeSolution.registrarEmpleado("Previo", 15000);
+        Suscriptor suscriptor = new Suscriptor(new CountDownLatch(0), 100);
+        homeSolution.publicadorEventos().subscribe(suscriptor);
+        for (int i = 0; i < 100; i++) {
+            homeSolution.registrarEmpleado("Empleado " + i, 15000);
+        }
+        assertTrue(suscriptor.recibidos.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Long.valueOf(i + 2), suscriptor.secuencias.get(i));
+        }
+    }
+
+    @Test
+    public void testUnSuscriptorLentoNoFrenaLasOperaciones() throws InterruptedException {
+        CountDownLatch abierto = new CountDownLatch(1);
+        Suscriptor suscriptor = new Suscriptor(abierto, 1);
+        homeSolution.publicadorEventos().subscribe(suscriptor);
+        int operaciones = 2 * HomeSolution.CAPACIDAD_BUFFER_EVENTOS;
+        for (int i = 0; i < operaciones; i++) {
+            homeSolution.registrarEmpleado("Empleado " + i, 15000);
+        }
+        assertEquals(operaciones, homeSolution.ultimaSecuenciaEventos());
+        assertTrue(homeSolution.eventosDescartados() > 0);
+
+        abierto.countDown();
+        List<Long> recibidas = suscriptor.secuencias;
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (recibidas.size() + homeSolution.eventosDescartados() < operaciones && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        assertEquals(operaciones, recibidas.size() + homeSolution.eventosDescartados());
+        for (int i = 1; i < recibidas.size(); i++) {
+            assertTrue(recibidas.get(i) > recibidas.get(i - 1));
+        }
+    }
+}
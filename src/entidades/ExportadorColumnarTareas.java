@@ -0,0 +1,340 @@
+package entidades;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Exporta todas las tareas en formato columnar comprimido para analisis.
+ *
+ * El archivo es una secuencia de bloques de hasta FILAS_POR_BLOQUE tareas. En cada bloque
+ * cada atributo se escribe como una columna separada y comprimida con Deflate:
+ * numero de proyecto, legajo, duracion, retraso, costo, terminada (un bit por fila)
+ * y titulo (diccionario del bloque + codigos). Los titulos del diccionario van
+ * como largo + bytes UTF-8, sin el limite de 64 KB de writeUTF (version 2).
+ * Un bloque con 0 filas marca el fin del archivo.
+ */
+public class ExportadorColumnarTareas {
+
+	public static final int FILAS_POR_BLOQUE = 65536;
+	private static final int MAGIA = 0x48535443;
+	private static final int VERSION = 2;
+	private static final int VERSION_TITULOS_UTF = 1;
+
+	private ExportadorColumnarTareas() {
+	}
+
+	public static void exportar(Iterable<Proyecto> proyectos, OutputStream destino) throws IOException {
+		exportar(proyectos, null, destino);
+	}
+
+	/**
+	 * Exporta las tareas de los proyectos y despues las de los archivados.
+	 * @param archivados puede ser null si no hay proyectos archivados.
+	 */
+	public static void exportar(Iterable<Proyecto> proyectos, AlmacenArchivados archivados, OutputStream destino)
+			throws IOException {
+		DataOutputStream salida = new DataOutputStream(destino);
+		salida.writeInt(MAGIA);
+		salida.writeInt(VERSION);
+
+		Escritura escritura = new Escritura(salida);
+		for (Proyecto p : proyectos) {
+			escritura.agregar(p);
+		}
+		if (archivados != null) {
+			try {
+				archivados.recorrer((numero, p) -> {
+					try {
+						escritura.agregar(p);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+		}
+		escritura.terminar();
+	}
+
+	public static ColumnasTareas leer(InputStream origen) throws IOException {
+		DataInputStream entrada = new DataInputStream(origen);
+		if (entrada.readInt() != MAGIA) {
+			throw new IOException("El archivo no es un export columnar de tareas.");
+		}
+		int version = entrada.readInt();
+		if (version != VERSION && version != VERSION_TITULOS_UTF) {
+			throw new IOException("Version de export no soportada: " + version);
+		}
+
+		int total = 0;
+		int[] proyectos = new int[0];
+		int[] legajos = new int[0];
+		double[] duraciones = new double[0];
+		double[] retrasos = new double[0];
+		double[] costos = new double[0];
+		boolean[] terminadas = new boolean[0];
+		int[] codigos = new int[0];
+		List<String> diccionario = new ArrayList<>();
+		Map<String, Integer> codigoPorTitulo = new HashMap<>();
+
+		int filas;
+		while ((filas = entrada.readInt()) > 0) {
+			int nuevoTotal = total + filas;
+			proyectos = Arrays.copyOf(proyectos, nuevoTotal);
+			legajos = Arrays.copyOf(legajos, nuevoTotal);
+			duraciones = Arrays.copyOf(duraciones, nuevoTotal);
+			retrasos = Arrays.copyOf(retrasos, nuevoTotal);
+			costos = Arrays.copyOf(costos, nuevoTotal);
+			terminadas = Arrays.copyOf(terminadas, nuevoTotal);
+			codigos = Arrays.copyOf(codigos, nuevoTotal);
+
+			DataInputStream columna = leerColumna(entrada);
+			for (int i = total; i < nuevoTotal; i++) {
+				proyectos[i] = columna.readInt();
+			}
+			columna = leerColumna(entrada);
+			for (int i = total; i < nuevoTotal; i++) {
+				legajos[i] = columna.readInt();
+			}
+			columna = leerColumna(entrada);
+			for (int i = total; i < nuevoTotal; i++) {
+				duraciones[i] = columna.readDouble();
+			}
+			columna = leerColumna(entrada);
+			for (int i = total; i < nuevoTotal; i++) {
+				retrasos[i] = columna.readDouble();
+			}
+			columna = leerColumna(entrada);
+			for (int i = total; i < nuevoTotal; i++) {
+				costos[i] = columna.readDouble();
+			}
+			columna = leerColumna(entrada);
+			int bits = 0;
+			for (int i = total; i < nuevoTotal; i++) {
+				int posicion = (i - total) & 7;
+				if (posicion == 0) {
+					bits = columna.readUnsignedByte();
+				}
+				terminadas[i] = (bits & (1 << posicion)) != 0;
+			}
+
+			// El diccionario de cada bloque se traduce al diccionario global del resultado.
+			columna = leerColumna(entrada);
+			int[] traduccion = new int[columna.readInt()];
+			for (int d = 0; d < traduccion.length; d++) {
+				String titulo = version == VERSION_TITULOS_UTF ? columna.readUTF() : leerTitulo(columna);
+				Integer codigo = codigoPorTitulo.get(titulo);
+				if (codigo == null) {
+					codigo = diccionario.size();
+					diccionario.add(titulo);
+					codigoPorTitulo.put(titulo, codigo);
+				}
+				traduccion[d] = codigo;
+			}
+			for (int i = total; i < nuevoTotal; i++) {
+				codigos[i] = traduccion[columna.readInt()];
+			}
+			total = nuevoTotal;
+		}
+		return new ColumnasTareas(total, proyectos, legajos, duraciones, retrasos, costos, terminadas, codigos,
+				diccionario.toArray(new String[0]));
+	}
+
+	private static DataInputStream leerColumna(DataInputStream entrada) throws IOException {
+		byte[] comprimida = new byte[entrada.readInt()];
+		entrada.readFully(comprimida);
+		return new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(comprimida)));
+	}
+
+	private static String leerTitulo(DataInputStream columna) throws IOException {
+		byte[] bytes = new byte[columna.readInt()];
+		columna.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static int legajoDe(ITarea tarea) {
+		if (tarea.getResponsable() != null) {
+			return tarea.getResponsable().getNumeroLegajo();
+		}
+		return tarea.getHistorial().ultimoLegajo();
+	}
+
+	/**
+	 * Va juntando tareas y escribe un bloque cada FILAS_POR_BLOQUE.
+	 */
+	private static class Escritura {
+		private final DataOutputStream salida;
+		private Bloque bloque = new Bloque();
+
+		Escritura(DataOutputStream salida) {
+			this.salida = salida;
+		}
+
+		void agregar(Proyecto p) throws IOException {
+			AlmacenTareasColumnar almacen = p.getAlmacenColumnar();
+			if (almacen != null) {
+				for (int fila = 0; fila < almacen.cantidad(); fila++) {
+					boolean terminada = almacen.isTerminada(fila);
+					double costo = terminada ? almacen.getCosto(fila)
+							: almacen.calcularCosto(fila, almacen.getResponsable(fila));
+					bloque.agregar(p.getNumeroProyecto(), almacen.getTitulo(fila), almacen.ultimoLegajo(fila),
+							almacen.getDuracion(fila), almacen.getRetraso(fila), terminada, costo);
+					bloqueLleno();
+				}
+				return;
+			}
+			for (ITarea t : p.getListaTareas()) {
+				bloque.agregar(p.getNumeroProyecto(), t.getTitulo(), legajoDe(t), t.getCantDiasDuracion(),
+						t.getDiasDeRetraso(), t.isTareaTerminada(),
+						t.isTareaTerminada() ? t.getCostoTarea() : t.calcularCosto());
+				bloqueLleno();
+			}
+		}
+
+		private void bloqueLleno() throws IOException {
+			if (bloque.cantidad == FILAS_POR_BLOQUE) {
+				bloque.escribir(salida);
+				bloque = new Bloque();
+			}
+		}
+
+		void terminar() throws IOException {
+			if (bloque.cantidad > 0) {
+				bloque.escribir(salida);
+			}
+			salida.writeInt(0);
+			salida.flush();
+		}
+	}
+
+	private static class Bloque {
+		private int cantidad;
+		private int[] proyectos = new int[64];
+		private int[] legajos = new int[64];
+		private double[] duraciones = new double[64];
+		private double[] retrasos = new double[64];
+		private double[] costos = new double[64];
+		private boolean[] terminadas = new boolean[64];
+		private int[] codigos = new int[64];
+		private List<String> diccionario = new ArrayList<>();
+		private Map<String, Integer> codigoPorTitulo = new HashMap<>();
+
+		void agregar(int numeroProyecto, String titulo, int legajo, double duracion, double retraso,
+				boolean terminada, double costo) {
+			if (cantidad == proyectos.length) {
+				int capacidad = Math.min(cantidad * 2, FILAS_POR_BLOQUE);
+				proyectos = Arrays.copyOf(proyectos, capacidad);
+				legajos = Arrays.copyOf(legajos, capacidad);
+				duraciones = Arrays.copyOf(duraciones, capacidad);
+				retrasos = Arrays.copyOf(retrasos, capacidad);
+				costos = Arrays.copyOf(costos, capacidad);
+				terminadas = Arrays.copyOf(terminadas, capacidad);
+				codigos = Arrays.copyOf(codigos, capacidad);
+			}
+			proyectos[cantidad] = numeroProyecto;
+			legajos[cantidad] = legajo;
+			duraciones[cantidad] = duracion;
+			retrasos[cantidad] = retraso;
+			costos[cantidad] = costo;
+			terminadas[cantidad] = terminada;
+
+			if (titulo == null) {
+				titulo = "";
+			}
+			Integer codigo = codigoPorTitulo.get(titulo);
+			if (codigo == null) {
+				codigo = diccionario.size();
+				diccionario.add(titulo);
+				codigoPorTitulo.put(titulo, codigo);
+			}
+			codigos[cantidad] = codigo;
+			cantidad++;
+		}
+
+		void escribir(DataOutputStream salida) throws IOException {
+			salida.writeInt(cantidad);
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream columna = abrirColumna(bytes);
+			for (int i = 0; i < cantidad; i++) {
+				columna.writeInt(proyectos[i]);
+			}
+			cerrarColumna(salida, columna, bytes);
+
+			columna = abrirColumna(bytes);
+			for (int i = 0; i < cantidad; i++) {
+				columna.writeInt(legajos[i]);
+			}
+			cerrarColumna(salida, columna, bytes);
+
+			columna = abrirColumna(bytes);
+			for (int i = 0; i < cantidad; i++) {
+				columna.writeDouble(duraciones[i]);
+			}
+			cerrarColumna(salida, columna, bytes);
+
+			columna = abrirColumna(bytes);
+			for (int i = 0; i < cantidad; i++) {
+				columna.writeDouble(retrasos[i]);
+			}
+			cerrarColumna(salida, columna, bytes);
+
+			columna = abrirColumna(bytes);
+			for (int i = 0; i < cantidad; i++) {
+				columna.writeDouble(costos[i]);
+			}
+			cerrarColumna(salida, columna, bytes);
+
+			columna = abrirColumna(bytes);
+			int bits = 0;
+			for (int i = 0; i < cantidad; i++) {
+				if (terminadas[i]) {
+					bits |= 1 << (i & 7);
+				}
+				if ((i & 7) == 7 || i == cantidad - 1) {
+					columna.writeByte(bits);
+					bits = 0;
+				}
+			}
+			cerrarColumna(salida, columna, bytes);
+
+			columna = abrirColumna(bytes);
+			columna.writeInt(diccionario.size());
+			for (String titulo : diccionario) {
+				byte[] utf8 = titulo.getBytes(StandardCharsets.UTF_8);
+				columna.writeInt(utf8.length);
+				columna.write(utf8);
+			}
+			for (int i = 0; i < cantidad; i++) {
+				columna.writeInt(codigos[i]);
+			}
+			cerrarColumna(salida, columna, bytes);
+		}
+
+		private static DataOutputStream abrirColumna(ByteArrayOutputStream bytes) {
+			bytes.reset();
+			return new DataOutputStream(new DeflaterOutputStream(bytes));
+		}
+
+		private static void cerrarColumna(DataOutputStream salida, DataOutputStream columna,
+				ByteArrayOutputStream bytes) throws IOException {
+			columna.close();
+			salida.writeInt(bytes.size());
+			bytes.writeTo(salida);
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Exportar y volver a leer tiene que devolver las mismas columnas, con
+ * proyectos comunes, columnares y archivados.
+ */
+public class ExportadorColumnarTareasTest {
+    private static final String[] CLIENTE = {"Pedro Gomez", "mail@mail.com", "123456"};
+
+    private HomeSolution homeSolution;
+    private PrintStream salidaOriginal;
+    private String tituloLargo;
+
+    @Before
+    public void setUp() throws Exception {
+        salidaOriginal = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        homeSolution = new HomeSolution();
+        homeSolution.registrarEmpleado("Juan", 100);
+        homeSolution.registrarEmpleado("Luis", 100);
+
+        // 5000: se finaliza y se archiva.
+        homeSolution.registrarProyecto(new String[] {"Pintar"}, new String[] {""}, new double[] {3},
+                "Calle 0", CLIENTE, "2025-12-01", "2025-12-31");
+        homeSolution.asignarResponsableEnTarea(5000, "Pintar");
+        homeSolution.finalizarTarea(5000, "Pintar");
+        homeSolution.finalizarProyecto(5000, "2025-12-20");
+        assertEquals(1, homeSolution.archivarFinalizados());
+
+        // 5001: un titulo repetido y uno que no entra en writeUTF.
+        StringBuilder largo = new StringBuilder();
+        while (largo.length() < 70_000) {
+            largo.append("Instalación ");
+        }
+        tituloLargo = largo.toString();
+        homeSolution.registrarProyecto(new String[] {"Pintar", tituloLargo}, new String[] {"", ""},
+                new double[] {2, 1}, "Calle 1", CLIENTE, "2025-12-01", "2025-12-31");
+        homeSolution.asignarResponsableEnTarea(5001, "Pintar");
+        homeSolution.registrarRetrasoEnTarea(5001, "Pintar", 1.5);
+
+        // 5002: columnar; T0 termina y deja de tener responsable.
+        int cantidad = Proyecto.UMBRAL_TAREAS_COLUMNAR;
+        String[] titulos = new String[cantidad];
+        String[] descripciones = new String[cantidad];
+        double[] dias = new double[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            titulos[i] = "T" + i;
+            descripciones[i] = "";
+            dias[i] = i + 1;
+        }
+        homeSolution.registrarProyecto(titulos, descripciones, dias, "Calle 2", CLIENTE, "2025-12-01", "2026-12-31");
+        homeSolution.asignarResponsableEnTarea(5002, "T0");
+        homeSolution.finalizarTarea(5002, "T0");
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(salidaOriginal);
+    }
+
+    private ColumnasTareas exportarYLeer() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        homeSolution.exportarTareasColumnar(bytes);
+        return ExportadorColumnarTareas.leer(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @Test
+    public void testIdaYVueltaConservaTodasLasColumnas() throws Exception {
+        ColumnasTareas columnas = exportarYLeer();
+        int cantidad = Proyecto.UMBRAL_TAREAS_COLUMNAR;
+        assertEquals(2 + cantidad + 1, columnas.getCantidad());
+
+        // 5001, Pintar: asignada a Juan, sin terminar; el costo se calcula al exportar.
+        assertEquals(5001, columnas.getNumerosProyecto()[0]);
+        assertEquals("Pintar", columnas.getTitulo(0));
+        assertEquals(1000, columnas.getLegajos()[0]);
+        assertEquals(2.0, columnas.getDuraciones()[0], 0.001);
+        assertEquals(1.5, columnas.getDiasDeRetraso()[0], 0.001);
+        assertEquals(2 * 800.0, columnas.getCostos()[0], 0.001);
+        assertFalse(columnas.getTerminadas()[0]);
+
+        assertEquals(tituloLargo, columnas.getTitulo(1));
+        assertEquals(ColumnasTareas.SIN_RESPONSABLE, columnas.getLegajos()[1]);
+        assertEquals(0.0, columnas.getCostos()[1], 0.001);
+
+        // 5002, columnar: T0 la termino Luis, el legajo sale del historial.
+        assertEquals(5002, columnas.getNumerosProyecto()[2]);
+        assertEquals("T0", columnas.getTitulo(2));
+        assertEquals(1001, columnas.getLegajos()[2]);
+        assertTrue(columnas.getTerminadas()[2]);
+        assertEquals(800.0, columnas.getCostos()[2], 0.001);
+        assertEquals("T" + (cantidad - 1), columnas.getTitulo(cantidad + 1));
+        assertEquals(cantidad, columnas.getDuraciones()[cantidad + 1], 0.001);
+        assertEquals(ColumnasTareas.SIN_RESPONSABLE, columnas.getLegajos()[cantidad + 1]);
+
+        // 5000, archivado: al final.
+        int ultima = columnas.getCantidad() - 1;
+        assertEquals(5000, columnas.getNumerosProyecto()[ultima]);
+        assertEquals("Pintar", columnas.getTitulo(ultima));
+        assertEquals(1000, columnas.getLegajos()[ultima]);
+        assertEquals(3.0, columnas.getDuraciones()[ultima], 0.001);
+        assertEquals(3 * 800.0, columnas.getCostos()[ultima], 0.001);
+        assertTrue(columnas.getTerminadas()[ultima]);
+    }
+
+    @Test
+    public void testElDiccionarioNoRepiteTitulos() throws Exception {
+        ColumnasTareas columnas = exportarYLeer();
+        int ultima = columnas.getCantidad() - 1;
+        assertEquals(columnas.getCodigosTitulo()[0], columnas.getCodigosTitulo()[ultima]);
+        assertEquals(2 + Proyecto.UMBRAL_TAREAS_COLUMNAR, columnas.getDiccionarioTitulos().length);
+        for (int i = 0; i < columnas.getCantidad(); i++) {
+            assertEquals(columnas.getDiccionarioTitulos()[columnas.getCodigosTitulo()[i]], columnas.getTitulo(i));
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package entidades;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Genera, a partir de una semilla, datos y operaciones de prueba para
+ * cualquier {@link IHomeSolution}: empleados contratados y de planta con
+ * categoria, proyectos con distinta cantidad de tareas y una secuencia de
+ * asignaciones, retrasos, finalizaciones y reasignaciones en las proporciones
+ * configuradas. Con la misma semilla y configuracion se obtiene siempre lo mismo.
+ *
+ * Las operaciones se reparten por hilo: cada hilo trabaja sobre sus propios
+ * proyectos (los de indice p con p % hilos == hilo) y sigue el ciclo de vida
+ * de sus tareas, de modo que su secuencia es valida si se ejecuta en orden.
+ * Los empleados son compartidos, asi que con varios hilos algunas
+ * asignaciones pueden no encontrar a nadie libre.
+ */
+public class GeneradorCarga {
+
+	public enum TipoOperacion {
+		ASIGNAR, RETRASO, FINALIZAR, REASIGNAR
+	}
+
+	/**
+	 * Operacion sobre la tarea {@code titulo} del proyecto de indice
+	 * {@code proyecto} (en orden de registro, no el numero asignado).
+	 */
+	public static class Operacion {
+		private final TipoOperacion tipo;
+		private final int proyecto;
+		private final String titulo;
+		private final double dias;
+
+		Operacion(TipoOperacion tipo, int proyecto, String titulo, double dias) {
+			this.tipo = tipo;
+			this.proyecto = proyecto;
+			this.titulo = titulo;
+			this.dias = dias;
+		}
+
+		public TipoOperacion getTipo() {
+			return tipo;
+		}
+
+		public int getProyecto() {
+			return proyecto;
+		}
+
+		public String getTitulo() {
+			return titulo;
+		}
+
+		/**
+		 * @return dias de retraso; 0 para las demas operaciones.
+		 */
+		public double getDias() {
+			return dias;
+		}
+	}
+
+	private static final String[] CATEGORIAS = { "INICIAL", "TECNICO", "EXPERTO" };
+	private static final String[] NOMBRES = { "Juan", "Luis", "Julieta", "Ana", "Pedro", "Maria", "Carlos",
+			"Lucia", "Jorge", "Sofia", "Diego", "Valeria" };
+	private static final String[] APELLIDOS = { "Gomez", "Perez", "Rodriguez", "Fernandez", "Lopez", "Diaz",
+			"Martinez", "Sanchez", "Romero", "Torres" };
+	private static final String[] CALLES = { "San Martin", "Belgrano", "Rivadavia", "Mitre", "Sarmiento",
+			"Moreno", "Alsina", "Pueyrredon" };
+	private static final String[] TRABAJOS = { "Pintar", "Instalacion electrica", "Trabajos jardineria",
+			"Instalar AA", "Plomeria", "Albanileria", "Carpinteria", "Techado" };
+
+	private final long semilla;
+	private final int empleados;
+	private final int proyectos;
+	private int minimoTareas = 1;
+	private int maximoTareas = 12;
+	private double proporcionPlanta = 0.3;
+	private final int[] pesos = { 4, 3, 2, 1 };
+	private int[] tareasPorProyecto;
+
+	public GeneradorCarga(long semilla, int empleados, int proyectos) {
+		if (empleados <= 0 || proyectos <= 0) {
+			throw new IllegalArgumentException("Se necesita al menos un empleado y un proyecto.");
+		}
+		this.semilla = semilla;
+		this.empleados = empleados;
+		this.proyectos = proyectos;
+	}
+
+	/**
+	 * Cada proyecto tiene entre {@code minimo} y {@code maximo} tareas, con mas
+	 * proyectos chicos que grandes.
+	 */
+	public void setTareasPorProyecto(int minimo, int maximo) {
+		if (minimo <= 0 || maximo < minimo) {
+			throw new IllegalArgumentException("Rango de tareas invalido.");
+		}
+		this.minimoTareas = minimo;
+		this.maximoTareas = maximo;
+		this.tareasPorProyecto = null;
+	}
+
+	public void setProporcionPlanta(double proporcion) {
+		if (proporcion < 0 || proporcion > 1) {
+			throw new IllegalArgumentException("La proporcion debe estar entre 0 y 1.");
+		}
+		this.proporcionPlanta = proporcion;
+	}
+
+	/**
+	 * Pesos relativos de cada tipo de operacion; por defecto 4:3:2:1.
+	 */
+	public void setProporciones(int asignar, int retraso, int finalizar, int reasignar) {
+		if (asignar < 0 || retraso < 0 || finalizar < 0 || reasignar < 0
+				|| asignar + retraso + finalizar + reasignar == 0) {
+			throw new IllegalArgumentException("Las proporciones deben ser positivas.");
+		}
+		pesos[0] = asignar;
+		pesos[1] = retraso;
+		pesos[2] = finalizar;
+		pesos[3] = reasignar;
+	}
+
+	public int getProyectos() {
+		return proyectos;
+	}
+
+	/**
+	 * Registra los empleados y los proyectos en el sistema.
+	 *
+	 * @return el numero que el sistema le dio a cada proyecto, por indice.
+	 */
+	public int[] cargar(IHomeSolution sistema) {
+		SplittableRandom azar = new SplittableRandom(semilla);
+		for (int i = 0; i < empleados; i++) {
+			String nombre = NOMBRES[azar.nextInt(NOMBRES.length)] + " " + APELLIDOS[azar.nextInt(APELLIDOS.length)];
+			if (azar.nextDouble() < proporcionPlanta) {
+				String categoria = CATEGORIAS[azar.nextInt(CATEGORIAS.length)];
+				sistema.registrarEmpleado(nombre, 8000 + 1000 * azar.nextInt(20), categoria);
+			} else {
+				sistema.registrarEmpleado(nombre, 800 + 50 * azar.nextInt(40));
+			}
+		}
+
+		int[] tareas = tareasPorProyecto();
+		for (int p = 0; p < proyectos; p++) {
+			String[] titulos = new String[tareas[p]];
+			String[] descripciones = new String[tareas[p]];
+			double[] dias = new double[tareas[p]];
+			for (int t = 0; t < titulos.length; t++) {
+				titulos[t] = titulo(t);
+				descripciones[t] = "";
+				dias[t] = 0.5 * (1 + azar.nextInt(20));
+			}
+			String cliente = NOMBRES[azar.nextInt(NOMBRES.length)] + " " + APELLIDOS[azar.nextInt(APELLIDOS.length)];
+			String inicio = String.format("2025-%02d-%02d", 1 + azar.nextInt(12), 1 + azar.nextInt(28));
+			sistema.registrarProyecto(titulos, descripciones, dias, domicilio(p),
+					new String[] { cliente, "cliente" + p + "@mail.com", "11" + (40000000 + p) }, inicio, "");
+		}
+		return numerosRegistrados(sistema);
+	}
+
+	// El sistema elige los numeros; se recuperan por domicilio, que es unico por indice.
+	private int[] numerosRegistrados(IHomeSolution sistema) {
+		Map<String, Integer> porDomicilio = new HashMap<>();
+		ConsumidorIntObjeto<String> anotar = (numero, domicilio) -> porDomicilio.put(domicilio, numero);
+		sistema.recorrerProyectosPendientes(anotar);
+		sistema.recorrerProyectosActivos(anotar);
+		int[] numeros = new int[proyectos];
+		for (int p = 0; p < proyectos; p++) {
+			Integer numero = porDomicilio.get(domicilio(p));
+			if (numero == null) {
+				throw new IllegalStateException("No se encontro el proyecto registrado en " + domicilio(p));
+			}
+			numeros[p] = numero;
+		}
+		return numeros;
+	}
+
+	/**
+	 * Secuencia de operaciones del hilo {@code hilo} de {@code hilos}. Cada
+	 * operacion es valida en el orden dado segun el estado que simula el
+	 * generador; cuando un tipo no tiene tarea posible se elige otro, y la
+	 * secuencia termina antes si ya no queda nada por hacer.
+	 */
+	public Operacion[] operaciones(int hilo, int hilos, int cantidad) {
+		if (hilos <= 0 || hilo < 0 || hilo >= hilos) {
+			throw new IllegalArgumentException("Hilo invalido.");
+		}
+		int[] tareas = tareasPorProyecto();
+		int total = 0;
+		for (int p = hilo; p < proyectos; p += hilos) {
+			total += tareas[p];
+		}
+		// Cada tarea es un entero proyecto * maximoTareas + indice; pendientes y
+		// asignadas son conjuntos con quita por intercambio para elegir al azar.
+		int[] pendientes = new int[total];
+		int cantidadPendientes = 0;
+		for (int p = hilo; p < proyectos; p += hilos) {
+			for (int t = 0; t < tareas[p]; t++) {
+				pendientes[cantidadPendientes++] = p * maximoTareas + t;
+			}
+		}
+		int[] asignadas = new int[total];
+		int cantidadAsignadas = 0;
+		int libres = Math.max(1, empleados / hilos);
+
+		SplittableRandom azar = new SplittableRandom(semilla * 31 + hilo + 1);
+		int sumaPesos = pesos[0] + pesos[1] + pesos[2] + pesos[3];
+		Operacion[] resultado = new Operacion[cantidad];
+		int generadas = 0;
+		while (generadas < cantidad) {
+			boolean puedeAsignar = cantidadPendientes > 0 && libres > 0;
+			boolean hayAsignadas = cantidadAsignadas > 0;
+			if (!puedeAsignar && !hayAsignadas) {
+				break;
+			}
+			TipoOperacion tipo = elegir(azar.nextInt(sumaPesos));
+			if (tipo == TipoOperacion.ASIGNAR && !puedeAsignar) {
+				tipo = TipoOperacion.FINALIZAR;
+			} else if (tipo != TipoOperacion.ASIGNAR && !hayAsignadas) {
+				tipo = TipoOperacion.ASIGNAR;
+			} else if (tipo == TipoOperacion.REASIGNAR && libres == 0) {
+				// La reasignacion necesita a alguien libre que tome la tarea.
+				tipo = TipoOperacion.RETRASO;
+			}
+
+			int tarea;
+			double dias = 0;
+			if (tipo == TipoOperacion.ASIGNAR) {
+				int k = azar.nextInt(cantidadPendientes);
+				tarea = pendientes[k];
+				pendientes[k] = pendientes[--cantidadPendientes];
+				asignadas[cantidadAsignadas++] = tarea;
+				libres--;
+			} else {
+				int k = azar.nextInt(cantidadAsignadas);
+				tarea = asignadas[k];
+				if (tipo == TipoOperacion.FINALIZAR) {
+					asignadas[k] = asignadas[--cantidadAsignadas];
+					libres++;
+				} else if (tipo == TipoOperacion.RETRASO) {
+					dias = 0.5 * (1 + azar.nextInt(6));
+				}
+			}
+			resultado[generadas++] = new Operacion(tipo, tarea / maximoTareas, titulo(tarea % maximoTareas), dias);
+		}
+		return generadas == cantidad ? resultado : Arrays.copyOf(resultado, generadas);
+	}
+
+	private TipoOperacion elegir(int valor) {
+		TipoOperacion[] tipos = TipoOperacion.values();
+		for (int i = 0; i < tipos.length; i++) {
+			if (valor < pesos[i]) {
+				return tipos[i];
+			}
+			valor -= pesos[i];
+		}
+		throw new IllegalStateException();
+	}
+
+	// Sesgado hacia proyectos chicos: el minimo de dos sorteos uniformes.
+	private int[] tareasPorProyecto() {
+		if (tareasPorProyecto == null) {
+			SplittableRandom azar = new SplittableRandom(semilla ^ 0x5DEECE66DL);
+			int rango = maximoTareas - minimoTareas + 1;
+			tareasPorProyecto = new int[proyectos];
+			for (int p = 0; p < proyectos; p++) {
+				tareasPorProyecto[p] = minimoTareas + Math.min(azar.nextInt(rango), azar.nextInt(rango));
+			}
+		}
+		return tareasPorProyecto;
+	}
+
+	private static String domicilio(int p) {
+		return CALLES[p % CALLES.length] + " " + (100 + p);
+	}
+
+	private static String titulo(int t) {
+		return TRABAJOS[t % TRABAJOS.length] + (t < TRABAJOS.length ? "" : " " + (t / TRABAJOS.length + 1));
+	}
+}
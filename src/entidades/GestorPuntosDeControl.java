@@ -0,0 +1,326 @@
+package entidades;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Puntos de control incrementales del estado de HomeSolution.
+ *
+ * Cada llamada a registrarDelta() escribe un segmento delta-NNNNNN.seg solo con
+ * las entidades que HomeSolution marco en el RegistroModificaciones, leidas de
+ * los repositorios.
+ * compactar() junta base.snap con todos los deltas en una nueva base, quedandose
+ * con la ultima version de cada entidad, y borra los deltas.
+ *
+ * Los registros se guardan como (id, largo, bytes del CodificadorEntidades), asi la
+ * compactacion no necesita decodificar las entidades. Un proyecto que ya no esta en
+ * el repositorio se guarda con largo -1 (eliminado) o, si se indico el almacen con
+ * setArchivados, en una seccion aparte de archivados que restaurar() carga en ese almacen.
+ *
+ * Si se usa con una BitacoraOperaciones, cada segmento guarda ademas la ultima secuencia
+ * de la bitacora que ya refleja; restaurar() la devuelve para reproducir solo lo posterior.
+ */
+public class GestorPuntosDeControl {
+
+	private static final int MAGIA = 0x48534350;
+	private static final String BASE = "base.snap";
+	private static final String PREFIJO_DELTA = "delta-";
+	private static final String SUFIJO_DELTA = ".seg";
+	private static final int LARGO_ELIMINADO = -1;
+
+	private Path directorio;
+	private RepositorioEmpleados empleados;
+	private RepositorioProyectos proyectos;
+	private RegistroModificaciones modificaciones;
+	private AlmacenArchivados archivados;
+	private BitacoraOperaciones bitacora;
+	private int proximoDelta;
+
+	/**
+	 * @param modificaciones el mismo que recibe HomeSolution.setRegistroModificaciones.
+	 */
+	public GestorPuntosDeControl(Path directorio, RepositorioEmpleados empleados, RepositorioProyectos proyectos,
+			RegistroModificaciones modificaciones) {
+		this(directorio, empleados, proyectos, modificaciones, null);
+	}
+
+	public GestorPuntosDeControl(Path directorio, RepositorioEmpleados empleados, RepositorioProyectos proyectos,
+			RegistroModificaciones modificaciones, BitacoraOperaciones bitacora) {
+		this.directorio = directorio;
+		this.bitacora = bitacora;
+		this.empleados = empleados;
+		this.proyectos = proyectos;
+		this.modificaciones = modificaciones;
+		try {
+			Files.createDirectories(directorio);
+			List<Path> deltas = deltas();
+			this.proximoDelta = deltas.isEmpty() ? 1 : numeroDelta(deltas.get(deltas.size() - 1)) + 1;
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo abrir el directorio de puntos de control " + directorio, e);
+		}
+	}
+
+	/**
+	 * Almacen donde HomeSolution archiva los proyectos. Los archivados se guardan
+	 * con sus datos y restaurar() los vuelve a cargar ahi; sin almacen quedan
+	 * como eliminados.
+	 */
+	public synchronized void setArchivados(AlmacenArchivados archivados) {
+		this.archivados = archivados;
+	}
+
+	/**
+	 * Escribe un segmento con las entidades modificadas desde el ultimo punto de control.
+	 * @return cantidad de entidades escritas; si es 0 no se crea ningun segmento.
+	 */
+	public synchronized int registrarDelta() {
+		long secuencia = bitacora == null ? 0 : bitacora.getUltimaSecuencia();
+		int[] legajos = modificaciones.tomarEmpleados();
+		int[] numerosProyecto = modificaciones.tomarProyectos();
+		Contenido delta = new Contenido();
+
+		try {
+			for (int legajo : legajos) {
+				Empleado e = empleados.buscar(legajo);
+				if (e != null) {
+					delta.empleados.put(legajo, codificarEmpleado(e));
+				}
+			}
+			for (int numero : numerosProyecto) {
+				Proyecto p = proyectos.buscar(numero);
+				byte[] archivado;
+				if (p != null) {
+					delta.proyectos.put(numero, codificarProyecto(p));
+				} else if (archivados != null && (archivado = archivados.copiarRegistro(numero)) != null) {
+					delta.archivados.put(numero, archivado);
+				} else {
+					delta.eliminados.add(numero);
+				}
+			}
+			int total = delta.cantidad();
+			if (total > 0) {
+				escribirSegmento(directorio.resolve(nombreDelta(proximoDelta)), secuencia, delta);
+				proximoDelta++;
+				if (bitacora != null) {
+					bitacora.marcarPuntoDeControl(secuencia);
+				}
+			}
+			return total;
+		} catch (IOException e) {
+			modificaciones.devolver(legajos, numerosProyecto);
+			throw new UncheckedIOException("No se pudo escribir el punto de control", e);
+		} catch (RuntimeException e) {
+			modificaciones.devolver(legajos, numerosProyecto);
+			throw e;
+		}
+	}
+
+	/**
+	 * Junta la base y todos los deltas en una base nueva y borra los deltas.
+	 * Los eliminados ya no aparecen en la base nueva.
+	 */
+	public synchronized void compactar() {
+		try {
+			List<Path> deltas = deltas();
+			if (deltas.isEmpty()) {
+				return;
+			}
+			Contenido guardado = new Contenido();
+			long secuencia = leerTodo(guardado, deltas);
+
+			escribirSegmento(directorio.resolve(BASE), secuencia, guardado);
+			for (Path delta : deltas) {
+				Files.delete(delta);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo compactar los puntos de control de " + directorio, e);
+		}
+	}
+
+	/**
+	 * Carga en los repositorios (vacios) el estado guardado en el directorio:
+	 * la base y despues cada delta en orden. Los proyectos archivados van al
+	 * almacen indicado con setArchivados.
+	 * @return ultima secuencia de la bitacora incluida en el estado restaurado (0 si no hay bitacora).
+	 * @throws IllegalStateException si hay proyectos archivados y no se indico el almacen.
+	 */
+	public synchronized long restaurar() {
+		try {
+			Contenido guardado = new Contenido();
+			long secuencia = leerTodo(guardado, deltas());
+			if (!guardado.archivados.isEmpty() && archivados == null) {
+				throw new IllegalStateException("Hay " + guardado.archivados.size()
+						+ " proyectos archivados en " + directorio + " y no se indico el almacen de archivados.");
+			}
+
+			for (byte[] registro : guardado.empleados.values()) {
+				empleados.guardar(CodificadorEntidades.leerEmpleado(entrada(registro)));
+			}
+			for (byte[] registro : guardado.proyectos.values()) {
+				proyectos.guardar(CodificadorEntidades.leerProyecto(entrada(registro), empleados));
+			}
+			for (Map.Entry<Integer, byte[]> r : guardado.archivados.entrySet()) {
+				archivados.archivarRegistro(r.getKey(), r.getValue());
+			}
+			return secuencia;
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo restaurar el estado desde " + directorio, e);
+		}
+	}
+
+	/**
+	 * Aplica la base y los deltas en orden sobre el contenido recibido.
+	 */
+	private long leerTodo(Contenido guardado, List<Path> deltas) throws IOException {
+		long secuencia = 0;
+		Path base = directorio.resolve(BASE);
+		if (Files.exists(base)) {
+			secuencia = leerSegmento(base, guardado);
+		}
+		for (Path delta : deltas) {
+			secuencia = Math.max(secuencia, leerSegmento(delta, guardado));
+		}
+		return secuencia;
+	}
+
+	private List<Path> deltas() throws IOException {
+		List<Path> deltas = new ArrayList<>();
+		try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio, PREFIJO_DELTA + "*" + SUFIJO_DELTA)) {
+			for (Path p : archivos) {
+				deltas.add(p);
+			}
+		}
+		Collections.sort(deltas);
+		return deltas;
+	}
+
+	private static String nombreDelta(int numero) {
+		return String.format("%s%06d%s", PREFIJO_DELTA, numero, SUFIJO_DELTA);
+	}
+
+	private static int numeroDelta(Path delta) {
+		String nombre = delta.getFileName().toString();
+		return Integer.parseInt(nombre.substring(PREFIJO_DELTA.length(), nombre.length() - SUFIJO_DELTA.length()));
+	}
+
+	private static void escribirSegmento(Path destino, long secuencia, Contenido contenido) throws IOException {
+		Path temporal = destino.resolveSibling(destino.getFileName() + ".escribiendo");
+		try (DataOutputStream salida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporal)))) {
+			salida.writeInt(MAGIA);
+			salida.writeLong(secuencia);
+			escribirRegistros(salida, contenido.empleados, null);
+			escribirRegistros(salida, contenido.proyectos, contenido.eliminados);
+			escribirRegistros(salida, contenido.archivados, null);
+		}
+		Files.move(temporal, destino, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private static void escribirRegistros(DataOutputStream salida, Map<Integer, byte[]> registros,
+			List<Integer> eliminados) throws IOException {
+		salida.writeInt(registros.size() + (eliminados == null ? 0 : eliminados.size()));
+		for (Map.Entry<Integer, byte[]> r : registros.entrySet()) {
+			salida.writeInt(r.getKey());
+			salida.writeInt(r.getValue().length);
+			salida.write(r.getValue());
+		}
+		if (eliminados != null) {
+			for (int id : eliminados) {
+				salida.writeInt(id);
+				salida.writeInt(LARGO_ELIMINADO);
+			}
+		}
+	}
+
+	private static long leerSegmento(Path origen, Contenido guardado) throws IOException {
+		try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(origen)))) {
+			if (entrada.readInt() != MAGIA) {
+				throw new IOException("El archivo " + origen + " no es un segmento de punto de control.");
+			}
+			long secuencia = entrada.readLong();
+			leerRegistros(entrada, guardado.empleados, null);
+			leerRegistros(entrada, guardado.proyectos, guardado.archivados);
+			int archivadosEnSegmento;
+			try {
+				archivadosEnSegmento = entrada.readInt();
+			} catch (EOFException e) {
+				// Segmento escrito antes de que existiera la seccion de archivados.
+				return secuencia;
+			}
+			for (int i = 0; i < archivadosEnSegmento; i++) {
+				int id = entrada.readInt();
+				byte[] registro = new byte[entrada.readInt()];
+				entrada.readFully(registro);
+				guardado.proyectos.remove(id);
+				guardado.archivados.put(id, registro);
+			}
+			return secuencia;
+		}
+	}
+
+	/**
+	 * Un registro eliminado borra el id de los registros y, si se indica, de los archivados.
+	 */
+	private static void leerRegistros(DataInputStream entrada, Map<Integer, byte[]> registros,
+			Map<Integer, byte[]> archivados) throws IOException {
+		int cantidad = entrada.readInt();
+		for (int i = 0; i < cantidad; i++) {
+			int id = entrada.readInt();
+			int largo = entrada.readInt();
+			if (largo == LARGO_ELIMINADO) {
+				registros.remove(id);
+				if (archivados != null) {
+					archivados.remove(id);
+				}
+				continue;
+			}
+			byte[] registro = new byte[largo];
+			entrada.readFully(registro);
+			registros.put(id, registro);
+		}
+	}
+
+	private static byte[] codificarEmpleado(Empleado empleado) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		CodificadorEntidades.escribirEmpleado(new DataOutputStream(bytes), empleado);
+		return bytes.toByteArray();
+	}
+
+	private static byte[] codificarProyecto(Proyecto proyecto) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		CodificadorEntidades.escribirProyecto(new DataOutputStream(bytes), proyecto);
+		return bytes.toByteArray();
+	}
+
+	private static DataInputStream entrada(byte[] registro) {
+		return new DataInputStream(new ByteArrayInputStream(registro));
+	}
+
+	/**
+	 * Registros de un segmento, o el resultado de aplicar varios en orden.
+	 */
+	private static class Contenido {
+		private final Map<Integer, byte[]> empleados = new LinkedHashMap<>();
+		private final Map<Integer, byte[]> proyectos = new LinkedHashMap<>();
+		private final Map<Integer, byte[]> archivados = new LinkedHashMap<>();
+		private final List<Integer> eliminados = new ArrayList<>();
+
+		int cantidad() {
+			return empleados.size() + proyectos.size() + archivados.size() + eliminados.size();
+		}
+	}
+}
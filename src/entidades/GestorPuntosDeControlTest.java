@@ -0,0 +1,115 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GestorPuntosDeControlTest {
+    private Path directorio;
+    private RepositorioEmpleadosEnMemoria empleados;
+    private RepositorioProyectosEnMemoria proyectos;
+    private RegistroModificaciones modificaciones;
+    private AlmacenArchivados archivados;
+    private HomeSolution homeSolution;
+
+    @Before
+    public void setUp() throws Exception {
+        directorio = Files.createTempDirectory("puntos-de-control");
+        empleados = new RepositorioEmpleadosEnMemoria();
+        proyectos = new RepositorioProyectosEnMemoria();
+        modificaciones = new RegistroModificaciones();
+        archivados = new AlmacenArchivados(empleados);
+        homeSolution = new HomeSolution(empleados, proyectos);
+        homeSolution.setRegistroModificaciones(modificaciones);
+
+        homeSolution.registrarEmpleado("Juan", 15000);
+        String[] cliente = {"Pedro Gomez", "mail@mail.com", "123456"};
+        homeSolution.registrarProyecto(new String[] {"T0"}, new String[] {""}, new double[] {1},
+                "San Martin 1000", cliente, "2025-12-01", "2025-12-31");
+        homeSolution.registrarProyecto(new String[] {"T0"}, new String[] {""}, new double[] {1},
+                "San Martin 2000", cliente, "2025-12-01", "2025-12-31");
+        homeSolution.asignarResponsableEnTarea(5000, "T0");
+        homeSolution.finalizarTarea(5000, "T0");
+        homeSolution.finalizarProyecto(5000, "2025-12-10");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private GestorPuntosDeControl registrarYArchivar(AlmacenArchivados almacen) {
+        GestorPuntosDeControl puntos = new GestorPuntosDeControl(directorio, empleados, proyectos, modificaciones);
+        puntos.setArchivados(almacen);
+        assertEquals(3, puntos.registrarDelta());
+        homeSolution.archivarFinalizados(archivados);
+        assertEquals(1, puntos.registrarDelta());
+        return puntos;
+    }
+
+    @Test
+    public void testRestaurarDevuelveLosArchivadosAlAlmacen() throws Exception {
+        registrarYArchivar(archivados);
+
+        RepositorioEmpleadosEnMemoria empleadosRestaurados = new RepositorioEmpleadosEnMemoria();
+        RepositorioProyectosEnMemoria proyectosRestaurados = new RepositorioProyectosEnMemoria();
+        AlmacenArchivados archivadosRestaurados = new AlmacenArchivados(empleadosRestaurados);
+        GestorPuntosDeControl restaurador = new GestorPuntosDeControl(directorio, empleadosRestaurados,
+                proyectosRestaurados, new RegistroModificaciones());
+        restaurador.setArchivados(archivadosRestaurados);
+        restaurador.restaurar();
+
+        assertEquals(1, proyectosRestaurados.cantidad());
+        assertNull(proyectosRestaurados.buscar(5000));
+        assertTrue(archivadosRestaurados.contiene(5000));
+
+        HomeSolution restaurado = new HomeSolution(empleadosRestaurados, proyectosRestaurados, archivadosRestaurados);
+        assertTrue(restaurado.estaFinalizado(5000));
+        assertEquals("San Martin 1000", restaurado.consultarDomicilioProyecto(5000));
+        assertEquals(1, restaurado.proyectosFinalizados().size());
+        restaurado.registrarProyecto(new String[] {"T0"}, new String[] {""}, new double[] {1}, "Calle 3",
+                new String[] {"Ana", "a@a.com", "1"}, "2025-12-01", "2025-12-31");
+        assertEquals("Calle 3", restaurado.consultarDomicilioProyecto(5002));
+    }
+
+    @Test
+    public void testCompactarNoDevuelveLosEliminados() throws Exception {
+        GestorPuntosDeControl puntos = registrarYArchivar(null);
+        puntos.compactar();
+
+        RepositorioEmpleadosEnMemoria empleadosRestaurados = new RepositorioEmpleadosEnMemoria();
+        RepositorioProyectosEnMemoria proyectosRestaurados = new RepositorioProyectosEnMemoria();
+        new GestorPuntosDeControl(directorio, empleadosRestaurados, proyectosRestaurados,
+                new RegistroModificaciones()).restaurar();
+
+        assertEquals(1, proyectosRestaurados.cantidad());
+        assertNull(proyectosRestaurados.buscar(5000));
+        assertEquals("San Martin 2000", proyectosRestaurados.buscar(5001).getDireccionVivienda());
+    }
+
+    @Test
+    public void testRestaurarArchivadosSinAlmacenFalla() throws Exception {
+        GestorPuntosDeControl puntos = registrarYArchivar(archivados);
+        puntos.compactar();
+        try {
+            new GestorPuntosDeControl(directorio, new RepositorioEmpleadosEnMemoria(),
+                    new RepositorioProyectosEnMemoria(), new RegistroModificaciones()).restaurar();
+            fail("Se esperaba IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage().contains("archivados"));
+        }
+    }
+}
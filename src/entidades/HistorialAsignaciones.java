@@ -0,0 +1,132 @@
+package entidades;
+import java.util.Arrays;
+
+/**
+ * Historial compacto de las asignaciones de una tarea: legajo e instante
+ * (milisegundos desde epoch) en arreglos primitivos que crecen a pedido.
+ * Con un {@link LimiteHistorial} se conservan solo las ultimas entradas y
+ * las mas viejas se pasan a un {@link ArchivoHistorial}.
+ */
+public class HistorialAsignaciones {
+
+	/** Historial sin entradas, compartido por las tareas nunca asignadas. */
+	public static final HistorialAsignaciones VACIO = new HistorialAsignaciones(0);
+
+	private static final int CAPACIDAD_INICIAL = 2;
+
+	private int[] legajos;
+	private long[] instantes;
+	private int cantidad;
+	private int archivadas;
+
+	HistorialAsignaciones() {
+		this(CAPACIDAD_INICIAL);
+	}
+
+	HistorialAsignaciones(int capacidad) {
+		this.legajos = new int[capacidad];
+		this.instantes = new long[capacidad];
+	}
+
+	void agregar(int legajo, long instante, LimiteHistorial limite, int numeroProyecto, String tituloTarea) {
+		int maximo = limite.getMaximo();
+		if (maximo > 0 && cantidad >= maximo) {
+			// Se archiva la mitad mas vieja de una vez para no correr el arreglo en cada alta.
+			archivar(Math.max(1, cantidad - maximo / 2), limite.getArchivo(), numeroProyecto, tituloTarea);
+		}
+		if (cantidad == legajos.length) {
+			int nueva = Math.max(CAPACIDAD_INICIAL, legajos.length * 2);
+			if (maximo > 0) {
+				nueva = Math.min(nueva, maximo);
+			}
+			legajos = Arrays.copyOf(legajos, nueva);
+			instantes = Arrays.copyOf(instantes, nueva);
+		}
+		legajos[cantidad] = legajo;
+		instantes[cantidad] = instante;
+		cantidad++;
+	}
+
+	private void archivar(int cuantas, ArchivoHistorial archivo, int numeroProyecto, String tituloTarea) {
+		if (archivo != null) {
+			for (int i = 0; i < cuantas; i++) {
+				archivo.archivar(numeroProyecto, tituloTarea, legajos[i], instantes[i]);
+			}
+		}
+		System.arraycopy(legajos, cuantas, legajos, 0, cantidad - cuantas);
+		System.arraycopy(instantes, cuantas, instantes, 0, cantidad - cuantas);
+		cantidad -= cuantas;
+		archivadas += cuantas;
+	}
+
+	/**
+	 * @return cantidad de entradas en memoria (no cuenta las archivadas).
+	 */
+	public int cantidad() {
+		return cantidad;
+	}
+
+	public boolean isEmpty() {
+		return cantidad == 0;
+	}
+
+	/**
+	 * @return cantidad de entradas que se pasaron al archivo por el limite.
+	 */
+	public int getArchivadas() {
+		return archivadas;
+	}
+
+	public int getLegajo(int indice) {
+		verificarIndice(indice);
+		return legajos[indice];
+	}
+
+	public long getInstante(int indice) {
+		verificarIndice(indice);
+		return instantes[indice];
+	}
+
+	/**
+	 * @return el legajo de la ultima asignacion, o {@link ColumnasTareas#SIN_RESPONSABLE}.
+	 */
+	public int ultimoLegajo() {
+		return cantidad == 0 ? ColumnasTareas.SIN_RESPONSABLE : legajos[cantidad - 1];
+	}
+
+	public boolean contiene(int legajo) {
+		for (int i = 0; i < cantidad; i++) {
+			if (legajos[i] == legajo) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	long bytesEstimados() {
+		return EstimadorMemoria.objeto(HistorialAsignaciones.class) + EstimadorMemoria.arreglo(legajos.length, 4)
+				+ EstimadorMemoria.arreglo(instantes.length, 8);
+	}
+
+	public int[] legajos() {
+		return Arrays.copyOf(legajos, cantidad);
+	}
+
+	/**
+	 * Reconstruye un historial leido de un almacenamiento externo.
+	 */
+	static HistorialAsignaciones restaurar(int[] legajos, long[] instantes, int archivadas) {
+		HistorialAsignaciones historial = new HistorialAsignaciones(legajos.length);
+		System.arraycopy(legajos, 0, historial.legajos, 0, legajos.length);
+		System.arraycopy(instantes, 0, historial.instantes, 0, legajos.length);
+		historial.cantidad = legajos.length;
+		historial.archivadas = archivadas;
+		return historial;
+	}
+
+	private void verificarIndice(int indice) {
+		if (indice < 0 || indice >= cantidad) {
+			throw new IndexOutOfBoundsException("Indice " + indice + " fuera de rango (" + cantidad + " entradas).");
+		}
+	}
+}
@@ -1,33 +1,353 @@
 package entidades;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.Set;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
 
 public class HomeSolution implements IHomeSolution {
 
-	private Map<Integer, Empleado> empleadosPorLegajo;
-	private List<Empleado> todosLosEmpleados;
-	private int proximoLegajo = 1000;
-	private Map<Integer, Proyecto> proyectosPorNumero;
-	private List<Proyecto> todosLosProyectos;
-	private int proximoNumeroProyecto = 5000;
+	private static final int PRIMER_LEGAJO = 1000;
+	private static final int PRIMER_NUMERO_PROYECTO = 5000;
+	public static final int CAPACIDAD_BUFFER_EVENTOS = 256;
+	private static final int MAX_TAREAS_SIN_MAPA = 64;
+
+	private RepositorioEmpleados empleados;
+	private int proximoLegajo;
+	private RepositorioProyectos proyectos;
+	private int proximoNumeroProyecto;
+	private SubmissionPublisher<EventoDominio> publicador;
+	private final AtomicLong secuenciaEventos = new AtomicLong();
+	private final AtomicLong eventosDescartados = new AtomicLong();
+	private final BiPredicate<Flow.Subscriber<? super EventoDominio>, EventoDominio> alDescartar = (suscriptor, evento) -> {
+		eventosDescartados.incrementAndGet();
+		return false;
+	};
+	private BitacoraOperaciones bitacora;
+	private RegistroModificaciones modificaciones;
+	private PoolCadenas cadenas;
+	private RegistroClientes clientes;
+	private LimiteHistorial limiteHistorial = LimiteHistorial.SIN_LIMITE;
+	private ContadorEstados<EstadoProyecto> proyectosPorEstado;
+	private ContadorEstados<EstadoTarea> tareasPorEstado;
+	private AlmacenArchivados archivados;
+	private IndiceBusqueda busquedaEmpleados;
+	private IndiceBusqueda busquedaProyectos;
+	private RegistroMetricas metricas;
+	private double diasRetrasoTotales;
 	
 	public HomeSolution() {
-		
-		this.proyectosPorNumero = new HashMap<>(); 
-        this.todosLosProyectos = new ArrayList<>();
-		this.empleadosPorLegajo = new HashMap<>();
-		this.todosLosEmpleados = new ArrayList<>();
+		this(new RepositorioEmpleadosEnMemoria(), new RepositorioProyectosEnMemoria());
+	}
+
+	public HomeSolution(RepositorioEmpleados empleados, RepositorioProyectos proyectos) {
+		this(empleados, proyectos, null);
+	}
+
+	/**
+	 * @param archivados almacen con proyectos ya archivados, por ejemplo el que
+	 * cargo GestorPuntosDeControl.restaurar(); null si todavia no se archivo ninguno.
+	 * Los archivados siguientes van al mismo almacen.
+	 */
+	public HomeSolution(RepositorioEmpleados empleados, RepositorioProyectos proyectos, AlmacenArchivados archivados) {
+		this.empleados = empleados;
+		this.proyectos = proyectos;
+		this.proximoLegajo = PRIMER_LEGAJO + empleados.cantidad();
+		this.proximoNumeroProyecto = PRIMER_NUMERO_PROYECTO + proyectos.cantidad();
+		this.publicador = new SubmissionPublisher<>(ForkJoinPool.commonPool(), CAPACIDAD_BUFFER_EVENTOS);
+		this.cadenas = new PoolCadenas();
+		this.clientes = new RegistroClientes(cadenas);
+		this.proyectosPorEstado = new ContadorEstados<>(EstadoProyecto.class);
+		this.tareasPorEstado = new ContadorEstados<>(EstadoTarea.class);
+		this.busquedaEmpleados = new IndiceBusqueda(ReporteMemoria.BUSQUEDA_EMPLEADOS);
+		this.busquedaProyectos = new IndiceBusqueda(ReporteMemoria.BUSQUEDA_PROYECTOS);
+		this.archivados = archivados;
+		registrarExistentes();
+		this.metricas = new RegistroMetricas();
+		metricas.registrarIndicador("empleados_libres", this::contarEmpleadosLibres);
+		metricas.registrarIndicador("proyectos_activos", () -> proyectosPorEstado.get(EstadoProyecto.ACTIVO));
+		metricas.registrarIndicador("dias_retraso_totales", () -> diasRetrasoTotales);
+	}
+
+	/**
+	 * Con repositorios que ya traen datos, arma el registro de clientes, los
+	 * contadores por estado y los indices de busqueda a partir de ellos.
+	 */
+	private void registrarExistentes() {
+		int cantidadEmpleados = empleados.cantidad();
+		for (int i = 0; i < cantidadEmpleados; i++) {
+			Empleado e = empleados.obtener(i);
+			busquedaEmpleados.agregar(e.getNumeroLegajo(), e.getNombre());
+		}
+		for (Proyecto p : proyectos.todos()) {
+			registrarExistente(p, true);
+		}
+		if (archivados != null) {
+			// Los archivados siguen contando para clientes y estados, pero no se buscan.
+			archivados.recorrer((numero, p) -> registrarExistente(p, false));
+		}
+	}
+
+	private void registrarExistente(Proyecto p, boolean buscable) {
+		// Con proyectos eliminados la cantidad ya no alcanza para el proximo numero.
+		proximoNumeroProyecto = Math.max(proximoNumeroProyecto, p.getNumeroProyecto() + 1);
+		Cliente c = p.getCliente();
+		Cliente compartido = clientes.obtener(c.getNombre(), c.getTelefono(), c.getEmail());
+		compartido.agregarProyecto(p.getNumeroProyecto());
+		p.setCliente(compartido);
+		if (buscable) {
+			busquedaProyectos.agregar(p.getNumeroProyecto(), p.getDireccionVivienda() + " " + compartido.getNombre());
+		}
+		proyectosPorEstado.sumar(p.getEstado());
+		p.recorrerTareas((i, t) -> {
+			tareasPorEstado.sumar(t.getEstado());
+			diasRetrasoTotales += t.getDiasDeRetraso();
+		});
+	}
+
+	private double contarEmpleadosLibres() {
+		int libres = 0;
+		int cantidad = empleados.cantidad();
+		for (int i = 0; i < cantidad; i++) {
+			if (empleados.obtener(i).isEstaDisponible()) {
+				libres++;
+			}
+		}
+		return libres;
+	}
+
+	/**
+	 * @return cantidad de proyectos en ese estado, mantenida en cada transicion.
+	 */
+	public long cantidadProyectos(EstadoProyecto estado) {
+		return proyectosPorEstado.get(estado);
+	}
+
+	/**
+	 * @return cantidad de tareas en ese estado, sumando todos los proyectos.
+	 */
+	public long cantidadTareas(EstadoTarea estado) {
+		return tareasPorEstado.get(estado);
+	}
+
+	/**
+	 * Publicador de los cambios del sistema (altas, tareas agregadas, asignaciones,
+	 * retrasos, finalizaciones). Cada suscriptor tiene su propio buffer de
+	 * CAPACIDAD_BUFFER_EVENTOS eventos y los recibe en orden.
+	 *
+	 * Las operaciones nunca esperan a un suscriptor atrasado: si su buffer esta
+	 * lleno, el evento se descarta para ese suscriptor (ver eventosDescartados()).
+	 * Cada cambio consume una secuencia haya o no suscriptores, asi un salto en
+	 * getSecuencia() indica eventos perdidos y conviene volver a leer el estado.
+	 */
+	@Override
+	public Flow.Publisher<EventoDominio> publicadorEventos() {
+		return publicador;
+	}
+
+	@Override
+	public long ultimaSecuenciaEventos() {
+		return secuenciaEventos.get();
+	}
+
+	/**
+	 * @return cuantas veces se descarto un evento por tener lleno el buffer de un suscriptor.
+	 */
+	public long eventosDescartados() {
+		return eventosDescartados.get();
+	}
+
+	/**
+	 * Los indicadores son empleados_libres (recorre los empleados),
+	 * proyectos_activos y dias_retraso_totales.
+	 */
+	@Override
+	public RegistroMetricas.Instantanea metricas() {
+		return metricas.instantanea();
+	}
+
+	/**
+	 * Deja de publicar eventos y avisa onComplete a los suscriptores.
+	 */
+	public void cerrarEventos() {
+		publicador.close();
+	}
+
+	/**
+	 * A partir de ahora cada operacion que modifica el sistema se registra en la bitacora
+	 * despues de aplicarse con exito. Con null se deja de registrar.
+	 */
+	public void setBitacora(BitacoraOperaciones bitacora) {
+		this.bitacora = bitacora;
+	}
+
+	/**
+	 * A partir de ahora cada empleado o proyecto que cambia se marca en el registro,
+	 * para que GestorPuntosDeControl guarde solo esos. Con null se deja de marcar.
+	 */
+	public void setRegistroModificaciones(RegistroModificaciones modificaciones) {
+		this.modificaciones = modificaciones;
+	}
+
+	/**
+	 * Limita cuantas asignaciones guarda en memoria cada tarea; las mas viejas
+	 * van al archivo del limite. Aplica a las asignaciones siguientes.
+	 */
+	public void setLimiteHistorial(LimiteHistorial limite) {
+		if (limite == null) {
+			throw new IllegalArgumentException("El limite del historial no puede ser nulo.");
+		}
+		this.limiteHistorial = limite;
+	}
+
+	private void cerrarAsignacion(EventoJfr.Asignacion evento, int numero, String titulo, boolean menosRetraso,
+			boolean exito) {
+		if (evento != null && evento.shouldCommit()) {
+			evento.numeroProyecto = numero;
+			evento.titulo = titulo;
+			evento.legajo = legajoResponsable(numero, titulo);
+			evento.menosRetraso = menosRetraso;
+			evento.exito = exito;
+			evento.commit();
+		}
+	}
+
+	private void cerrarReasignacion(EventoJfr.Reasignacion evento, int numero, String titulo, int anterior,
+			boolean menosRetraso, boolean exito) {
+		if (evento != null && evento.shouldCommit()) {
+			evento.numeroProyecto = numero;
+			evento.titulo = titulo;
+			evento.legajoAnterior = anterior;
+			evento.legajo = legajoResponsable(numero, titulo);
+			evento.menosRetraso = menosRetraso;
+			evento.exito = exito;
+			evento.commit();
+		}
+	}
+
+	/**
+	 * Solo se emite si la consulta supero el umbral del evento.
+	 */
+	private void cerrarConsulta(EventoJfr.ConsultaLenta evento, OperacionMedida operacion, int numero,
+			boolean exito) {
+		if (evento != null && evento.shouldCommit()) {
+			evento.operacion = operacion.name();
+			evento.numeroProyecto = numero;
+			evento.exito = exito;
+			evento.commit();
+		}
+	}
+
+	/**
+	 * Legajo del responsable actual de la tarea, o 0 si no tiene. Solo se usa
+	 * para completar los eventos JFR cuando hay una grabacion activa.
+	 */
+	private int legajoResponsable(int numero, String titulo) {
+		Proyecto proyecto = buscarProyecto(numero);
+		ITarea tarea = proyecto == null ? null : proyecto.buscarTarea(titulo, true);
+		Empleado responsable = tarea == null ? null : tarea.getResponsable();
+		return responsable == null ? 0 : responsable.getNumeroLegajo();
+	}
+
+	private boolean hayInteresados() {
+		return publicador.hasSubscribers();
+	}
+
+	private void publicar(EventoDominio evento) {
+		publicador.offer(evento, alDescartar);
+	}
+
+	private long siguienteSecuencia() {
+		return secuenciaEventos.incrementAndGet();
+	}
+
+	private Proyecto buscarProyecto(Integer numero) {
+		return numero == null ? null : buscarProyecto(numero.intValue());
+	}
+
+	/**
+	 * Busca en el repositorio y, si no esta, entre los proyectos archivados.
+	 * Solo para consultas: un archivado es una copia y sus cambios no se guardan.
+	 */
+	private Proyecto buscarProyecto(int numero) {
+		Proyecto proyecto = proyectos.buscar(numero);
+		if (proyecto == null && archivados != null) {
+			proyecto = archivados.buscar(numero);
+		}
+		return proyecto;
+	}
+
+	/**
+	 * Busca solo en el repositorio, para las operaciones que modifican el proyecto.
+	 */
+	private Proyecto buscarProyectoModificable(int numero) {
+		return proyectos.buscar(numero);
+	}
+
+	private Proyecto buscarProyectoModificable(Integer numero) {
+		return numero == null ? null : buscarProyectoModificable(numero.intValue());
+	}
+
+	private boolean estaArchivado(int numero) {
+		return archivados != null && archivados.contiene(numero);
+	}
+
+	private void verificarNoArchivado(Integer numero) {
+		if (numero != null && estaArchivado(numero.intValue())) {
+			throw new IllegalArgumentException("El proyecto " + numero + " esta archivado y no admite cambios.");
+		}
+	}
+
+	/**
+	 * Los numeros y legajos validos nunca son negativos, asi que null se trata como uno inexistente.
+	 */
+	private static int aEntero(Integer id) {
+		return id == null ? -1 : id;
+	}
+
+	private Empleado buscarEmpleado(Integer legajo) {
+		return legajo == null ? null : empleados.buscar(legajo);
+	}
+
+	/**
+	 * Persiste un proyecto modificado y los empleados que cambiaron con el.
+	 * Con los repositorios en memoria no hace nada.
+	 */
+	private void guardarCambios(Proyecto proyecto, Empleado... afectados) {
+		for (Empleado e : afectados) {
+			if (e != null) {
+				empleados.actualizar(e);
+				if (modificaciones != null) {
+					modificaciones.marcarEmpleado(e.getNumeroLegajo());
+				}
+			}
+		}
+		proyectos.actualizar(proyecto);
+		if (modificaciones != null) {
+			modificaciones.marcarProyecto(proyecto.getNumeroProyecto());
+		}
 	}
 
 	@Override
 	public void registrarEmpleado(String nombre, double valor) throws IllegalArgumentException {
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			registrarContratado(nombre, valor);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.REGISTRAR_EMPLEADO, inicioNanos, exito);
+		}
+	}
+
+	private void registrarContratado(String nombre, double valor) {
 		if (nombre == null || nombre.trim().isEmpty() || valor < 0) {
 			throw new IllegalArgumentException("El nombre o valor son invalidos.");
 		}
@@ -36,24 +356,55 @@ public class HomeSolution implements IHomeSolution {
 
 		Empleado nuevoEmpleado = new EmpleadoContratado(nombre, nuevoLegajo, valor);
 
-		empleadosPorLegajo.put(nuevoLegajo, nuevoEmpleado);
-		todosLosEmpleados.add(nuevoEmpleado);
+		empleados.guardar(nuevoEmpleado);
+		if (modificaciones != null) {
+			modificaciones.marcarEmpleado(nuevoLegajo);
+		}
+		busquedaEmpleados.agregar(nuevoLegajo, nombre);
+		if (bitacora != null) {
+			bitacora.registrarEmpleado(nombre, valor);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.EmpleadoRegistrado(secuencia, nuevoLegajo, nombre));
+		}
 
 		System.out.println("El empleado contratado ha sido registrado: " + nombre + "(Legajo: " + nuevoLegajo + ")");
 	}
 
 	@Override
 	public void registrarEmpleado(String nombre, double valor, String categoria) throws IllegalArgumentException {
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			registrarPlanta(nombre, valor, categoria);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.REGISTRAR_EMPLEADO, inicioNanos, exito);
+		}
+	}
+
+	private void registrarPlanta(String nombre, double valor, String categoria) {
 		if (nombre == null || nombre.trim().isEmpty() || valor < 0 || categoria == null || categoria.trim().isEmpty()) {
 			throw new IllegalArgumentException("Los parametros de Empleado Planta son invalidos. ");
 		}
 
 		int nuevoLegajo = proximoLegajo++;
 
-		Empleado nuevoEmpleado = new EmpleadoPlanta(nombre, nuevoLegajo, valor, categoria);
+		Empleado nuevoEmpleado = new EmpleadoPlanta(nombre, nuevoLegajo, valor, cadenas.internar(categoria));
 
-		empleadosPorLegajo.put(nuevoLegajo, nuevoEmpleado);
-		todosLosEmpleados.add(nuevoEmpleado);
+		empleados.guardar(nuevoEmpleado);
+		if (modificaciones != null) {
+			modificaciones.marcarEmpleado(nuevoLegajo);
+		}
+		busquedaEmpleados.agregar(nuevoLegajo, nombre);
+		if (bitacora != null) {
+			bitacora.registrarEmpleado(nombre, valor, categoria);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.EmpleadoRegistrado(secuencia, nuevoLegajo, nombre));
+		}
 
 		System.out.println("Empleado de planta registrado: " + nombre + " (Legajo: " + nuevoLegajo + ")");
 	}
@@ -61,6 +412,18 @@ public class HomeSolution implements IHomeSolution {
 	@Override
 	public void registrarProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
 			String[] cliente, String inicio, String fin) throws IllegalArgumentException {
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			crearProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.REGISTRAR_PROYECTO, inicioNanos, exito);
+		}
+	}
+
+	private void crearProyecto(String[] titulos, String[] descripcion, double[] dias, String domicilio,
+			String[] cliente, String inicio, String fin) {
 
 		if (titulos == null || titulos.length == 0 || dias == null || dias.length != titulos.length || cliente == null
 				|| cliente.length < 3) {
@@ -68,69 +431,118 @@ public class HomeSolution implements IHomeSolution {
 
 		}
 
-		Cliente nuevoCliente = new Cliente(cliente[0], cliente[1], cliente[2]);
-
-		LocalDate fechaInicio;
-		try {
-			DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-			fechaInicio = LocalDate.parse(inicio, formatter);
-		} catch (Exception e) {
-			throw new IllegalArgumentException("Formato de fecha de inicio invalido. Por favor, use YYYY-MM-DD");
+		LocalDate fechaInicio = ParserFechas.parsear(inicio,
+				"Formato de fecha de inicio invalido. Por favor, use YYYY-MM-DD");
+		if (fin != null && !fin.isEmpty()) {
+			LocalDate fechaFin = ParserFechas.parsear(fin,
+					"Formato de fecha de fin invalido. Por favor, use YYYY-MM-DD");
+			if (fechaFin.isBefore(fechaInicio)) {
+				throw new IllegalArgumentException("La fecha de fin no puede ser anterior a la de inicio.");
+			}
+		}
 
+		for (int i = 0; i < titulos.length; i++) {
+			if (dias[i] <= 0) {
+				throw new IllegalArgumentException("La duracion de la tarea " + titulos[i] + " deber ser positiva.");
+			}
 		}
 
+		// Recien con todo validado: un proyecto rechazado no deja clientes ni cadenas registrados.
+		Cliente nuevoCliente = clientes.obtener(cliente[0], cliente[1], cliente[2]);
 		int numProyecto = proximoNumeroProyecto++;
 
-		Proyecto nuevoProyecto = new Proyecto(numProyecto, nuevoCliente, domicilio, fechaInicio);
+		AlmacenTareasColumnar almacen = titulos.length >= Proyecto.UMBRAL_TAREAS_COLUMNAR
+				? new AlmacenTareasColumnar(empleados, cadenas, titulos.length)
+				: null;
+		Proyecto nuevoProyecto = new Proyecto(numProyecto, nuevoCliente, cadenas.internar(domicilio), fechaInicio,
+				almacen);
 
 		for (int i = 0; i < titulos.length; i++) {
 			String titulo = titulos[i];
 			String desc = (descripcion != null && i < descripcion.length) ? descripcion[i] : "Sin descripcion";
-			double duracionDias = dias[i];
-
-			if (duracionDias <= 0) {
-				throw new IllegalArgumentException("La duracion de la tarea " + titulo + " deber ser positiva.");
-			}
-
-			Tarea nuevaTarea = new Tarea(titulo, desc, duracionDias);
 
-			nuevoProyecto.agregarTarea(nuevaTarea);
+			nuevoProyecto.agregarTarea(titulo, desc, dias[i]);
 		}
 
-		proyectosPorNumero.put(numProyecto, nuevoProyecto);
-		todosLosProyectos.add(nuevoProyecto);
+		proyectos.guardar(nuevoProyecto);
+		if (modificaciones != null) {
+			modificaciones.marcarProyecto(numProyecto);
+		}
+		proyectosPorEstado.sumar(nuevoProyecto.getEstado());
+		tareasPorEstado.sumar(EstadoTarea.PENDIENTE, titulos.length);
+		nuevoCliente.agregarProyecto(numProyecto);
+		busquedaProyectos.agregar(numProyecto, domicilio + " " + nuevoCliente.getNombre());
+		if (bitacora != null) {
+			bitacora.registrarProyecto(titulos, descripcion, dias, domicilio, cliente, inicio, fin);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.ProyectoRegistrado(secuencia, numProyecto,
+					nuevoProyecto.getDireccionVivienda(), nuevoProyecto.getEstado()));
+		}
 
 		System.out.println("Proyecto " + numProyecto + " registrado con " + titulos.length + " tareas.");
 	}
 
 	@Override
 	public void asignarResponsableEnTarea(Integer numero, String titulo) throws Exception {
+		asignarResponsableEnTarea(aEntero(numero), titulo);
+	}
 
-		Proyecto proyecto = proyectosPorNumero.get(numero);
-		if (proyecto == null) {
+	@Override
+	public void asignarResponsableEnTarea(int numero, String titulo) throws Exception {
+		switch (asignarPrimeroDisponible(numero, titulo, true)) {
+		case PROYECTO_NO_ENCONTRADO:
 			throw new Exception("El proyecto numero: " + numero + " no fue encontrado.");
+		case TAREA_NO_ENCONTRADA:
+			throw new Exception("Error: Tarea: " + titulo + "no fue encontrada en el Proyecto " + numero + ".");
+		case TAREA_FINALIZADA:
+			throw new Exception("La tarea '" + titulo + "' ya fue finalizada.");
+		case SIN_EMPLEADOS_DISPONIBLES:
+			throw new Exception("No hay empleados disponibles en este momento");
+		default:
+			break;
 		}
+	}
 
-		Tarea tareaParaAsignar = null;
+	@Override
+	public ResultadoOperacion intentarAsignarResponsableEnTarea(int numero, String titulo) {
+		return asignarPrimeroDisponible(numero, titulo, false);
+	}
 
-		for (Tarea t : proyecto.getListaTareas()) {
-			if (t.getTitulo().equalsIgnoreCase(titulo)) {
-				tareaParaAsignar = t;
-				break;
-			}
+	private ResultadoOperacion asignarPrimeroDisponible(int numero, String titulo, boolean informar) {
+		EventoJfr.Asignacion evento = EventoJfr.Asignacion.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			ResultadoOperacion resultado = asignarPrimerLibre(numero, titulo, informar);
+			exito = resultado.esExito();
+			return resultado;
+		} finally {
+			metricas.registrar(OperacionMedida.ASIGNAR, inicioNanos, exito);
+			cerrarAsignacion(evento, numero, titulo, false, exito);
+		}
+	}
+
+	private ResultadoOperacion asignarPrimerLibre(int numero, String titulo, boolean informar) {
+		Proyecto proyecto = buscarProyectoModificable(numero);
+		if (proyecto == null) {
+			return estaArchivado(numero) ? ResultadoOperacion.PROYECTO_FINALIZADO
+					: ResultadoOperacion.PROYECTO_NO_ENCONTRADO;
 		}
 
+		ITarea tareaParaAsignar = proyecto.buscarTarea(titulo, true);
 		if (tareaParaAsignar == null) {
-			throw new Exception("Error: Tarea: " + titulo + "no fue encontrada en el Proyecto " + numero + ".");
+			return ResultadoOperacion.TAREA_NO_ENCONTRADA;
+		}
+		if (tareaParaAsignar.getEstado() == EstadoTarea.FINALIZADA) {
+			return ResultadoOperacion.TAREA_FINALIZADA;
 		}
 
 		Empleado empleadoDisponible = null;
-
-		Iterator<Empleado> iteradorEmpleados = todosLosEmpleados.iterator();
-
-		while (iteradorEmpleados.hasNext()) {
-			Empleado e = iteradorEmpleados.next();
-
+		int cantidad = empleados.cantidad();
+		for (int i = 0; i < cantidad; i++) {
+			Empleado e = empleados.obtener(i);
 			if (e.isEstaDisponible()) {
 				empleadoDisponible = e;
 				break;
@@ -138,38 +550,91 @@ public class HomeSolution implements IHomeSolution {
 		}
 
 		if (empleadoDisponible == null) {
-			throw new Exception("No hay empleados disponibles en este momento");
+			return ResultadoOperacion.SIN_EMPLEADOS_DISPONIBLES;
 		}
 
-		tareaParaAsignar.asignarEmpleado(empleadoDisponible);
+		Empleado anterior = tareaParaAsignar.getResponsable();
+		EstadoTarea estadoAnterior = tareaParaAsignar.getEstado();
+		tareaParaAsignar.asignarEmpleado(empleadoDisponible, limiteHistorial, numero);
+		tareasPorEstado.mover(estadoAnterior, EstadoTarea.ASIGNADA);
+		guardarCambios(proyecto, anterior, empleadoDisponible);
+		if (bitacora != null) {
+			bitacora.registrarAsignacion(numero, titulo);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.EmpleadoAsignado(secuencia, numero, titulo,
+					empleadoDisponible.getNumeroLegajo()));
+		}
 
-		System.out.println(
-				empleadoDisponible.getNombre() + " asignado a la tarea: " + titulo + " del Proyecto " + numero + ".");
+		if (informar) {
+			System.out.println(
+					empleadoDisponible.getNombre() + " asignado a la tarea: " + titulo + " del Proyecto " + numero + ".");
+		}
+		return ResultadoOperacion.OK;
 	}
 
 	@Override
 	public void asignarResponsableMenosRetraso(Integer numero, String titulo) throws Exception {
-		Proyecto proyecto = proyectosPorNumero.get(numero);
-		if (proyecto == null) {
+		asignarResponsableMenosRetraso(aEntero(numero), titulo);
+	}
+
+	@Override
+	public void asignarResponsableMenosRetraso(int numero, String titulo) throws Exception {
+		switch (asignarMenosRetraso(numero, titulo, true)) {
+		case PROYECTO_NO_ENCONTRADO:
 			throw new Exception("Proyecto numero: " + numero + "no encontrado.");
+		case TAREA_NO_ENCONTRADA:
+			throw new Exception("Error: La tarea ya tiene un empleado responsable.");
+		case TAREA_FINALIZADA:
+			throw new Exception("La tarea '" + titulo + "' ya fue finalizada.");
+		case SIN_EMPLEADOS_DISPONIBLES:
+			throw new Exception("Error: No hay empleados disponibles para asignar a la tarea.");
+		default:
+			break;
 		}
+	}
 
-		Tarea tareaParaAsignar = null;
-		for (Tarea t : proyecto.getListaTareas()) {
-			if (t.getTitulo().equals(titulo)) {
-				tareaParaAsignar = t;
-				break;
-			}
+	@Override
+	public ResultadoOperacion intentarAsignarResponsableMenosRetraso(int numero, String titulo) {
+		return asignarMenosRetraso(numero, titulo, false);
+	}
+
+	private ResultadoOperacion asignarMenosRetraso(int numero, String titulo, boolean informar) {
+		EventoJfr.Asignacion evento = EventoJfr.Asignacion.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			ResultadoOperacion resultado = asignarConMenosRetraso(numero, titulo, informar);
+			exito = resultado.esExito();
+			return resultado;
+		} finally {
+			metricas.registrar(OperacionMedida.ASIGNAR_MENOS_RETRASO, inicioNanos, exito);
+			cerrarAsignacion(evento, numero, titulo, true, exito);
+		}
+	}
+
+	private ResultadoOperacion asignarConMenosRetraso(int numero, String titulo, boolean informar) {
+		Proyecto proyecto = buscarProyectoModificable(numero);
+		if (proyecto == null) {
+			return estaArchivado(numero) ? ResultadoOperacion.PROYECTO_FINALIZADO
+					: ResultadoOperacion.PROYECTO_NO_ENCONTRADO;
 		}
 
+		ITarea tareaParaAsignar = proyecto.buscarTarea(titulo, false);
 		if (tareaParaAsignar == null) {
-			throw new Exception("Error: La tarea ya tiene un empleado responsable.");
+			return ResultadoOperacion.TAREA_NO_ENCONTRADA;
+		}
+		if (tareaParaAsignar.getEstado() == EstadoTarea.FINALIZADA) {
+			return ResultadoOperacion.TAREA_FINALIZADA;
 		}
 
 		Empleado mejorCandidato = null;
 		int minRetrasos = Integer.MAX_VALUE;
+		int cantidad = empleados.cantidad();
 
-		for (Empleado empleado : todosLosEmpleados) {
+		for (int i = 0; i < cantidad; i++) {
+			Empleado empleado = empleados.obtener(i);
 
 			if (empleado.isEstaDisponible()) {
 
@@ -188,34 +653,68 @@ public class HomeSolution implements IHomeSolution {
 		}
 
 		if (mejorCandidato == null) {
-			throw new Exception("Error: No hay empleados disponibles para asignar a la tarea.");
+			return ResultadoOperacion.SIN_EMPLEADOS_DISPONIBLES;
 		}
 
-		tareaParaAsignar.asignarEmpleado(mejorCandidato);
-
-		System.out.println("Responsable " + mejorCandidato.getNombre() + "Retrasos: " + minRetrasos
-				+ ") asignado a la tarea: " + titulo + "del Proyecto " + numero + ".");
+		Empleado anterior = tareaParaAsignar.getResponsable();
+		EstadoTarea estadoAnterior = tareaParaAsignar.getEstado();
+		tareaParaAsignar.asignarEmpleado(mejorCandidato, limiteHistorial, numero);
+		tareasPorEstado.mover(estadoAnterior, EstadoTarea.ASIGNADA);
+		guardarCambios(proyecto, anterior, mejorCandidato);
+		if (bitacora != null) {
+			bitacora.registrarAsignacionMenosRetraso(numero, titulo);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.EmpleadoAsignado(secuencia, numero, titulo,
+					mejorCandidato.getNumeroLegajo()));
+		}
 
+		if (informar) {
+			System.out.println("Responsable " + mejorCandidato.getNombre() + "Retrasos: " + minRetrasos
+					+ ") asignado a la tarea: " + titulo + "del Proyecto " + numero + ".");
+		}
+		return ResultadoOperacion.OK;
 	}
 
 	@Override
 	public void registrarRetrasoEnTarea(Integer numero, String titulo, double cantidadDias) {
+		registrarRetrasoEnTarea(aEntero(numero), titulo, cantidadDias);
+	}
+
+	@Override
+	public void registrarRetrasoEnTarea(int numero, String titulo, double cantidadDias) {
+		EventoJfr.Retraso evento = EventoJfr.Retraso.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			aplicarRetraso(numero, titulo, cantidadDias);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.REGISTRAR_RETRASO, inicioNanos, exito);
+			if (evento != null && evento.shouldCommit()) {
+				evento.numeroProyecto = numero;
+				evento.titulo = titulo;
+				evento.legajo = legajoResponsable(numero, titulo);
+				evento.dias = cantidadDias;
+				evento.exito = exito;
+				evento.commit();
+			}
+		}
+	}
+
+	private void aplicarRetraso(int numero, String titulo, double cantidadDias) {
 		if (cantidadDias <= 0) {
 			throw new IllegalArgumentException("La cantidad de dias de retraso debe ser positivo");
 		}
 
-		Proyecto proyecto = proyectosPorNumero.get(numero);
+		Proyecto proyecto = buscarProyectoModificable(numero);
 		if (proyecto == null) {
+			verificarNoArchivado(numero);
 			throw new IllegalArgumentException("Proyecto " + numero + " no encontrado.");
 		}
 
-		Tarea tareaAfectada = null;
-		for (Tarea t : proyecto.getListaTareas()) {
-			if (t.getTitulo().equalsIgnoreCase(titulo)) {
-				tareaAfectada = t;
-				break;
-			}
-		}
+		ITarea tareaAfectada = proyecto.buscarTarea(titulo, true);
 		if (tareaAfectada == null) {
 			throw new IllegalArgumentException("Tarea " + titulo + " no encontrada en Proyecto " + numero + ".");
 		}
@@ -227,7 +726,17 @@ public class HomeSolution implements IHomeSolution {
 		}
 		tareaAfectada.registrarRetraso(cantidadDias);
 		responsable.registrarRetraso();
+		diasRetrasoTotales += cantidadDias;
 		proyecto.actualizarFechaFinRealPorRetraso(cantidadDias);
+		guardarCambios(proyecto, responsable);
+		if (bitacora != null) {
+			bitacora.registrarRetraso(numero, titulo, cantidadDias);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.RetrasoRegistrado(secuencia, numero, titulo,
+					responsable.getNumeroLegajo(), cantidadDias));
+		}
 
 		System.out.println("Retraso de " + cantidadDias + " dias registrado en la tarea " + titulo + ".");
 		System.out.println("La nueva fecha de fin real del proyecto " + numero + " ha sido actualizada.");
@@ -236,83 +745,216 @@ public class HomeSolution implements IHomeSolution {
 	@Override
 	public void agregarTareaEnProyecto(Integer numero, String titulo, String descripcion, double dias)
 			throws IllegalArgumentException {
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			agregarTarea(numero, titulo, descripcion, dias);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.AGREGAR_TAREA, inicioNanos, exito);
+		}
+	}
+
+	private void agregarTarea(Integer numero, String titulo, String descripcion, double dias) {
 		if (dias <= 0) {
 			throw new IllegalArgumentException("La duracion de la nueva tarea debe ser un valor positivo");
 		}
 
-		Proyecto proyecto = proyectosPorNumero.get(numero);
+		Proyecto proyecto = buscarProyectoModificable(numero);
 		if (proyecto == null) {
+			verificarNoArchivado(numero);
 			throw new IllegalArgumentException("Proyecto " + numero + " no encontrado.");
 		}
 
+		EstadoProyecto estadoAnterior = proyecto.getEstado();
+		try {
+			proyecto.agregarTarea(titulo, descripcion, dias);
+		} catch (IllegalStateException e) {
+			throw new IllegalArgumentException(e.getMessage());
+		}
+		proyectosPorEstado.mover(estadoAnterior, proyecto.getEstado());
+		tareasPorEstado.sumar(EstadoTarea.PENDIENTE);
+		guardarCambios(proyecto);
+		if (bitacora != null) {
+			bitacora.registrarTareaAgregada(numero, titulo, descripcion, dias);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.TareaAgregada(secuencia, numero, titulo, dias));
+		}
+
 		System.out.println("Tarea " + titulo + "agregada al Proyecto " + numero + ".");
 		System.out.println("Fechas de finalizacion actualizadas.");
 	}
 
 	@Override
 	public void finalizarTarea(Integer numero, String titulo) throws Exception {
-	    
-	    Proyecto proyecto = proyectosPorNumero.get(numero);
-	    if (proyecto == null) {
+		finalizarTarea(aEntero(numero), titulo);
+	}
+
+	@Override
+	public void finalizarTarea(int numero, String titulo) throws Exception {
+	    switch (finalizarTareaEn(numero, titulo, true)) {
+	    case PROYECTO_NO_ENCONTRADO:
 	        throw new Exception("Error: Proyecto N° " + numero + " no encontrado.");
+	    case TAREA_NO_ENCONTRADA:
+	        throw new Exception("La Tarea '" + titulo + "' no fue encontrada en Proyecto N° " + numero + ".");
+	    case PROYECTO_FINALIZADO:
+	        throw new IllegalStateException("El Proyecto N° " + numero + " ya esta finalizado.");
+	    case TAREA_FINALIZADA:
+	        throw new Exception("La tarea '" + titulo + "' ya fue hecha.");
+	    case TAREA_SIN_RESPONSABLE:
+	        throw new Exception ("La tarea no tiene empleado responsable.");
+	    default:
+	        break;
 	    }
+	}
+
+	@Override
+	public ResultadoOperacion intentarFinalizarTarea(int numero, String titulo) {
+	    return finalizarTareaEn(numero, titulo, false);
+	}
+
+	private ResultadoOperacion finalizarTareaEn(int numero, String titulo, boolean informar) {
+		EventoJfr.FinalizacionTarea evento = EventoJfr.FinalizacionTarea.iniciar();
+		// Al finalizar la tarea se libera el responsable: el legajo se toma antes.
+		int legajo = evento != null ? legajoResponsable(numero, titulo) : 0;
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			ResultadoOperacion resultado = completarTarea(numero, titulo, informar);
+			exito = resultado.esExito();
+			return resultado;
+		} finally {
+			metricas.registrar(OperacionMedida.FINALIZAR_TAREA, inicioNanos, exito);
+			if (evento != null && evento.shouldCommit()) {
+				evento.numeroProyecto = numero;
+				evento.titulo = titulo;
+				evento.legajo = legajo;
+				evento.exito = exito;
+				evento.commit();
+			}
+		}
+	}
+
+	private ResultadoOperacion completarTarea(int numero, String titulo, boolean informar) {
 	    
-	    Tarea tareaAFinalizar = null;
-	    for(Tarea t : proyecto.getListaTareas()) {
-	        if (t.getTitulo().equalsIgnoreCase(titulo)) {
-	            tareaAFinalizar = t;
-	            break;
-	        }
+	    Proyecto proyecto = buscarProyectoModificable(numero);
+	    if (proyecto == null) {
+	        return estaArchivado(numero) ? ResultadoOperacion.PROYECTO_FINALIZADO
+	            : ResultadoOperacion.PROYECTO_NO_ENCONTRADO;
 	    }
 	    
+	    ITarea tareaAFinalizar = proyecto.buscarTarea(titulo, true);
+	    
 	    if(tareaAFinalizar == null) {
-	        throw new Exception("La Tarea '" + titulo + "' no fue encontrada en Proyecto N° " + numero + ".");
+	        return ResultadoOperacion.TAREA_NO_ENCONTRADA;
 	    }
 	    
+	    if (proyecto.getEstado() == EstadoProyecto.FINALIZADO) {
+	        return ResultadoOperacion.PROYECTO_FINALIZADO;
+	    }
+
 	    if (tareaAFinalizar.isTareaTerminada()) {
-	        throw new Exception("La tarea '" + titulo + "' ya fue hecha.");
+	        return ResultadoOperacion.TAREA_FINALIZADA;
 	    }
 	    
 	    Empleado responsable = tareaAFinalizar.getResponsable();
 	    if (responsable == null) {
-	        throw new Exception ("La tarea no tiene empleado responsable.");
+	        return ResultadoOperacion.TAREA_SIN_RESPONSABLE;
 	    }
 	    
+	    EstadoTarea estadoTarea = tareaAFinalizar.getEstado();
 	    tareaAFinalizar.establecerTareaFinalizada();
+	    tareasPorEstado.mover(estadoTarea, EstadoTarea.FINALIZADA);
 	    
-	    System.out.println("Tarea '" + titulo + "' finalizada con éxito.");
-	    System.out.println("El responsable " + responsable.getNombre() + " ya se encuentra disponible.");
+	    if (informar) {
+	        System.out.println("Tarea '" + titulo + "' finalizada con éxito.");
+	        System.out.println("El responsable " + responsable.getNombre() + " ya se encuentra disponible.");
+	    }
 	    
+	    boolean proyectoFinalizado = false;
 	    if (proyecto.verificarTareasCompletadas()) {
 	        
-	        proyecto.establecerProyectoFinalizado(); 
-	     
+	        EstadoProyecto estadoProyecto = proyecto.getEstado();
+	        proyectoFinalizado = estadoProyecto != EstadoProyecto.FINALIZADO;
+	        try {
+	            proyecto.establecerProyectoFinalizado();
+	        } catch (Exception e) {
+	            // Recien se verifico que no quedan tareas pendientes.
+	            throw new IllegalStateException(e);
+	        }
+	        proyectosPorEstado.mover(estadoProyecto, proyecto.getEstado());
 	        
-	        System.out.println("🎉 Proyecto N°" + numero + " FINALIZADO con éxito.");
+	        if (informar) {
+	            System.out.println("🎉 Proyecto N°" + numero + " FINALIZADO con éxito.");
+	        }
+	    }
+	    guardarCambios(proyecto, responsable);
+	    if (bitacora != null) {
+	        bitacora.registrarFinalizacionTarea(numero, titulo);
 	    }
+	    long secuencia = siguienteSecuencia();
+	    long secuenciaProyecto = proyectoFinalizado ? siguienteSecuencia() : 0;
+	    if (hayInteresados()) {
+	        publicar(new EventoDominio.TareaFinalizada(secuencia, numero, tareaAFinalizar.getTitulo(),
+	                responsable.getNumeroLegajo(), tareaAFinalizar.getCostoTarea()));
+	        if (proyectoFinalizado) {
+	            publicar(new EventoDominio.ProyectoFinalizado(secuenciaProyecto, numero,
+	                    proyecto.getFechaFinReal(), proyecto.getCostoFinal()));
+	        }
+	    }
+	    return ResultadoOperacion.OK;
 	}
 
 	@Override
 	public void finalizarProyecto(Integer numero, String fin) throws IllegalArgumentException {
+		EventoJfr.FinalizacionProyecto evento = EventoJfr.FinalizacionProyecto.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			cerrarProyecto(numero, fin);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.FINALIZAR_PROYECTO, inicioNanos, exito);
+			if (evento != null && evento.shouldCommit()) {
+				Proyecto proyecto = buscarProyecto(numero);
+				evento.numeroProyecto = aEntero(numero);
+				evento.costoFinal = proyecto == null ? 0 : proyecto.getCostoFinal();
+				evento.exito = exito;
+				evento.commit();
+			}
+		}
+	}
 
-	    LocalDate fechaRealFin;
-	    try {
-
-	        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd"); 
-	        fechaRealFin = LocalDate.parse(fin, formatter);
-	    } catch (Exception e) {
+	private void cerrarProyecto(Integer numero, String fin) {
 
-	        throw new IllegalArgumentException("Formato de fecha de finalización inválido. Por favor, use YYYY-MM-DD.");
-	    }
+	    LocalDate fechaRealFin = ParserFechas.parsear(fin,
+	            "Formato de fecha de finalización inválido. Por favor, use YYYY-MM-DD.");
 	    
-	    Proyecto proyecto = proyectosPorNumero.get(numero);
+	    Proyecto proyecto = buscarProyectoModificable(numero);
 	    if (proyecto == null) {
+	        verificarNoArchivado(numero);
 	        throw new IllegalArgumentException("Error: Proyecto N° " + numero + " no encontrado.");
 	    }
 
 	    try {
 
+	        EstadoProyecto estadoAnterior = proyecto.getEstado();
+	        boolean yaFinalizado = estadoAnterior == EstadoProyecto.FINALIZADO;
 	        proyecto.establecerProyectoFinalizado(fechaRealFin);
+	        proyectosPorEstado.mover(estadoAnterior, proyecto.getEstado());
+	        guardarCambios(proyecto);
+	        if (bitacora != null) {
+	            bitacora.registrarFinalizacionProyecto(numero, fin);
+	        }
+	        if (!yaFinalizado) {
+	            long secuencia = siguienteSecuencia();
+	            if (hayInteresados()) {
+	                publicar(new EventoDominio.ProyectoFinalizado(secuencia, numero, fechaRealFin,
+	                        proyecto.getCostoFinal()));
+	            }
+	        }
 	        
 	        // 4. Resultado
 	        System.out.println("🎉 ÉXITO! El Proyecto N°" + numero + " ha sido FINALIZADO el " + fin + ".");
@@ -326,18 +968,33 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public void reasignarEmpleadoEnProyecto(Integer numero, Integer legajo, String titulo) throws Exception {
-		Proyecto proyecto = proyectosPorNumero.get(numero);
+		EventoJfr.Reasignacion evento = EventoJfr.Reasignacion.iniciar();
+		int anterior = evento != null ? legajoResponsable(aEntero(numero), titulo) : 0;
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			reasignarA(numero, legajo, titulo);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.REASIGNAR, inicioNanos, exito);
+			cerrarReasignacion(evento, aEntero(numero), titulo, anterior, false, exito);
+		}
+	}
+
+	private void reasignarA(Integer numero, Integer legajo, String titulo) throws Exception {
+		Proyecto proyecto = buscarProyectoModificable(numero);
 		if (proyecto == null) {
+			verificarNoArchivado(numero);
 			throw new Exception("Proyecto " + numero + "no encontrado.");
 		}
 
-		Tarea tareaAfectada = proyecto.getTareaPorTitulo(titulo);
+		ITarea tareaAfectada = proyecto.getTareaPorTitulo(titulo);
 		
 		if (tareaAfectada == null) {
 			throw new Exception("Tarea " + titulo + " no encontrada.");
 		}
 		
-		Empleado empleadoNuevo = empleadosPorLegajo.get(legajo);
+		Empleado empleadoNuevo = buscarEmpleado(legajo);
 		if (empleadoNuevo == null) {
 			throw new Exception("Empleado con legajo " + legajo + " no encontrado.");
 		}
@@ -351,7 +1008,18 @@ public class HomeSolution implements IHomeSolution {
 			throw new Exception("La tarea no tiene un empleado asignado previamente para reasignar.");
 		}
 
-		tareaAfectada.asignarEmpleado(empleadoNuevo);
+		EstadoTarea estadoAnterior = tareaAfectada.getEstado();
+		tareaAfectada.asignarEmpleado(empleadoNuevo, limiteHistorial, numero);
+		tareasPorEstado.mover(estadoAnterior, EstadoTarea.ASIGNADA);
+		guardarCambios(proyecto, responsableAnterior, empleadoNuevo);
+		if (bitacora != null) {
+			bitacora.registrarReasignacion(numero, legajo, titulo);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.EmpleadoReasignado(secuencia, numero, titulo,
+					responsableAnterior.getNumeroLegajo(), empleadoNuevo.getNumeroLegajo()));
+		}
 
 		System.out.println("Reasignacion de Empleado completa");
 		System.out.println("- Empleado Anterior: " + responsableAnterior.getNombre() + "(Liberado).");
@@ -360,12 +1028,27 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+		EventoJfr.Reasignacion evento = EventoJfr.Reasignacion.iniciar();
+		int anterior = evento != null ? legajoResponsable(aEntero(numero), titulo) : 0;
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			reasignarMenosRetraso(numero, titulo);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.REASIGNAR_MENOS_RETRASO, inicioNanos, exito);
+			cerrarReasignacion(evento, aEntero(numero), titulo, anterior, true, exito);
+		}
+	}
+
+	private void reasignarMenosRetraso(Integer numero, String titulo) throws Exception {
 		
-		Proyecto proyecto = proyectosPorNumero.get(numero);
+		Proyecto proyecto = buscarProyectoModificable(numero);
 		if (proyecto == null) {
+			verificarNoArchivado(numero);
 			throw new Exception("Proyecto " + numero + " no encontrado."); 
 		}
-		Tarea tareaAfectada = proyecto.getTareaPorTitulo(titulo);
+		ITarea tareaAfectada = proyecto.getTareaPorTitulo(titulo);
 		
 		if (tareaAfectada == null) {
 			throw new Exception("Tarea " + titulo + " no encontrada en proyecto " + numero + ".");
@@ -383,7 +1066,7 @@ public class HomeSolution implements IHomeSolution {
 		Empleado mejorCandidato = null;
 		int minRetrasos = Integer.MAX_VALUE;
 		
-		for (Empleado emp : empleadosPorLegajo.values()) {
+		for (Empleado emp : empleados.todos()) {
 			
 			if (emp.isEstaDisponible()) {
 				int retrasosActuales = emp.getCantRetrasos();
@@ -403,7 +1086,18 @@ public class HomeSolution implements IHomeSolution {
 			throw new Exception("No hay empleados disponibles para reasignar la tarea.");
 		}
 		
-		tareaAfectada.asignarEmpleado(mejorCandidato);
+		EstadoTarea estadoAnterior = tareaAfectada.getEstado();
+		tareaAfectada.asignarEmpleado(mejorCandidato, limiteHistorial, numero);
+		tareasPorEstado.mover(estadoAnterior, EstadoTarea.ASIGNADA);
+		guardarCambios(proyecto, responsableAnterior, mejorCandidato);
+		if (bitacora != null) {
+			bitacora.registrarReasignacionMenosRetraso(numero, titulo);
+		}
+		long secuencia = siguienteSecuencia();
+		if (hayInteresados()) {
+			publicar(new EventoDominio.EmpleadoReasignado(secuencia, numero, titulo,
+					responsableAnterior.getNumeroLegajo(), mejorCandidato.getNumeroLegajo()));
+		}
 		
 		System.out.println("Reasignacion de Empleado completa");
 		System.out.println("- Empleado Anterior: " + responsableAnterior.getNombre() + "(Liberado).");
@@ -413,7 +1107,7 @@ public class HomeSolution implements IHomeSolution {
 	/*@Override
 	public double costoProyecto(Integer numero) {
 		String numero = "";
-		Proyecto proyecto = proyectosPorNumero.get(numero);
+		Proyecto proyecto = buscarProyecto(numero);
 		
 		if (proyecto == null) {
 			return 0.0;
@@ -429,94 +1123,168 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public List<Tupla<Integer, String>> proyectosFinalizados() {
+		List<Tupla<Integer, String>> listaProyectosFinalizados = new ArrayList<>();
+		recorrerProyectosFinalizados((numero, domicilio) -> listaProyectosFinalizados.add(new Tupla<>(numero, domicilio)));
+		return listaProyectosFinalizados;
+	}
 
-	    List<Tupla<Integer, String>> listaProyectosFinalizados = new ArrayList<>();
+	@Override
+	public void recorrerProyectosFinalizados(ConsumidorIntObjeto<String> consumidor) {
+		recorrerProyectosEnEstado(EstadoProyecto.FINALIZADO, consumidor);
+		if (archivados != null) {
+			archivados.recorrerDirecciones(consumidor);
+		}
+	}
 
-	    for (Proyecto p : proyectosPorNumero.values()) {
-	        
-	        if (p.getEstado().equals(Estado.finalizado)) {
-	            
-	            listaProyectosFinalizados.add(new Tupla<>(
-	                p.getNumeroProyecto(), 
-	                p.getDireccionVivienda() 
-	            ));
-	        }
-	    }
-	    
-	    return listaProyectosFinalizados;
+	/**
+	 * Archiva los proyectos finalizados en el almacen actual, o en uno nuevo si
+	 * todavia no se archivo ninguno.
+	 * @see #archivarFinalizados(AlmacenArchivados)
+	 */
+	public int archivarFinalizados() {
+		return archivarFinalizados(archivados != null ? archivados : new AlmacenArchivados(empleados));
+	}
+
+	/**
+	 * Mueve los proyectos finalizados del repositorio al almacen de archivados,
+	 * fuera del heap. Se siguen pudiendo consultar por numero y aparecen en
+	 * proyectosFinalizados(). Las llamadas siguientes deben usar el mismo almacen.
+	 * Con repositorios en archivo los proyectos archivados se borran del disco.
+	 * @return cantidad de proyectos archivados.
+	 */
+	public int archivarFinalizados(AlmacenArchivados destino) {
+		if (destino == null) {
+			throw new IllegalArgumentException("El almacen de archivados no puede ser nulo.");
+		}
+		if (archivados != null && archivados != destino) {
+			throw new IllegalStateException("Los proyectos ya se archivan en otro almacen.");
+		}
+		this.archivados = destino;
+
+		List<Proyecto> finalizados = new ArrayList<>();
+		int cantidad = proyectos.cantidad();
+		for (int i = 0; i < cantidad; i++) {
+			Proyecto p = proyectos.obtener(i);
+			if (p.getEstado() == EstadoProyecto.FINALIZADO) {
+				finalizados.add(p);
+			}
+		}
+		for (Proyecto p : finalizados) {
+			destino.archivar(p);
+			proyectos.eliminar(p.getNumeroProyecto());
+			busquedaProyectos.quitar(p.getNumeroProyecto());
+			if (modificaciones != null) {
+				modificaciones.marcarProyecto(p.getNumeroProyecto());
+			}
+		}
+		return finalizados.size();
 	}
 
 	@Override
 	public List<Tupla<Integer, String>> proyectosPendientes() {
-	    
-	    List<Tupla<Integer, String>> listaProyectosPendientes = new ArrayList<>();
+		List<Tupla<Integer, String>> listaProyectosPendientes = new ArrayList<>();
+		recorrerProyectosPendientes((numero, domicilio) -> listaProyectosPendientes.add(new Tupla<>(numero, domicilio)));
+		return listaProyectosPendientes;
+	}
 
-	    for (Proyecto p : proyectosPorNumero.values()) {
-	        
-	        // Criterio de filtrado: Estado.pendiente
-	        if (p.getEstado().equals(Estado.pendiente)) {
-	            
-	            listaProyectosPendientes.add(new Tupla<>(
-	                p.getNumeroProyecto(), 
-	                p.getDireccionVivienda() 
-	            ));
-	        }
-	    }
-	    
-	    return listaProyectosPendientes;
+	@Override
+	public void recorrerProyectosPendientes(ConsumidorIntObjeto<String> consumidor) {
+		recorrerProyectosEnEstado(EstadoProyecto.PENDIENTE, consumidor);
 	}
 
 	@Override
 	public List<Tupla<Integer, String>> proyectosActivos() {
-	    
-	    List<Tupla<Integer, String>> listaProyectosActivos = new ArrayList<>();
+		List<Tupla<Integer, String>> listaProyectosActivos = new ArrayList<>();
+		recorrerProyectosActivos((numero, domicilio) -> listaProyectosActivos.add(new Tupla<>(numero, domicilio)));
+		return listaProyectosActivos;
+	}
 
-	    for (Proyecto p : proyectosPorNumero.values()) {
-	        
-	        if (p.getEstado().equals(Estado.activo)) {
-	            
-	            listaProyectosActivos.add(new Tupla<>(
-	                p.getNumeroProyecto(), 
-	                p.getDireccionVivienda() 
-	            ));
-	        }
-	    }
-	    
-	    return listaProyectosActivos;
+	@Override
+	public void recorrerProyectosActivos(ConsumidorIntObjeto<String> consumidor) {
+		recorrerProyectosEnEstado(EstadoProyecto.ACTIVO, consumidor);
+	}
+
+	private void recorrerProyectosEnEstado(EstadoProyecto estado, ConsumidorIntObjeto<String> consumidor) {
+		EventoJfr.ConsultaLenta evento = EventoJfr.ConsultaLenta.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			recorrerEnEstado(estado, consumidor);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.LISTAR_PROYECTOS, inicioNanos, exito);
+			cerrarConsulta(evento, OperacionMedida.LISTAR_PROYECTOS, 0, exito);
+		}
+	}
+
+	private void recorrerEnEstado(EstadoProyecto estado, ConsumidorIntObjeto<String> consumidor) {
+		int cantidad = proyectos.cantidad();
+		for (int i = 0; i < cantidad; i++) {
+			Proyecto p = proyectos.obtener(i);
+			if (p.getEstado() == estado) {
+				consumidor.aceptar(p.getNumeroProyecto(), p.getDireccionVivienda());
+			}
+		}
 	}
 	
 	@Override
 	public Object[] empleadosNoAsignados() {
+		List<Empleado> empleadosDisponibles = new ArrayList<>();
+		recorrerEmpleadosNoAsignados((legajo, emp) -> empleadosDisponibles.add(emp));
+		return empleadosDisponibles.toArray();
+	}
 
-	    List<Empleado> empleadosDisponibles = new ArrayList<>();
+	@Override
+	public void recorrerEmpleadosNoAsignados(ConsumidorIntObjeto<Empleado> consumidor) {
+		EventoJfr.ConsultaLenta evento = EventoJfr.ConsultaLenta.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			recorrerLibres(consumidor);
+			exito = true;
+		} finally {
+			metricas.registrar(OperacionMedida.EMPLEADOS_NO_ASIGNADOS, inicioNanos, exito);
+			cerrarConsulta(evento, OperacionMedida.EMPLEADOS_NO_ASIGNADOS, 0, exito);
+		}
+	}
 
-	    for (Empleado emp : empleadosPorLegajo.values()) {
-	        
-	        if (emp.isEstaDisponible()) {
-	            empleadosDisponibles.add(emp);
-	        }
-	    }
-	    
-	    return empleadosDisponibles.toArray();
+	private void recorrerLibres(ConsumidorIntObjeto<Empleado> consumidor) {
+		int cantidad = empleados.cantidad();
+		for (int i = 0; i < cantidad; i++) {
+			Empleado emp = empleados.obtener(i);
+			if (emp.isEstaDisponible()) {
+				consumidor.aceptar(emp.getNumeroLegajo(), emp);
+			}
+		}
 	}
 
 	@Override
 	public boolean estaFinalizado(Integer numero) {
+		return estaFinalizado(aEntero(numero));
+	}
+
+	@Override
+	public boolean estaFinalizado(int numero) {
 
-	    Proyecto proyecto = proyectosPorNumero.get(numero);
+	    Proyecto proyecto = buscarProyecto(numero);
 
 	    if (proyecto == null) {
 
 	        return false;
 	    }
 	    
-	    return proyecto.getEstado().equals(Estado.finalizado);
+	    return proyecto.getEstado() == EstadoProyecto.FINALIZADO;
 	}
 
 	@Override
 	public int consultarCantidadRetrasosEmpleado(Integer legajo) {
+		return consultarCantidadRetrasosEmpleado(aEntero(legajo));
+	}
+
+	@Override
+	public int consultarCantidadRetrasosEmpleado(int legajo) {
 
-	    Empleado empleado = empleadosPorLegajo.get(legajo);
+	    Empleado empleado = empleados.buscar(legajo);
 
 	    if (empleado == null) {
 
@@ -529,37 +1297,51 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public List<Tupla<Integer, String>> empleadosAsignadosAProyecto(Integer numero) {
+		Proyecto proyecto = buscarProyecto(numero);
+		if (proyecto == null) {
+			return null;
+		}
+		List<Tupla<Integer, String>> reporteAsignados = new ArrayList<>();
+		recorrerEmpleadosAsignadosAProyecto(proyecto.getNumeroProyecto(),
+				(legajo, nombre) -> reporteAsignados.add(new Tupla<>(legajo, nombre)));
+		return reporteAsignados;
+	}
 
-		    Proyecto proyecto = proyectosPorNumero.get(numero);
-		    if (proyecto == null) {
-		        return null;
-		    }
-		    
-		    List<Tupla<Integer, String>> reporteAsignados = new ArrayList<>();
-		    
-		    Set<Integer> legajosYaAgregados = new HashSet<>(); 
-		    
-		    for (Tarea t : proyecto.getListaTareas()) {
-		        
-		        Empleado responsable = t.getResponsable();
-		        
-		        if (responsable != null) {
-		            
-		            Integer legajo = responsable.getNumeroLegajo();
-		            
-		            if (!legajosYaAgregados.contains(legajo)) {
-		                
-		                reporteAsignados.add(new Tupla<>(
-		                    legajo, 
-		                    responsable.getNombre() 
-		                ));
-		                
-		                legajosYaAgregados.add(legajo);
-		            }
-		        }
-		    }
-		    
-		    return reporteAsignados;
+	@Override
+	public void recorrerEmpleadosAsignadosAProyecto(int numero, ConsumidorIntObjeto<String> consumidor) {
+		Proyecto proyecto = buscarProyecto(numero);
+		if (proyecto == null) {
+			return;
+		}
+		int cantidad = proyecto.cantidadTareas();
+		// Con pocas tareas se buscan repetidos hacia atras; con muchas conviene un mapa.
+		MapaEnteroEntero vistos = cantidad > MAX_TAREAS_SIN_MAPA ? new MapaEnteroEntero() : null;
+		for (int i = 0; i < cantidad; i++) {
+			int legajo = proyecto.legajoResponsable(i);
+			if (legajo == ColumnasTareas.SIN_RESPONSABLE || yaVisto(proyecto, i, legajo, vistos)) {
+				continue;
+			}
+			Empleado responsable = empleados.buscar(legajo);
+			if (responsable != null) {
+				consumidor.aceptar(legajo, responsable.getNombre());
+			}
+		}
+	}
+
+	private static boolean yaVisto(Proyecto proyecto, int indice, int legajo, MapaEnteroEntero vistos) {
+		if (vistos != null) {
+			if (vistos.containsKey(legajo)) {
+				return true;
+			}
+			vistos.put(legajo, indice);
+			return false;
+		}
+		for (int j = 0; j < indice; j++) {
+			if (proyecto.legajoResponsable(j) == legajo) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	@Override
@@ -567,21 +1349,14 @@ public class HomeSolution implements IHomeSolution {
 
 	    try {
 
-	        Proyecto proyecto = proyectosPorNumero.get(numero);
+	        Proyecto proyecto = buscarProyecto(numero);
 	        
 	        if (proyecto == null) {
 
 	            return new Object[0]; 
 	        }
 
-	        List<Tarea> tareasNoAsignadas = new ArrayList<>();
-
-	        for (Tarea t : proyecto.getListaTareas()) {
-	            
-	            if (t.getResponsable() == null && !t.isTareaTerminada()) {
-	                tareasNoAsignadas.add(t);
-	            }
-	        }
+	        List<ITarea> tareasNoAsignadas = proyecto.tareasSinAsignar();
 
 	        return tareasNoAsignadas.toArray();
 	        
@@ -594,8 +1369,13 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public String consultarDomicilioProyecto(Integer numero) {
+		return consultarDomicilioProyecto(aEntero(numero));
+	}
 
-	    Proyecto proyecto = proyectosPorNumero.get(numero);
+	@Override
+	public String consultarDomicilioProyecto(int numero) {
+
+	    Proyecto proyecto = buscarProyecto(numero);
 
 	    if (proyecto == null) {
 	        return "";
@@ -606,14 +1386,18 @@ public class HomeSolution implements IHomeSolution {
 
 	@Override
 	public boolean tieneRestrasos(String legajo) {
-	    Integer legajoInt;
+	    int legajoInt;
 	    try {
 	        legajoInt = Integer.parseInt(legajo);
 	    } catch (NumberFormatException e) {
 	        return false;
 	    }
-	    
-	    Empleado empleado = empleadosPorLegajo.get(legajoInt); 
+	    return tieneRestrasos(legajoInt);
+	}
+
+	@Override
+	public boolean tieneRestrasos(int legajo) {
+	    Empleado empleado = empleados.buscar(legajo); 
 
 	    if (empleado == null) {
 	        return false;
@@ -623,39 +1407,184 @@ public class HomeSolution implements IHomeSolution {
 	}
 
 	@Override
-	public List<Tupla<Integer, String>> empleados() {
+	public String consultarNombreEmpleado(int legajo) {
+		Empleado empleado = empleados.buscar(legajo);
+		return empleado == null ? "" : empleado.getNombre();
+	}
 
-	    List<Tupla<Integer, String>> reporteEmpleados = new ArrayList<>();
+	@Override
+	public List<Tupla<Integer, String>> empleados() {
+		List<Tupla<Integer, String>> reporteEmpleados = new ArrayList<>();
+		recorrerEmpleados((legajo, nombre) -> reporteEmpleados.add(new Tupla<>(legajo, nombre)));
+		return reporteEmpleados;
+	}
 
-	    for (Empleado emp : empleadosPorLegajo.values()) {
-	        
-	        reporteEmpleados.add(new Tupla<>(
-	            emp.getNumeroLegajo(), 
-	            emp.getNombre() 
-	        ));
-	    }
-	    
-	    return reporteEmpleados;
+	@Override
+	public void recorrerEmpleados(ConsumidorIntObjeto<String> consumidor) {
+		int cantidad = empleados.cantidad();
+		for (int i = 0; i < cantidad; i++) {
+			Empleado emp = empleados.obtener(i);
+			consumidor.aceptar(emp.getNumeroLegajo(), emp.getNombre());
+		}
 	}
 	
-	public Tupla<String, Double> tareaMasLarga() throws Exception {
+	@Override
+	public int buscarEmpleados(String texto, boolean soloNoAsignados, int limite,
+			ConsumidorIntObjeto<Empleado> consumidor) {
+		EventoJfr.ConsultaLenta evento = EventoJfr.ConsultaLenta.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			int entregados = busquedaEmpleados.buscar(texto, limite, legajo -> {
+				Empleado e = empleados.buscar(legajo);
+				return e != null && (!soloNoAsignados || e.isEstaDisponible());
+			}, legajo -> consumidor.aceptar(legajo, empleados.buscar(legajo)));
+			exito = true;
+			return entregados;
+		} finally {
+			metricas.registrar(OperacionMedida.BUSCAR, inicioNanos, exito);
+			cerrarConsulta(evento, OperacionMedida.BUSCAR, 0, exito);
+		}
+	}
 
-	    Tarea tareaMasLarga = null;
-	    double maxDuracion = 0.0;
+	@Override
+	public int buscarProyectos(String texto, int limite, ConsumidorIntObjeto<String> consumidor) {
+		EventoJfr.ConsultaLenta evento = EventoJfr.ConsultaLenta.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			int entregados = busquedaProyectos.buscar(texto, limite, null,
+					numero -> consumidor.aceptar(numero, consultarDomicilioProyecto(numero)));
+			exito = true;
+			return entregados;
+		} finally {
+			metricas.registrar(OperacionMedida.BUSCAR, inicioNanos, exito);
+			cerrarConsulta(evento, OperacionMedida.BUSCAR, 0, exito);
+		}
+	}
 
+	/**
+	 * Devuelve los proyectos de un cliente (numero y domicilio).
+	 * @return Lista vacia si el cliente no tiene proyectos.
+	 */
+	public List<Tupla<Integer, String>> proyectosDeCliente(String nombre, String telefono, String email) {
+		List<Tupla<Integer, String>> reporte = new ArrayList<>();
+		Cliente cliente = clientes.buscar(nombre, telefono, email);
+		if (cliente == null) {
+			return reporte;
+		}
+		for (int numero : cliente.getNumerosProyecto()) {
+			Proyecto p = buscarProyecto(numero);
+			if (p != null) {
+				reporte.add(new Tupla<>(numero, p.getDireccionVivienda()));
+			}
+		}
+		return reporte;
+	}
 
-	    for (Proyecto p : proyectosPorNumero.values()) {
-	        
+	/**
+	 * Devuelve las tareas por las que paso un empleado (numero de proyecto y
+	 * titulo), aunque ya no sea el responsable. Incluye las entradas que el
+	 * limite del historial paso al archivo, si el archivo se puede leer.
+	 * @return Lista vacia si el empleado nunca fue asignado.
+	 */
+	public List<Tupla<Integer, String>> tareasDeEmpleado(int legajo) {
+		List<Tupla<Integer, String>> reporte = new ArrayList<>();
+		for (Proyecto p : proyectos.todos()) {
+			agregarTareasDeEmpleado(p, legajo, reporte);
+		}
+		if (archivados != null) {
+			archivados.recorrer((numero, p) -> agregarTareasDeEmpleado(p, legajo, reporte));
+		}
+		ArchivoHistorial archivo = limiteHistorial.getArchivo();
+		if (archivo != null) {
+			Set<String> vistas = new HashSet<>();
+			for (Tupla<Integer, String> tarea : reporte) {
+				vistas.add(tarea.getValor1() + "/" + tarea.getValor2());
+			}
+			archivo.recorrerEntradas(legajo, (numero, titulo) -> {
+				if (vistas.add(numero + "/" + titulo)) {
+					reporte.add(new Tupla<>(numero, titulo));
+				}
+			});
+		}
+		return reporte;
+	}
 
-	        for (Tarea t : p.getListaTareas()) {
-	            
-	            double duracionActual = t.getCantDiasDuracion();
-	            
-	            if (duracionActual > maxDuracion) {
-	                maxDuracion = duracionActual;
-	                tareaMasLarga = t;
-	            }
-	        }
+	private static void agregarTareasDeEmpleado(Proyecto p, int legajo, List<Tupla<Integer, String>> reporte) {
+		p.recorrerTareas((i, t) -> {
+			if (t.getHistorial().contiene(legajo)) {
+				reporte.add(new Tupla<>(p.getNumeroProyecto(), t.getTitulo()));
+			}
+		});
+	}
+
+	/**
+	 * Estima la memoria ocupada por empleados, proyectos, tareas, clientes e
+	 * indices, recorriendo todo.
+	 * @see #reporteMemoria(int)
+	 */
+	public ReporteMemoria reporteMemoria() {
+		return reporteMemoria(1);
+	}
+
+	/**
+	 * Estima la memoria ocupada midiendo uno de cada "paso" proyectos (con sus
+	 * tareas) y extrapolando; con repositorios grandes un paso de 10 o 100 lo
+	 * hace mucho mas barato. Los repositorios que no implementan
+	 * MedibleEnMemoria no aparecen en el reporte.
+	 */
+	public ReporteMemoria reporteMemoria(int paso) {
+		ReporteMemoria.Acumulador acumulador = new ReporteMemoria.Acumulador(paso);
+		if (empleados instanceof MedibleEnMemoria) {
+			((MedibleEnMemoria) empleados).medir(acumulador);
+		}
+		if (proyectos instanceof MedibleEnMemoria) {
+			((MedibleEnMemoria) proyectos).medir(acumulador);
+		}
+		clientes.medir(acumulador);
+		cadenas.medir(acumulador);
+		busquedaEmpleados.medir(acumulador);
+		busquedaProyectos.medir(acumulador);
+		if (archivados != null) {
+			archivados.medir(acumulador);
+		}
+		return acumulador.construir();
+	}
+
+	/**
+	 * Exporta todas las tareas de todos los proyectos, archivados incluidos, en
+	 * formato columnar comprimido. Se leen con ExportadorColumnarTareas.leer.
+	 */
+	public void exportarTareasColumnar(OutputStream destino) throws IOException {
+		ExportadorColumnarTareas.exportar(proyectos.todos(), archivados, destino);
+	}
+
+	public Tupla<String, Double> tareaMasLarga() throws Exception {
+		EventoJfr.ConsultaLenta evento = EventoJfr.ConsultaLenta.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			Tupla<String, Double> resultado = buscarTareaMasLarga();
+			exito = true;
+			return resultado;
+		} finally {
+			metricas.registrar(OperacionMedida.TAREA_MAS_LARGA, inicioNanos, exito);
+			cerrarConsulta(evento, OperacionMedida.TAREA_MAS_LARGA, 0, exito);
+		}
+	}
+
+	private Tupla<String, Double> buscarTareaMasLarga() throws Exception {
+
+	    ITarea tareaMasLarga = null;
+
+	    for (Proyecto p : proyectos.todos()) {
+	        tareaMasLarga = masLargaEntre(p, tareaMasLarga);
+	    }
+	    if (archivados != null) {
+	        ITarea[] archivada = {tareaMasLarga};
+	        archivados.recorrer((numero, p) -> archivada[0] = masLargaEntre(p, archivada[0]));
+	        tareaMasLarga = archivada[0];
 	    }
 
 
@@ -667,10 +1596,27 @@ public class HomeSolution implements IHomeSolution {
 	    return new Tupla<>(tareaMasLarga.getTitulo(), tareaMasLarga.getCantDiasDuracion());
 	}
 
+	/**
+	 * @return la tarea mas larga del proyecto si supera a la actual; si no, la actual.
+	 */
+	private static ITarea masLargaEntre(Proyecto p, ITarea actual) {
+	    double maxDuracion = actual == null ? 0.0 : actual.getCantDiasDuracion();
+	    ITarea candidata = p.tareaMasLarga();
+	    if (candidata != null && candidata.getCantDiasDuracion() > maxDuracion) {
+	        return candidata;
+	    }
+	    return actual;
+	}
+
 	@Override
 	public Object[] tareasDeUnProyecto(Integer numero) {
+		return tareasDeUnProyecto(aEntero(numero));
+	}
+
+	@Override
+	public Object[] tareasDeUnProyecto(int numero) {
 
-	    Proyecto proyecto = proyectosPorNumero.get(numero);
+	    Proyecto proyecto = buscarProyecto(numero);
 	    
 	    if (proyecto == null) {
 
@@ -680,10 +1626,37 @@ public class HomeSolution implements IHomeSolution {
 	    return proyecto.getListaTareas().toArray();
 	}
 
+	@Override
+	public void recorrerTareasDeUnProyecto(int numero, ConsumidorIntObjeto<ITarea> consumidor) {
+		Proyecto proyecto = buscarProyecto(numero);
+		if (proyecto != null) {
+			proyecto.recorrerTareas(consumidor);
+		}
+	}
+
 	@Override
 	public String consultarProyecto(Integer numero) {
+		return consultarProyecto(aEntero(numero));
+	}
+
+	@Override
+	public String consultarProyecto(int numero) {
+		EventoJfr.ConsultaLenta evento = EventoJfr.ConsultaLenta.iniciar();
+		long inicioNanos = System.nanoTime();
+		boolean exito = false;
+		try {
+			String resultado = describirProyecto(numero);
+			exito = true;
+			return resultado;
+		} finally {
+			metricas.registrar(OperacionMedida.CONSULTAR_PROYECTO, inicioNanos, exito);
+			cerrarConsulta(evento, OperacionMedida.CONSULTAR_PROYECTO, numero, exito);
+		}
+	}
+
+	private String describirProyecto(int numero) {
 
-	    Proyecto proyecto = proyectosPorNumero.get(numero);
+	    Proyecto proyecto = buscarProyecto(numero);
 	    
 	    if (proyecto == null) {
 	        return "Error: Proyecto N° " + numero + " no encontrado.";
@@ -1,6 +1,7 @@
 package entidades;
 
 import java.util.List;
+import java.util.concurrent.Flow;
 
 /**
  * Interfaz que define las operaciones principales del sistema HomeSolution.
@@ -243,4 +244,183 @@ public interface IHomeSolution {
      * @numero numero de proyecto.
      */
     public String consultarProyecto(Integer numero);
-}
\ No newline at end of file
+
+    // ============================================================
+    // VARIANTES CON NUMERO/LEGAJO PRIMITIVO
+    // ============================================================
+    // Hacen lo mismo que las versiones con Integer pero evitan crear un
+    // Integer en cada llamada. Las versiones con Integer delegan en estas.
+
+    /**
+     * @see #asignarResponsableEnTarea(Integer, String)
+     */
+    public void asignarResponsableEnTarea(int numero, String titulo) throws Exception;
+
+    /**
+     * @see #asignarResponsableMenosRetraso(Integer, String)
+     */
+    public void asignarResponsableMenosRetraso(int numero, String titulo) throws Exception;
+
+    /**
+     * @see #registrarRetrasoEnTarea(Integer, String, double)
+     */
+    public void registrarRetrasoEnTarea(int numero, String titulo, double cantidadDias) throws IllegalArgumentException;
+
+    /**
+     * @see #finalizarTarea(Integer, String)
+     */
+    public void finalizarTarea(int numero, String titulo) throws Exception;
+
+    /**
+     * @see #estaFinalizado(Integer)
+     */
+    public boolean estaFinalizado(int numero);
+
+    /**
+     * @see #consultarCantidadRetrasosEmpleado(Integer)
+     */
+    public int consultarCantidadRetrasosEmpleado(int legajo);
+
+    /**
+     * @see #consultarDomicilioProyecto(Integer)
+     */
+    public String consultarDomicilioProyecto(int numero);
+
+    /**
+     * @see #tieneRestrasos(String)
+     */
+    public boolean tieneRestrasos(int legajo);
+
+    /**
+     * Nombre de un empleado por legajo.
+     * @return "" si el legajo no existe.
+     */
+    public String consultarNombreEmpleado(int legajo);
+
+    /**
+     * @see #tareasDeUnProyecto(Integer)
+     */
+    public Object[] tareasDeUnProyecto(int numero);
+
+    /**
+     * @see #consultarProyecto(Integer)
+     */
+    public String consultarProyecto(int numero);
+
+    // ============================================================
+    // RECORRIDOS SIN COPIAS
+    // ============================================================
+    // Entregan cada fila al consumidor en lugar de armar una lista o un
+    // arreglo. Pensados para pantallas que consultan muy seguido.
+
+    /**
+     * Recorre los proyectos finalizados con (número, domicilio).
+     * @see #proyectosFinalizados()
+     */
+    public void recorrerProyectosFinalizados(ConsumidorIntObjeto<String> consumidor);
+
+    /**
+     * Recorre los proyectos pendientes con (número, domicilio).
+     * @see #proyectosPendientes()
+     */
+    public void recorrerProyectosPendientes(ConsumidorIntObjeto<String> consumidor);
+
+    /**
+     * Recorre los proyectos activos con (número, domicilio).
+     * @see #proyectosActivos()
+     */
+    public void recorrerProyectosActivos(ConsumidorIntObjeto<String> consumidor);
+
+    /**
+     * Recorre todos los empleados con (legajo, nombre).
+     * @see #empleados()
+     */
+    public void recorrerEmpleados(ConsumidorIntObjeto<String> consumidor);
+
+    /**
+     * Recorre los empleados disponibles con (legajo, empleado).
+     * @see #empleadosNoAsignados()
+     */
+    public void recorrerEmpleadosNoAsignados(ConsumidorIntObjeto<Empleado> consumidor);
+
+    /**
+     * Recorre los responsables actuales del proyecto con (legajo, nombre), sin repetir.
+     * @see #empleadosAsignadosAProyecto(Integer)
+     */
+    public void recorrerEmpleadosAsignadosAProyecto(int numero, ConsumidorIntObjeto<String> consumidor);
+
+    /**
+     * Recorre las tareas del proyecto con (posición, tarea). La tarea recibida
+     * puede ser reutilizada entre llamadas: no debe guardarse.
+     * @see #tareasDeUnProyecto(Integer)
+     */
+    public void recorrerTareasDeUnProyecto(int numero, ConsumidorIntObjeto<ITarea> consumidor);
+
+    // ============================================================
+    // VARIANTES SIN EXCEPCIONES
+    // ============================================================
+    // Devuelven un ResultadoOperacion para los casos esperables (proyecto o
+    // tarea inexistente, sin empleados libres, tarea ya terminada) en lugar
+    // de lanzar una excepcion.
+
+    /**
+     * @see #asignarResponsableEnTarea(Integer, String)
+     */
+    public ResultadoOperacion intentarAsignarResponsableEnTarea(int numero, String titulo);
+
+    /**
+     * @see #asignarResponsableMenosRetraso(Integer, String)
+     */
+    public ResultadoOperacion intentarAsignarResponsableMenosRetraso(int numero, String titulo);
+
+    /**
+     * @see #finalizarTarea(Integer, String)
+     */
+    public ResultadoOperacion intentarFinalizarTarea(int numero, String titulo);
+
+    // ============================================================
+    // METRICAS
+    // ============================================================
+
+    /**
+     * Cantidad de llamadas, fallos y latencias de las operaciones principales,
+     * mas indicadores del negocio. {@code toString()} da el volcado en texto.
+     */
+    public RegistroMetricas.Instantanea metricas();
+
+    // ============================================================
+    // BUSQUEDA MIENTRAS SE ESCRIBE
+    // ============================================================
+    // Sin distinguir mayusculas ni acentos. Con 1 o 2 caracteres coinciden
+    // las palabras que empiezan asi; con 3 o mas, cualquier parte del texto.
+
+    /**
+     * Recorre con (legajo, empleado) los empleados cuyo nombre coincide, por legajo creciente.
+     * @return cantidad de empleados entregados, como mucho {@code limite}.
+     */
+    public int buscarEmpleados(String texto, boolean soloNoAsignados, int limite,
+            ConsumidorIntObjeto<Empleado> consumidor);
+
+    /**
+     * Recorre con (número, domicilio) los proyectos cuyo domicilio o nombre de cliente coincide.
+     * @return cantidad de proyectos entregados, como mucho {@code limite}.
+     */
+    public int buscarProyectos(String texto, int limite, ConsumidorIntObjeto<String> consumidor);
+
+    // ============================================================
+    // NOTIFICACIONES DE CAMBIOS
+    // ============================================================
+
+    /**
+     * Publica un {@link EventoDominio} por cada cambio aplicado, en orden.
+     * Las pantallas se suscriben para actualizarse sin volver a consultar todo.
+     */
+    public Flow.Publisher<EventoDominio> publicadorEventos();
+
+    /**
+     * Secuencia del ultimo cambio aplicado, haya tenido o no suscriptores. Una
+     * pantalla que carga datos junto con este valor puede descartar despues los
+     * eventos que ya estaban incluidos en lo que cargo.
+     */
+    public long ultimaSecuenciaEventos();
+}
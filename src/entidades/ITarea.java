@@ -0,0 +1,59 @@
+package entidades;
+
+/**
+ * Operaciones de una tarea, la implementen con un objeto propio ({@link Tarea})
+ * o como vista de una fila de un {@link AlmacenTareasColumnar}.
+ */
+public interface ITarea {
+
+	void asignarEmpleado(Empleado empleado);
+
+	/**
+	 * Asigna el empleado y lo anota en el historial respetando el limite dado.
+	 * @param numeroProyecto proyecto de la tarea, para las entradas que se archiven.
+	 */
+	void asignarEmpleado(Empleado empleado, LimiteHistorial limite, int numeroProyecto);
+
+	void desasignarEmpleado();
+
+	void registrarRetraso(double cantidadDias);
+
+	double calcularCosto();
+
+	void establecerTareaFinalizada();
+
+	EstadoTarea getEstado();
+
+	String getTitulo();
+
+	void setTitulo(String titulo);
+
+	String getDescripcion();
+
+	void setDescripcion(String descripcion);
+
+	double getCantDiasDuracion();
+
+	void setCantDiasDuracion(double cantDiasDuracion);
+
+	Empleado getResponsable();
+
+	void setResponsable(Empleado responsable);
+
+	double getDiasDeRetraso();
+
+	void setDiasDeRetraso(double diasDeRetraso);
+
+	boolean isTareaTerminada();
+
+	void setTareaTerminada(boolean tareaTerminada);
+
+	double getCostoTarea();
+
+	void setCostoTarea(double costoTarea);
+
+	/**
+	 * @return los legajos asignados a la tarea, en orden; nunca null.
+	 */
+	HistorialAsignaciones getHistorial();
+}
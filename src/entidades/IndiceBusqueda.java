@@ -0,0 +1,266 @@
+package entidades;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+/**
+ * Indice de texto para busquedas mientras se escribe (nombres, domicilios).
+ * Sin distinguir mayusculas ni acentos: con 1 o 2 caracteres encuentra las
+ * palabras que empiezan asi; con 3 o mas, los textos que los contienen.
+ *
+ * Cada trigrama (y cada comienzo de palabra de 1 o 2 caracteres) se codifica
+ * en 18 bits; un mapa de esa clave a la lista de entradas que la tienen,
+ * ordenada por orden de alta, crece con las claves usadas y no con las 2^18
+ * posibles. Una busqueda recorre solo la lista mas corta de la consulta y
+ * confirma cada candidato contra el texto normalizado.
+ *
+ * Las entradas quitadas dejan de aparecer en los resultados, pero su posicion
+ * queda en las listas hasta que se vuelva a armar el indice.
+ */
+public class IndiceBusqueda implements MedibleEnMemoria {
+
+	private static final int BITS_SIMBOLO = 6;
+	private static final int RELLENO = 0;
+	private static final int ESPACIO = 1;
+	private static final int OTRO = 38;
+
+	private final String categoria;
+	private int[] ids;
+	private String[] textos;
+	private int cantidad;
+	private int quitadas;
+	private final MapaEnteroEntero posicionPorId;
+	private final MapaEnteroEntero listaPorClave;
+	private int[][] listas;
+	private int[] largos;
+	private int listasUsadas;
+	private long posiciones;
+
+	/**
+	 * @param categoria nombre con el que aparece en {@link ReporteMemoria}.
+	 */
+	public IndiceBusqueda(String categoria) {
+		this.categoria = categoria;
+		this.ids = new int[16];
+		this.textos = new String[16];
+		this.posicionPorId = new MapaEnteroEntero();
+		this.listaPorClave = new MapaEnteroEntero();
+		this.listas = new int[0][];
+		this.largos = new int[0];
+	}
+
+	/**
+	 * Agrega una entrada. Los ids deben llegar en el orden en que se quieren
+	 * obtener los resultados (en HomeSolution, legajo o numero creciente).
+	 */
+	public void agregar(int id, String texto) {
+		String normalizado = normalizar(texto);
+		if (cantidad == ids.length) {
+			ids = Arrays.copyOf(ids, cantidad * 2);
+			textos = Arrays.copyOf(textos, cantidad * 2);
+		}
+		int posicion = cantidad++;
+		ids[posicion] = id;
+		textos[posicion] = normalizado;
+		posicionPorId.put(id, posicion);
+
+		int anterior = ESPACIO;
+		int previoAnterior = ESPACIO;
+		for (int i = 0; i < normalizado.length(); i++) {
+			int actual = simbolo(normalizado.charAt(i));
+			if (anterior == ESPACIO && actual != ESPACIO) {
+				anotar(clave(RELLENO, RELLENO, actual), posicion);
+				if (i + 1 < normalizado.length() && normalizado.charAt(i + 1) != ' ') {
+					anotar(clave(RELLENO, actual, simbolo(normalizado.charAt(i + 1))), posicion);
+				}
+			}
+			if (i >= 1) {
+				anotar(clave(previoAnterior, anterior, actual), posicion);
+			}
+			previoAnterior = anterior;
+			anterior = actual;
+		}
+	}
+
+	private void anotar(int clave, int posicion) {
+		int indice = listaPorClave.get(clave);
+		if (indice == MapaEnteroEntero.NO_ENCONTRADO) {
+			if (listasUsadas == listas.length) {
+				int capacidad = Math.max(64, listasUsadas * 2);
+				listas = Arrays.copyOf(listas, capacidad);
+				largos = Arrays.copyOf(largos, capacidad);
+			}
+			indice = listasUsadas++;
+			listaPorClave.put(clave, indice);
+			listas[indice] = new int[4];
+		}
+		int[] lista = listas[indice];
+		int largo = largos[indice];
+		if (largo > 0 && lista[largo - 1] == posicion) {
+			return;
+		}
+		if (largo == lista.length) {
+			lista = Arrays.copyOf(lista, largo * 2);
+			listas[indice] = lista;
+		}
+		lista[largo] = posicion;
+		largos[indice] = largo + 1;
+		posiciones++;
+	}
+
+	/**
+	 * Saca la entrada de los resultados, por ejemplo al archivar un proyecto.
+	 * @return false si el id no estaba.
+	 */
+	public boolean quitar(int id) {
+		int posicion = posicionPorId.remove(id);
+		if (posicion == MapaEnteroEntero.NO_ENCONTRADO) {
+			return false;
+		}
+		textos[posicion] = null;
+		quitadas++;
+		return true;
+	}
+
+	/**
+	 * Entrega a {@code destino}, en orden de alta, hasta {@code limite} ids
+	 * que coinciden con el texto y pasan el filtro.
+	 *
+	 * @return cantidad de ids entregados; 0 si el texto esta vacio.
+	 */
+	public int buscar(String texto, int limite, IntPredicate filtro, IntConsumer destino) {
+		String consulta = normalizar(texto);
+		if (consulta.isEmpty() || listasUsadas == 0 || limite <= 0) {
+			return 0;
+		}
+		int largoConsulta = consulta.length();
+		if (largoConsulta <= 2) {
+			int clave = largoConsulta == 1
+					? clave(RELLENO, RELLENO, simbolo(consulta.charAt(0)))
+					: clave(RELLENO, simbolo(consulta.charAt(0)), simbolo(consulta.charAt(1)));
+			return entregar(listaPorClave.get(clave), null, limite, filtro, destino);
+		}
+
+		int mejor = -1;
+		for (int i = 0; i + 3 <= largoConsulta; i++) {
+			int indice = listaPorClave.get(clave(simbolo(consulta.charAt(i)), simbolo(consulta.charAt(i + 1)),
+					simbolo(consulta.charAt(i + 2))));
+			if (indice == MapaEnteroEntero.NO_ENCONTRADO) {
+				return 0;
+			}
+			if (mejor == -1 || largos[indice] < largos[mejor]) {
+				mejor = indice;
+			}
+		}
+		return entregar(mejor, consulta, limite, filtro, destino);
+	}
+
+	private int entregar(int indice, String consulta, int limite, IntPredicate filtro, IntConsumer destino) {
+		if (indice == MapaEnteroEntero.NO_ENCONTRADO) {
+			return 0;
+		}
+		int[] lista = listas[indice];
+		int largo = largos[indice];
+		int entregados = 0;
+		for (int i = 0; i < largo && entregados < limite; i++) {
+			int posicion = lista[i];
+			String normalizado = textos[posicion];
+			if (normalizado == null || (consulta != null && !normalizado.contains(consulta))) {
+				continue;
+			}
+			int id = ids[posicion];
+			if (filtro == null || filtro.test(id)) {
+				destino.accept(id);
+				entregados++;
+			}
+		}
+		return entregados;
+	}
+
+	/**
+	 * @return cantidad de entradas buscables (sin las quitadas).
+	 */
+	public int cantidad() {
+		return cantidad - quitadas;
+	}
+
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		long bytes = EstimadorMemoria.objeto(IndiceBusqueda.class)
+				+ EstimadorMemoria.arreglo(ids.length, 4)
+				+ EstimadorMemoria.arreglo(textos.length, EstimadorMemoria.REFERENCIA)
+				+ posicionPorId.bytesEstimados()
+				+ listaPorClave.bytesEstimados()
+				+ EstimadorMemoria.arreglo(listas.length, EstimadorMemoria.REFERENCIA)
+				+ EstimadorMemoria.arreglo(largos.length, 4)
+				+ listasUsadas * EstimadorMemoria.arreglo(0, 4)
+				+ posiciones * 4;
+		for (int i = 0; i < cantidad; i++) {
+			bytes += EstimadorMemoria.cadena(textos[i]);
+		}
+		acumulador.sumar(categoria, cantidad(), bytes);
+	}
+
+	private static int clave(int primero, int segundo, int tercero) {
+		return (primero << (2 * BITS_SIMBOLO)) | (segundo << BITS_SIMBOLO) | tercero;
+	}
+
+	private static int simbolo(char c) {
+		if (c == ' ') {
+			return ESPACIO;
+		}
+		if (c >= 'a' && c <= 'z') {
+			return 2 + (c - 'a');
+		}
+		if (c >= '0' && c <= '9') {
+			return 28 + (c - '0');
+		}
+		return OTRO;
+	}
+
+	/**
+	 * Minusculas sin acentos; lo que no es letra ni digito cuenta como un
+	 * espacio, y los espacios repetidos o en los extremos se descartan.
+	 */
+	static String normalizar(String texto) {
+		if (texto == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(texto.length());
+		boolean espacioPendiente = false;
+		for (int i = 0; i < texto.length(); i++) {
+			char c = sinAcento(Character.toLowerCase(texto.charAt(i)));
+			if (Character.isLetterOrDigit(c)) {
+				if (espacioPendiente && sb.length() > 0) {
+					sb.append(' ');
+				}
+				espacioPendiente = false;
+				sb.append(c);
+			} else {
+				espacioPendiente = true;
+			}
+		}
+		return sb.toString();
+	}
+
+	private static char sinAcento(char c) {
+		switch (c) {
+		case 'á': case 'à': case 'ä': case 'â':
+			return 'a';
+		case 'é': case 'è': case 'ë': case 'ê':
+			return 'e';
+		case 'í': case 'ì': case 'ï': case 'î':
+			return 'i';
+		case 'ó': case 'ò': case 'ö': case 'ô':
+			return 'o';
+		case 'ú': case 'ù': case 'ü': case 'û':
+			return 'u';
+		case 'ñ':
+			return 'n';
+		case 'ç':
+			return 'c';
+		default:
+			return c;
+		}
+	}
+}
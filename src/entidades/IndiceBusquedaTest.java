@@ -0,0 +1,93 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class IndiceBusquedaTest {
+    private IndiceBusqueda indice;
+
+    @Before
+    public void setUp() {
+        indice = new IndiceBusqueda("prueba");
+        indice.agregar(1, "San Martin 1000 Pedro Gomez");
+        indice.agregar(2, "Belgrano 250 Ana Sanchez");
+        indice.agregar(3, "Ñandú 12 José Pérez");
+        indice.agregar(4, "Mitre 77 Pedro Alvarez");
+    }
+
+    private List<Integer> buscar(String texto, int limite) {
+        List<Integer> encontrados = new ArrayList<>();
+        indice.buscar(texto, limite, null, encontrados::add);
+        return encontrados;
+    }
+
+    @Test
+    public void testPrefijoDeUnoYDosCaracteresSoloAlComienzoDePalabra() {
+        assertEquals(List.of(1, 2), buscar("s", 10));
+        assertEquals(List.of(1, 2), buscar("sa", 10));
+        // "an" aparece dentro de "San" y "Belgrano", pero solo "Ana" empieza asi.
+        assertEquals(List.of(2), buscar("an", 10));
+        assertEquals(List.of(), buscar("x", 10));
+    }
+
+    @Test
+    public void testTrigramasEncuentranSubcadenas() {
+        assertEquals(List.of(1, 4), buscar("pedro", 10));
+        assertEquals(List.of(2), buscar("grano", 10));
+        // La consulta cruza el limite entre palabras.
+        assertEquals(List.of(1), buscar("martin 10", 10));
+        // Todos los trigramas existen pero no juntos en la misma entrada.
+        assertEquals(List.of(), buscar("pedro gomez belgrano", 10));
+        assertEquals(List.of(), buscar("zzz", 10));
+    }
+
+    @Test
+    public void testIgnoraAcentosYMayusculas() {
+        assertEquals(List.of(3), buscar("nandu", 10));
+        assertEquals(List.of(3), buscar("JOSE", 10));
+        assertEquals(List.of(3), buscar("pérez", 10));
+        assertEquals(List.of(3), buscar("ñ", 10));
+    }
+
+    @Test
+    public void testLimiteYFiltro() {
+        assertEquals(List.of(1), buscar("pedro", 1));
+        assertEquals(List.of(), buscar("pedro", 0));
+
+        List<Integer> encontrados = new ArrayList<>();
+        int entregados = indice.buscar("pedro", 10, id -> id != 1, encontrados::add);
+        assertEquals(1, entregados);
+        assertEquals(List.of(4), encontrados);
+
+        // El filtro no consume el limite.
+        encontrados.clear();
+        indice.buscar("p", 1, id -> id == 4, encontrados::add);
+        assertEquals(List.of(4), encontrados);
+    }
+
+    @Test
+    public void testQuitarSacaDeLosResultados() {
+        assertTrue(indice.quitar(1));
+        assertFalse(indice.quitar(1));
+        assertEquals(List.of(4), buscar("pedro", 10));
+        assertEquals(List.of(2), buscar("s", 10));
+        assertEquals(3, indice.cantidad());
+    }
+
+    @Test
+    public void testMemoriaCreceConLasClavesUsadas() {
+        ReporteMemoria.Acumulador acumulador = new ReporteMemoria.Acumulador(1);
+        indice.medir(acumulador);
+        ReporteMemoria.Entrada entrada = acumulador.construir().getEntrada("prueba");
+        assertEquals(4, entrada.getCantidad());
+        // Una tabla directa de 2^18 listas ocupaba mas de 2 MB.
+        assertTrue(entrada.getBytes() < 64 * 1024);
+    }
+}
@@ -0,0 +1,170 @@
+package entidades;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+
+/**
+ * Ejecuta operaciones de {@link IHomeSolution} escritas como texto, una por
+ * linea, con los campos separados por ';' y las listas por ','. Lo usan los
+ * modos batch y servidor de Main. Ejemplos:
+ *
+ * <pre>
+ * empleado;Juan;15000
+ * empleado;Luis;80000;EXPERTO
+ * proyecto;Pintar,Instalar AA;,;4,0.5;San Martin 1000;Pedro Gomez,mail,tel;2025-11-01;2025-11-05
+ * agregar-tarea;5000;Limpieza;limpieza general;1
+ * asignar;5000;Pintar
+ * asignar-menos-retraso;5000;Pintar
+ * retraso;5000;Pintar;2
+ * finalizar-tarea;5000;Pintar
+ * finalizar-proyecto;5000;2025-11-10
+ * consultar;5000
+ * proyectos;ACTIVO
+ * metricas
+ * </pre>
+ *
+ * Cada linea responde "OK", el resultado de la consulta, o "ERROR" y el
+ * motivo. Las lineas vacias y las que empiezan con '#' se ignoran.
+ */
+public class InterpreteComandos {
+
+	private final IHomeSolution sistema;
+	private final PrintStream salida;
+
+	public InterpreteComandos(IHomeSolution sistema, PrintStream salida) {
+		this.sistema = sistema;
+		this.salida = salida;
+	}
+
+	/**
+	 * Ejecuta todas las lineas hasta el final del lector.
+	 * @return cantidad de lineas que terminaron en error.
+	 */
+	public int ejecutarTodo(BufferedReader lector) throws IOException {
+		int errores = 0;
+		String linea;
+		while ((linea = lector.readLine()) != null) {
+			if (!ejecutar(linea)) {
+				errores++;
+			}
+		}
+		return errores;
+	}
+
+	/**
+	 * @return false si la operacion fallo; el motivo ya se escribio en la salida.
+	 */
+	public boolean ejecutar(String linea) {
+		String texto = linea.trim();
+		if (texto.isEmpty() || texto.charAt(0) == '#') {
+			return true;
+		}
+		String[] campos = texto.split(";", -1);
+		try {
+			ejecutar(campos);
+			return true;
+		} catch (Exception e) {
+			salida.println("ERROR " + campos[0] + ": " + e.getMessage());
+			return false;
+		}
+	}
+
+	private void ejecutar(String[] c) throws Exception {
+		switch (c[0]) {
+		case "empleado":
+			if (c.length > 3) {
+				sistema.registrarEmpleado(campo(c, 1), numero(c, 2), campo(c, 3));
+			} else {
+				sistema.registrarEmpleado(campo(c, 1), numero(c, 2));
+			}
+			ok();
+			break;
+		case "proyecto":
+			String[] titulos = lista(c, 1);
+			String[] descripciones = lista(c, 2);
+			String[] textosDias = lista(c, 3);
+			double[] dias = new double[textosDias.length];
+			for (int i = 0; i < dias.length; i++) {
+				dias[i] = Double.parseDouble(textosDias[i].trim());
+			}
+			sistema.registrarProyecto(titulos, descripciones, dias, campo(c, 4), lista(c, 5), campo(c, 6),
+					c.length > 7 ? c[7] : "");
+			ok();
+			break;
+		case "agregar-tarea":
+			sistema.agregarTareaEnProyecto(entero(c, 1), campo(c, 2), campo(c, 3), numero(c, 4));
+			ok();
+			break;
+		case "asignar":
+			informar(sistema.intentarAsignarResponsableEnTarea(entero(c, 1), campo(c, 2)));
+			break;
+		case "asignar-menos-retraso":
+			informar(sistema.intentarAsignarResponsableMenosRetraso(entero(c, 1), campo(c, 2)));
+			break;
+		case "retraso":
+			sistema.registrarRetrasoEnTarea(entero(c, 1), campo(c, 2), numero(c, 3));
+			ok();
+			break;
+		case "finalizar-tarea":
+			informar(sistema.intentarFinalizarTarea(entero(c, 1), campo(c, 2)));
+			break;
+		case "finalizar-proyecto":
+			sistema.finalizarProyecto(entero(c, 1), campo(c, 2));
+			ok();
+			break;
+		case "consultar":
+			salida.println(sistema.consultarProyecto(entero(c, 1)));
+			break;
+		case "proyectos":
+			ConsumidorIntObjeto<String> imprimir = (numero, domicilio) -> salida.println(numero + ";" + domicilio);
+			switch (EstadoProyecto.valueOf(campo(c, 1).toUpperCase())) {
+			case PENDIENTE:
+				sistema.recorrerProyectosPendientes(imprimir);
+				break;
+			case ACTIVO:
+				sistema.recorrerProyectosActivos(imprimir);
+				break;
+			case FINALIZADO:
+				sistema.recorrerProyectosFinalizados(imprimir);
+				break;
+			}
+			ok();
+			break;
+		case "metricas":
+			salida.print(sistema.metricas());
+			break;
+		default:
+			throw new IllegalArgumentException("comando desconocido");
+		}
+	}
+
+	private void ok() {
+		salida.println("OK");
+	}
+
+	private void informar(ResultadoOperacion resultado) {
+		if (!resultado.esExito()) {
+			throw new IllegalStateException(resultado.getMensaje());
+		}
+		ok();
+	}
+
+	private static String campo(String[] c, int i) {
+		if (i >= c.length) {
+			throw new IllegalArgumentException("falta el campo " + i);
+		}
+		return c[i];
+	}
+
+	private static String[] lista(String[] c, int i) {
+		return campo(c, i).split(",", -1);
+	}
+
+	private static int entero(String[] c, int i) {
+		return Integer.parseInt(campo(c, i).trim());
+	}
+
+	private static double numero(String[] c, int i) {
+		return Double.parseDouble(campo(c, i).trim());
+	}
+}
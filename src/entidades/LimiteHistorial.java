@@ -0,0 +1,33 @@
+package entidades;
+
+/**
+ * Cantidad maxima de entradas que un {@link HistorialAsignaciones} mantiene
+ * en memoria, y a donde van las que se descartan.
+ */
+public final class LimiteHistorial {
+
+	public static final LimiteHistorial SIN_LIMITE = new LimiteHistorial(0, null);
+
+	private final int maximo;
+	private final ArchivoHistorial archivo;
+
+	/**
+	 * @param maximo entradas a conservar por tarea; 0 para no limitar.
+	 * @param archivo destino de las entradas descartadas; puede ser null.
+	 */
+	public LimiteHistorial(int maximo, ArchivoHistorial archivo) {
+		if (maximo < 0) {
+			throw new IllegalArgumentException("El maximo del historial no puede ser negativo.");
+		}
+		this.maximo = maximo;
+		this.archivo = archivo;
+	}
+
+	public int getMaximo() {
+		return maximo;
+	}
+
+	public ArchivoHistorial getArchivo() {
+		return archivo;
+	}
+}
@@ -0,0 +1,139 @@
+package entidades;
+
+/**
+ * Mapa de int a int con direccionamiento abierto, sin objetos por entrada.
+ * Se usa para los indices de los repositorios en archivo (id -> posicion).
+ */
+public class MapaEnteroEntero {
+
+	public static final int NO_ENCONTRADO = -1;
+	private static final int CAPACIDAD_INICIAL = 16;
+
+	private int[] claves;
+	private int[] valores;
+	private boolean[] ocupados;
+	private int cantidad;
+	private int mascara;
+
+	public MapaEnteroEntero() {
+		this.claves = new int[CAPACIDAD_INICIAL];
+		this.valores = new int[CAPACIDAD_INICIAL];
+		this.ocupados = new boolean[CAPACIDAD_INICIAL];
+		this.mascara = CAPACIDAD_INICIAL - 1;
+	}
+
+	/**
+	 * @return el valor de la clave, o NO_ENCONTRADO si no esta.
+	 */
+	public int get(int clave) {
+		int i = indice(clave);
+		while (ocupados[i]) {
+			if (claves[i] == clave) {
+				return valores[i];
+			}
+			i = (i + 1) & mascara;
+		}
+		return NO_ENCONTRADO;
+	}
+
+	public boolean containsKey(int clave) {
+		int i = indice(clave);
+		while (ocupados[i]) {
+			if (claves[i] == clave) {
+				return true;
+			}
+			i = (i + 1) & mascara;
+		}
+		return false;
+	}
+
+	public void put(int clave, int valor) {
+		int i = indice(clave);
+		while (ocupados[i]) {
+			if (claves[i] == clave) {
+				valores[i] = valor;
+				return;
+			}
+			i = (i + 1) & mascara;
+		}
+		claves[i] = clave;
+		valores[i] = valor;
+		ocupados[i] = true;
+		if (++cantidad * 4 > ocupados.length * 3) {
+			agrandar();
+		}
+	}
+
+	/**
+	 * @return el valor que tenia la clave, o NO_ENCONTRADO si no estaba.
+	 */
+	public int remove(int clave) {
+		int i = indice(clave);
+		while (ocupados[i]) {
+			if (claves[i] == clave) {
+				int anterior = valores[i];
+				ocupados[i] = false;
+				cantidad--;
+				reubicarDespuesDe(i);
+				return anterior;
+			}
+			i = (i + 1) & mascara;
+		}
+		return NO_ENCONTRADO;
+	}
+
+	public int size() {
+		return cantidad;
+	}
+
+	long bytesEstimados() {
+		return EstimadorMemoria.objeto(MapaEnteroEntero.class) + EstimadorMemoria.arreglo(claves.length, 4)
+				+ EstimadorMemoria.arreglo(valores.length, 4) + EstimadorMemoria.arreglo(ocupados.length, 1);
+	}
+
+	/**
+	 * Despues de liberar un casillero, corre hacia atras las entradas siguientes
+	 * del mismo grupo para que las busquedas no se corten en el hueco.
+	 */
+	private void reubicarDespuesDe(int libre) {
+		int i = (libre + 1) & mascara;
+		while (ocupados[i]) {
+			int ideal = indice(claves[i]);
+			boolean puedeMoverse = libre <= i ? (ideal <= libre || ideal > i) : (ideal <= libre && ideal > i);
+			if (puedeMoverse) {
+				claves[libre] = claves[i];
+				valores[libre] = valores[i];
+				ocupados[libre] = true;
+				ocupados[i] = false;
+				libre = i;
+			}
+			i = (i + 1) & mascara;
+		}
+	}
+
+	private void agrandar() {
+		int[] clavesViejas = claves;
+		int[] valoresViejos = valores;
+		boolean[] ocupadosViejos = ocupados;
+		claves = new int[clavesViejas.length * 2];
+		valores = new int[valoresViejos.length * 2];
+		ocupados = new boolean[ocupadosViejos.length * 2];
+		mascara = ocupados.length - 1;
+		for (int j = 0; j < ocupadosViejos.length; j++) {
+			if (ocupadosViejos[j]) {
+				int i = indice(clavesViejas[j]);
+				while (ocupados[i]) {
+					i = (i + 1) & mascara;
+				}
+				claves[i] = clavesViejas[j];
+				valores[i] = valoresViejos[j];
+				ocupados[i] = true;
+			}
+		}
+	}
+
+	private int indice(int clave) {
+		int h = clave * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mascara;
+	}
+}
@@ -0,0 +1,96 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MapaEnteroEnteroTest {
+    /** Mascara de un MapaEnteroEntero recien creado (16 casilleros). */
+    private static final int MASCARA = 15;
+
+    /**
+     * Misma funcion de dispersion que MapaEnteroEntero, para armar claves que
+     * caen en un casillero elegido.
+     */
+    private static int indice(int clave) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & MASCARA;
+    }
+
+    private static int[] clavesEn(int casillero, int cantidad) {
+        int[] claves = new int[cantidad];
+        int encontradas = 0;
+        for (int clave = 1; encontradas < cantidad; clave++) {
+            if (indice(clave) == casillero) {
+                claves[encontradas++] = clave;
+            }
+        }
+        return claves;
+    }
+
+    @Test
+    public void testPutGetRemoveAlAgrandar() {
+        MapaEnteroEntero mapa = new MapaEnteroEntero();
+        for (int i = 0; i < 1000; i++) {
+            mapa.put(i * 31, i);
+        }
+        assertEquals(1000, mapa.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, mapa.get(i * 31));
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals(i, mapa.remove(i * 31));
+        }
+        assertEquals(500, mapa.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 2 == 0 ? MapaEnteroEntero.NO_ENCONTRADO : i, mapa.get(i * 31));
+        }
+        mapa.put(31, 7);
+        assertEquals(7, mapa.get(31));
+        assertEquals(500, mapa.size());
+    }
+
+    @Test
+    public void testRemoverDentroDeUnGrupo() {
+        MapaEnteroEntero mapa = new MapaEnteroEntero();
+        int[] claves = clavesEn(5, 4);
+        for (int i = 0; i < claves.length; i++) {
+            mapa.put(claves[i], i);
+        }
+        assertEquals(1, mapa.remove(claves[1]));
+        assertFalse(mapa.containsKey(claves[1]));
+        assertEquals(2, mapa.get(claves[2]));
+        assertEquals(3, mapa.get(claves[3]));
+
+        assertEquals(0, mapa.remove(claves[0]));
+        assertEquals(3, mapa.get(claves[3]));
+        assertEquals(MapaEnteroEntero.NO_ENCONTRADO, mapa.remove(claves[0]));
+        assertEquals(2, mapa.size());
+    }
+
+    @Test
+    public void testRemoverEnUnGrupoQueDaLaVuelta() {
+        MapaEnteroEntero mapa = new MapaEnteroEntero();
+        // Dos claves del ultimo casillero (15 y 0), una del 0 (va al 1) y una del 1 (va al 2).
+        int[] ultimas = clavesEn(MASCARA, 2);
+        int delCero = clavesEn(0, 1)[0];
+        int delUno = clavesEn(1, 1)[0];
+        mapa.put(ultimas[0], 10);
+        mapa.put(ultimas[1], 11);
+        mapa.put(delCero, 12);
+        mapa.put(delUno, 13);
+
+        assertEquals(10, mapa.remove(ultimas[0]));
+        assertEquals(11, mapa.get(ultimas[1]));
+        assertEquals(12, mapa.get(delCero));
+        assertEquals(13, mapa.get(delUno));
+
+        assertEquals(11, mapa.remove(ultimas[1]));
+        assertEquals(12, mapa.get(delCero));
+        assertEquals(13, mapa.get(delUno));
+        assertTrue(mapa.containsKey(delUno));
+        assertEquals(2, mapa.size());
+    }
+}
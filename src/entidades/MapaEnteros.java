@@ -0,0 +1,150 @@
+package entidades;
+import java.util.Arrays;
+
+/**
+ * Mapa de claves int a objetos con direccionamiento abierto (sondeo lineal).
+ * A diferencia de HashMap<Integer, V> no crea un Integer ni un nodo por entrada:
+ * las claves viven en un int[] y los valores en un Object[] paralelo.
+ * No admite valores null (un casillero con valor null esta libre).
+ */
+public class MapaEnteros<V> {
+
+	private static final int CAPACIDAD_INICIAL = 16;
+
+	private int[] claves;
+	private Object[] valores;
+	private int cantidad;
+	private int mascara;
+
+	public MapaEnteros() {
+		this(CAPACIDAD_INICIAL);
+	}
+
+	public MapaEnteros(int capacidadEsperada) {
+		int capacidad = Integer.highestOneBit(Math.max(CAPACIDAD_INICIAL, capacidadEsperada * 2 - 1)) << 1;
+		this.claves = new int[capacidad];
+		this.valores = new Object[capacidad];
+		this.mascara = capacidad - 1;
+	}
+
+	@SuppressWarnings("unchecked")
+	public V get(int clave) {
+		int i = indice(clave);
+		Object valor;
+		while ((valor = valores[i]) != null) {
+			if (claves[i] == clave) {
+				return (V) valor;
+			}
+			i = (i + 1) & mascara;
+		}
+		return null;
+	}
+
+	public boolean containsKey(int clave) {
+		return get(clave) != null;
+	}
+
+	/**
+	 * @return el valor anterior para la clave, o null si no habia.
+	 */
+	@SuppressWarnings("unchecked")
+	public V put(int clave, V valor) {
+		if (valor == null) {
+			throw new IllegalArgumentException("MapaEnteros no admite valores null.");
+		}
+		int i = indice(clave);
+		while (valores[i] != null) {
+			if (claves[i] == clave) {
+				V anterior = (V) valores[i];
+				valores[i] = valor;
+				return anterior;
+			}
+			i = (i + 1) & mascara;
+		}
+		claves[i] = clave;
+		valores[i] = valor;
+		if (++cantidad * 4 > valores.length * 3) {
+			agrandar();
+		}
+		return null;
+	}
+
+	/**
+	 * @return el valor que tenia la clave, o null si no estaba.
+	 */
+	@SuppressWarnings("unchecked")
+	public V remove(int clave) {
+		int i = indice(clave);
+		while (valores[i] != null) {
+			if (claves[i] == clave) {
+				V anterior = (V) valores[i];
+				valores[i] = null;
+				cantidad--;
+				reubicarDespuesDe(i);
+				return anterior;
+			}
+			i = (i + 1) & mascara;
+		}
+		return null;
+	}
+
+	public int size() {
+		return cantidad;
+	}
+
+	long bytesEstimados() {
+		return EstimadorMemoria.objeto(MapaEnteros.class) + EstimadorMemoria.arreglo(claves.length, 4)
+				+ EstimadorMemoria.arreglo(valores.length, EstimadorMemoria.REFERENCIA);
+	}
+
+	public boolean isEmpty() {
+		return cantidad == 0;
+	}
+
+	public void clear() {
+		Arrays.fill(valores, null);
+		cantidad = 0;
+	}
+
+	/**
+	 * Despues de liberar un casillero, corre hacia atras las entradas siguientes
+	 * del mismo grupo para que las busquedas no se corten en el hueco.
+	 */
+	private void reubicarDespuesDe(int libre) {
+		int i = (libre + 1) & mascara;
+		while (valores[i] != null) {
+			int ideal = indice(claves[i]);
+			boolean puedeMoverse = libre <= i ? (ideal <= libre || ideal > i) : (ideal <= libre && ideal > i);
+			if (puedeMoverse) {
+				claves[libre] = claves[i];
+				valores[libre] = valores[i];
+				valores[i] = null;
+				libre = i;
+			}
+			i = (i + 1) & mascara;
+		}
+	}
+
+	private void agrandar() {
+		int[] clavesViejas = claves;
+		Object[] valoresViejos = valores;
+		claves = new int[clavesViejas.length * 2];
+		valores = new Object[valoresViejos.length * 2];
+		mascara = valores.length - 1;
+		for (int j = 0; j < valoresViejos.length; j++) {
+			if (valoresViejos[j] != null) {
+				int i = indice(clavesViejas[j]);
+				while (valores[i] != null) {
+					i = (i + 1) & mascara;
+				}
+				claves[i] = clavesViejas[j];
+				valores[i] = valoresViejos[j];
+			}
+		}
+	}
+
+	private int indice(int clave) {
+		int h = clave * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mascara;
+	}
+}
@@ -0,0 +1,100 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class MapaEnterosTest {
+    /** Mascara de un MapaEnteros creado con el constructor sin argumentos (32 casilleros). */
+    private static final int MASCARA = 31;
+
+    /**
+     * Misma funcion de dispersion que MapaEnteros, para armar claves que caen
+     * en un casillero elegido.
+     */
+    private static int indice(int clave) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & MASCARA;
+    }
+
+    /**
+     * @return las primeras {@code cantidad} claves positivas que caen en el casillero.
+     */
+    private static int[] clavesEn(int casillero, int cantidad) {
+        int[] claves = new int[cantidad];
+        int encontradas = 0;
+        for (int clave = 1; encontradas < cantidad; clave++) {
+            if (indice(clave) == casillero) {
+                claves[encontradas++] = clave;
+            }
+        }
+        return claves;
+    }
+
+    @Test
+    public void testPutGetRemoveAlAgrandar() {
+        MapaEnteros<String> mapa = new MapaEnteros<>();
+        for (int i = -500; i < 500; i++) {
+            assertNull(mapa.put(i * 7, "v" + i));
+        }
+        assertEquals(1000, mapa.size());
+        for (int i = -500; i < 500; i++) {
+            assertEquals("v" + i, mapa.get(i * 7));
+        }
+        for (int i = -500; i < 500; i += 2) {
+            assertEquals("v" + i, mapa.remove(i * 7));
+        }
+        assertEquals(500, mapa.size());
+        for (int i = -500; i < 500; i++) {
+            assertEquals(i % 2 == 0 ? null : "v" + i, mapa.get(i * 7));
+        }
+        assertEquals("v1", mapa.put(7, "otro"));
+        assertEquals("otro", mapa.get(7));
+        assertEquals(500, mapa.size());
+    }
+
+    @Test
+    public void testRemoverDentroDeUnGrupo() {
+        MapaEnteros<String> mapa = new MapaEnteros<>();
+        int[] claves = clavesEn(10, 4);
+        for (int clave : claves) {
+            mapa.put(clave, "v" + clave);
+        }
+        assertEquals("v" + claves[1], mapa.remove(claves[1]));
+        assertNull(mapa.get(claves[1]));
+        assertEquals("v" + claves[2], mapa.get(claves[2]));
+        assertEquals("v" + claves[3], mapa.get(claves[3]));
+
+        assertEquals("v" + claves[0], mapa.remove(claves[0]));
+        assertEquals("v" + claves[3], mapa.get(claves[3]));
+        assertNull(mapa.remove(claves[0]));
+        assertEquals(2, mapa.size());
+    }
+
+    @Test
+    public void testRemoverEnUnGrupoQueDaLaVuelta() {
+        MapaEnteros<String> mapa = new MapaEnteros<>();
+        // Dos claves del ultimo casillero (31 y 0), una del 0 (va al 1) y una del 1 (va al 2).
+        int[] ultimas = clavesEn(MASCARA, 2);
+        int delCero = clavesEn(0, 1)[0];
+        int delUno = clavesEn(1, 1)[0];
+        mapa.put(ultimas[0], "a");
+        mapa.put(ultimas[1], "b");
+        mapa.put(delCero, "c");
+        mapa.put(delUno, "d");
+
+        // Al liberar el 31, "b" vuelve al 31 pasando por el final de la tabla y "c" baja al 0.
+        assertEquals("a", mapa.remove(ultimas[0]));
+        assertEquals("b", mapa.get(ultimas[1]));
+        assertEquals("c", mapa.get(delCero));
+        assertEquals("d", mapa.get(delUno));
+
+        assertEquals("b", mapa.remove(ultimas[1]));
+        assertEquals("c", mapa.get(delCero));
+        assertEquals("d", mapa.get(delUno));
+        assertTrue(mapa.containsKey(delUno));
+        assertEquals(2, mapa.size());
+    }
+}
@@ -0,0 +1,9 @@
+package entidades;
+
+/**
+ * Estructura que sabe estimar cuanta memoria ocupa, para {@link ReporteMemoria}.
+ */
+public interface MedibleEnMemoria {
+
+	void medir(ReporteMemoria.Acumulador acumulador);
+}
@@ -0,0 +1,22 @@
+package entidades;
+
+/**
+ * Operaciones de HomeSolution con contador y latencia en {@link RegistroMetricas}.
+ */
+public enum OperacionMedida {
+	REGISTRAR_EMPLEADO,
+	REGISTRAR_PROYECTO,
+	ASIGNAR,
+	ASIGNAR_MENOS_RETRASO,
+	REGISTRAR_RETRASO,
+	AGREGAR_TAREA,
+	FINALIZAR_TAREA,
+	FINALIZAR_PROYECTO,
+	REASIGNAR,
+	REASIGNAR_MENOS_RETRASO,
+	LISTAR_PROYECTOS,
+	EMPLEADOS_NO_ASIGNADOS,
+	CONSULTAR_PROYECTO,
+	BUSCAR,
+	TAREA_MAS_LARGA
+}
@@ -0,0 +1,91 @@
+package entidades;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Lectura de fechas con formato fijo yyyy-MM-dd, sin pasar por
+ * DateTimeFormatter. Recuerda las ultimas fechas leidas, asi una carga masiva
+ * con pocas fechas distintas no crea un LocalDate por llamada.
+ *
+ * Sigue el criterio del formateador que reemplaza: un dia 29 a 31 que no
+ * existe en el mes se ajusta al ultimo dia del mes (2025-02-30 es 2025-02-28).
+ */
+public final class ParserFechas {
+
+	private static final int LARGO = 10;
+	private static final int TAMANIO_CACHE = 256;
+
+	// Entradas inmutables: una lectura concurrente ve la fecha anterior o la
+	// nueva, y en cualquier caso compara anio, mes y dia antes de usarla.
+	private static final LocalDate[] RECIENTES = new LocalDate[TAMANIO_CACHE];
+
+	private ParserFechas() {
+	}
+
+	/**
+	 * @param error comienzo del mensaje de la excepcion; se le agrega el
+	 *              motivo concreto (caracter y posicion, mes o dia fuera de rango).
+	 * @throws IllegalArgumentException si el texto no es una fecha yyyy-MM-dd.
+	 */
+	public static LocalDate parsear(CharSequence texto, String error) {
+		if (texto == null) {
+			throw new IllegalArgumentException(error + " (fecha vacia)");
+		}
+		if (texto.length() != LARGO) {
+			throw new IllegalArgumentException(
+					error + " ('" + texto + "' tiene " + texto.length() + " caracteres, se esperaban " + LARGO + ")");
+		}
+		int anio = digitos(texto, 0, 4, error);
+		separador(texto, 4, error);
+		int mes = digitos(texto, 5, 7, error);
+		separador(texto, 7, error);
+		int dia = digitos(texto, 8, 10, error);
+
+		if (anio == 0) {
+			throw new IllegalArgumentException(error + " (anio 0000 fuera de rango en '" + texto + "')");
+		}
+		if (mes < 1 || mes > 12) {
+			throw new IllegalArgumentException(error + " (mes " + mes + " fuera de rango en '" + texto + "')");
+		}
+		if (dia < 1 || dia > 31) {
+			throw new IllegalArgumentException(error + " (dia " + dia + " fuera de rango en '" + texto + "')");
+		}
+		if (dia > 28) {
+			dia = Math.min(dia, YearMonth.of(anio, mes).lengthOfMonth());
+		}
+		return fecha(anio, mes, dia);
+	}
+
+	private static LocalDate fecha(int anio, int mes, int dia) {
+		int clave = anio * 372 + mes * 31 + dia;
+		int i = (clave ^ (clave >>> 8)) & (TAMANIO_CACHE - 1);
+		LocalDate reciente = RECIENTES[i];
+		if (reciente != null && reciente.getDayOfMonth() == dia && reciente.getMonthValue() == mes
+				&& reciente.getYear() == anio) {
+			return reciente;
+		}
+		LocalDate nueva = LocalDate.of(anio, mes, dia);
+		RECIENTES[i] = nueva;
+		return nueva;
+	}
+
+	private static int digitos(CharSequence texto, int desde, int hasta, String error) {
+		int valor = 0;
+		for (int i = desde; i < hasta; i++) {
+			char c = texto.charAt(i);
+			if (c < '0' || c > '9') {
+				throw new IllegalArgumentException(
+						error + " (se esperaba un digito en la posicion " + (i + 1) + " de '" + texto + "')");
+			}
+			valor = valor * 10 + (c - '0');
+		}
+		return valor;
+	}
+
+	private static void separador(CharSequence texto, int posicion, String error) {
+		if (texto.charAt(posicion) != '-') {
+			throw new IllegalArgumentException(
+					error + " (se esperaba '-' en la posicion " + (posicion + 1) + " de '" + texto + "')");
+		}
+	}
+}
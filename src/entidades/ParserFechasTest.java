@@ -0,0 +1,80 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+public class ParserFechasTest {
+    private static final String ERROR = "Fecha invalida";
+
+    private static void verificarRechazo(String texto, String motivo) {
+        try {
+            ParserFechas.parsear(texto, ERROR);
+            fail("Se esperaba IllegalArgumentException para '" + texto + "'");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith(ERROR));
+            assertTrue(e.getMessage(), e.getMessage().contains(motivo));
+        }
+    }
+
+    @Test
+    public void testFechaValida() {
+        assertEquals(LocalDate.of(2025, 12, 1), ParserFechas.parsear("2025-12-01", ERROR));
+        assertEquals(LocalDate.of(2024, 2, 29), ParserFechas.parsear("2024-02-29", ERROR));
+    }
+
+    @Test
+    public void testDiaInexistenteSeAjustaAlFinDeMes() {
+        assertEquals(LocalDate.of(2025, 2, 28), ParserFechas.parsear("2025-02-30", ERROR));
+        assertEquals(LocalDate.of(2025, 2, 28), ParserFechas.parsear("2025-02-29", ERROR));
+        assertEquals(LocalDate.of(2024, 2, 29), ParserFechas.parsear("2024-02-31", ERROR));
+        assertEquals(LocalDate.of(2025, 4, 30), ParserFechas.parsear("2025-04-31", ERROR));
+    }
+
+    @Test
+    public void testRechazaValoresFueraDeRango() {
+        verificarRechazo("2025-01-32", "dia 32");
+        verificarRechazo("2025-01-00", "dia 0");
+        verificarRechazo("2025-13-01", "mes 13");
+        verificarRechazo("2025-00-01", "mes 0");
+        verificarRechazo("0000-01-01", "anio 0000");
+    }
+
+    @Test
+    public void testRechazaLargoIncorrecto() {
+        verificarRechazo("2025-1-01", "tiene 9 caracteres");
+        verificarRechazo("2025-01-011", "tiene 11 caracteres");
+        verificarRechazo("", "tiene 0 caracteres");
+        verificarRechazo(null, "fecha vacia");
+    }
+
+    @Test
+    public void testRechazaCaracterInvalidoEnCadaPosicion() {
+        String valida = "2025-12-01";
+        for (int i = 0; i < valida.length(); i++) {
+            boolean esSeparador = i == 4 || i == 7;
+            String texto = valida.substring(0, i) + (esSeparador ? '/' : 'x') + valida.substring(i + 1);
+            verificarRechazo(texto, (esSeparador ? "se esperaba '-'" : "se esperaba un digito")
+                    + " en la posicion " + (i + 1));
+        }
+    }
+
+    @Test
+    public void testLaCacheDevuelveFechasIguales() {
+        LocalDate primera = ParserFechas.parsear("2025-12-01", ERROR);
+        assertSame(primera, ParserFechas.parsear("2025-12-01", ERROR));
+        assertSame(primera, ParserFechas.parsear(new StringBuilder("2025-12-01"), ERROR));
+
+        // Muchas fechas distintas comparten casilleros: nunca debe volver una que no corresponde.
+        LocalDate fecha = LocalDate.of(2020, 1, 1);
+        for (int i = 0; i < 2000; i++, fecha = fecha.plusDays(1)) {
+            assertEquals(fecha, ParserFechas.parsear(fecha.toString(), ERROR));
+            assertEquals(fecha, ParserFechas.parsear(fecha.toString(), ERROR));
+        }
+    }
+}
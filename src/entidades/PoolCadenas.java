@@ -0,0 +1,37 @@
+package entidades;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Pool de cadenas repetidas (categorias, domicilios, datos de clientes).
+ * Devuelve siempre la misma instancia para textos iguales, asi miles de
+ * empleados o proyectos con el mismo valor comparten un solo String.
+ */
+public class PoolCadenas implements MedibleEnMemoria {
+
+	private Map<String, String> cadenas;
+
+	public PoolCadenas() {
+		this.cadenas = new HashMap<>();
+	}
+
+	public String internar(String texto) {
+		if (texto == null) {
+			return null;
+		}
+		String existente = cadenas.putIfAbsent(texto, texto);
+		return existente == null ? texto : existente;
+	}
+
+	public int cantidad() {
+		return cadenas.size();
+	}
+
+	/**
+	 * Solo la tabla: los textos se cuentan en las entidades que los usan.
+	 */
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		acumulador.sumar(ReporteMemoria.POOL_CADENAS, cadenas.size(), EstimadorMemoria.hashMap(cadenas.size()));
+	}
+}
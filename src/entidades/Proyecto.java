@@ -1,21 +1,29 @@
 package entidades;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 
 public class Proyecto {
 
+	/**
+	 * Cantidad de tareas a partir de la cual conviene guardarlas en un
+	 * {@link AlmacenTareasColumnar} en vez de un objeto por tarea.
+	 */
+	public static final int UMBRAL_TAREAS_COLUMNAR = 1024;
+
 	private int numeroProyecto;
 	private Cliente cliente;
 	private String direccionVivienda;
 	private List<Tarea> listaTareas;
 	private HashMap<String, Tarea> tareasPorTitulo;
+	private AlmacenTareasColumnar almacenColumnar;
 	private LocalDate fechaInicio;
 	private LocalDate fechaFinEstimada;
 	private LocalDate fechaFinReal;
 
-	private String estado;
+	private EstadoProyecto estado;
 	private double costoFinalCalculado;
 
 
@@ -25,24 +33,77 @@ public class Proyecto {
 		this.direccionVivienda = direccionVivienda;
 		this.listaTareas = new ArrayList<>();
 		this.tareasPorTitulo = new HashMap<>();
-		this.estado = Estado.pendiente;
+		this.estado = EstadoProyecto.PENDIENTE;
 		this.fechaInicio = fechaInicio;
 		this.fechaFinEstimada = fechaInicio;
 		this.fechaFinReal = fechaInicio;
 		this.costoFinalCalculado = 0.0;
 	}
 
+	/**
+	 * Crea un proyecto que guarda sus tareas en arreglos paralelos.
+	 */
+	public Proyecto(int numeroProyecto, Cliente cliente, String direccionVivienda, LocalDate fechaInicio,
+			AlmacenTareasColumnar almacenColumnar) {
+		this(numeroProyecto, cliente, direccionVivienda, fechaInicio);
+		if (almacenColumnar != null) {
+			this.almacenColumnar = almacenColumnar;
+			this.listaTareas = null;
+			this.tareasPorTitulo = null;
+		}
+	}
+
+	public boolean esColumnar() {
+		return almacenColumnar != null;
+	}
+
 	public void agregarTarea(Tarea tarea) {
-		this.tareasPorTitulo.put(tarea.getTitulo(), tarea);
-		this.listaTareas.add(tarea);
+		this.verificarNoFinalizado();
+		if (almacenColumnar != null) {
+			almacenColumnar.agregar(tarea);
+		} else {
+			this.tareasPorTitulo.put(tarea.getTitulo(), tarea);
+			this.listaTareas.add(tarea);
+		}
+		this.tareaAgregada();
+	}
+
+	/**
+	 * Agrega una tarea nueva. En modo columnar no crea ningun objeto Tarea.
+	 */
+	public void agregarTarea(String titulo, String descripcion, double duracionDias) {
+		this.verificarNoFinalizado();
+		if (almacenColumnar != null) {
+			almacenColumnar.agregar(titulo, descripcion, duracionDias);
+			this.tareaAgregada();
+		} else {
+			this.agregarTarea(new Tarea(titulo, descripcion, duracionDias));
+		}
+	}
+
+	private void verificarNoFinalizado() {
+		if (this.estado == EstadoProyecto.FINALIZADO) {
+			throw new IllegalStateException("No se pueden agregar tareas al proyecto " + numeroProyecto + " porque ya esta finalizado.");
+		}
+	}
+
+	private void tareaAgregada() {
 		this.actualizarFechasDeFinalizacion();
 
-		if (this.estado.equals(Estado.pendiente)) {
-			this.estado = Estado.activo;
+		if (this.estado == EstadoProyecto.PENDIENTE) {
+			this.cambiarEstado(EstadoProyecto.ACTIVO);
 		}
 	}
 
+	private void cambiarEstado(EstadoProyecto nuevo) {
+		this.estado.verificarTransicion(nuevo);
+		this.estado = nuevo;
+	}
+
 	public boolean verificarTareasCompletadas() {
+		if (almacenColumnar != null) {
+			return almacenColumnar.todasTerminadas();
+		}
 		for (Tarea t : listaTareas) {
 			if (!t.isTareaTerminada()) {
 				return false;
@@ -58,11 +119,11 @@ public class Proyecto {
 		}
 
 
-		if (this.estado.equals(Estado.finalizado)) {
+		if (this.estado == EstadoProyecto.FINALIZADO) {
 			return;
 		}
 
-		this.estado = Estado.finalizado;
+		this.cambiarEstado(EstadoProyecto.FINALIZADO);
 		this.fechaFinReal = fechaReal;
 
 		this.calcularCostoFinal();
@@ -72,15 +133,18 @@ public class Proyecto {
 	    if (!verificarTareasCompletadas()) {
 	        throw new Exception("Error: No se puede finalizar el proyecto, aún quedan tareas pendientes.");
 	    }
-	    if (this.estado.equals(Estado.finalizado)) {
+	    if (this.estado == EstadoProyecto.FINALIZADO) {
 	        return;
 	    }
 
-	    this.estado = Estado.finalizado;
+	    this.cambiarEstado(EstadoProyecto.FINALIZADO);
 	    this.calcularCostoFinal();
 	}
 
 	public boolean tieneTareasPendientes() {
+		if (almacenColumnar != null) {
+			return almacenColumnar.hayPendientesSinAsignar();
+		}
 		for (Tarea t : listaTareas) {
 			if (t.getResponsable() == null && !t.isTareaTerminada()) {
 				return true;
@@ -93,10 +157,15 @@ public class Proyecto {
 		double duracionTotalDias = 0;
 		double retrasoTotalDias = 0;
 
-		for (Tarea t : listaTareas) {
-			
-			duracionTotalDias += Math.ceil(t.getCantDiasDuracion());
-			retrasoTotalDias += t.getDiasDeRetraso();
+		if (almacenColumnar != null) {
+			duracionTotalDias = almacenColumnar.getDuracionTotal();
+			retrasoTotalDias = almacenColumnar.getRetrasoTotal();
+		} else {
+			for (Tarea t : listaTareas) {
+
+				duracionTotalDias += Math.ceil(t.getCantDiasDuracion());
+				retrasoTotalDias += t.getDiasDeRetraso();
+			}
 		}
 
 		this.fechaFinEstimada = fechaInicio.plusDays((long) Math.round(duracionTotalDias));
@@ -110,6 +179,9 @@ public class Proyecto {
 	}
 
 	private boolean huboRetrasoTotal() {
+		if (almacenColumnar != null) {
+			return almacenColumnar.hayRetrasos();
+		}
 		for (Tarea t : listaTareas) {
 			if (t.getDiasDeRetraso() > 0.0) {
 				return true;
@@ -123,14 +195,21 @@ public class Proyecto {
 		double bonificacionTotal = 0.0;
 		boolean retrasoGeneral = this.huboRetrasoTotal();
 
-		for (Tarea t : listaTareas) {
-			costoBaseTareas += t.getCostoTarea();
+		if (almacenColumnar != null) {
+			costoBaseTareas = almacenColumnar.costoTotal();
+			if (!retrasoGeneral) {
+				bonificacionTotal = almacenColumnar.bonificacionPlanta();
+			}
+		} else {
+			for (Tarea t : listaTareas) {
+				costoBaseTareas += t.getCostoTarea();
 
-			if (t.getResponsable() instanceof EmpleadoPlanta) {
-				EmpleadoPlanta ep = (EmpleadoPlanta) t.getResponsable();
+				if (t.getResponsable() instanceof EmpleadoPlanta) {
+					EmpleadoPlanta ep = (EmpleadoPlanta) t.getResponsable();
 
-				if (!retrasoGeneral) {
-					bonificacionTotal += ep.calcularAdicional(t.getCostoTarea());
+					if (!retrasoGeneral) {
+						bonificacionTotal += ep.calcularAdicional(t.getCostoTarea());
+					}
 				}
 			}
 		}
@@ -144,20 +223,138 @@ public class Proyecto {
 		this.costoFinalCalculado = totalConMargen + bonificacionTotal;
 	}
 
-	public Tarea getTareaPorTitulo(String titulo) {
+	/**
+	 * Vuelve a dejar el proyecto como estaba al ser guardado. Se usa al leerlo
+	 * desde un almacenamiento externo, despues de agregarle sus tareas.
+	 */
+	void restaurar(EstadoProyecto estado, LocalDate fechaFinEstimada, LocalDate fechaFinReal, double costoFinal) {
+		this.estado = estado;
+		this.fechaFinEstimada = fechaFinEstimada;
+		this.fechaFinReal = fechaFinReal;
+		this.costoFinalCalculado = costoFinal;
+	}
+
+	void medir(ReporteMemoria.Acumulador acumulador) {
+		long bytes = EstimadorMemoria.objeto(Proyecto.class) + EstimadorMemoria.cadena(direccionVivienda);
+		if (almacenColumnar != null) {
+			almacenColumnar.medir(acumulador);
+		} else {
+			bytes += EstimadorMemoria.lista(listaTareas.size()) + EstimadorMemoria.hashMap(tareasPorTitulo.size());
+			for (Tarea t : listaTareas) {
+				t.medir(acumulador);
+			}
+		}
+		acumulador.sumar(ReporteMemoria.PROYECTOS, 1, bytes);
+	}
+
+	public ITarea getTareaPorTitulo(String titulo) {
+		if (almacenColumnar != null) {
+			int fila = almacenColumnar.buscarFila(titulo);
+			return fila < 0 ? null : almacenColumnar.vista(fila);
+		}
 		return tareasPorTitulo.get(titulo);
 	}
 
+	/**
+	 * @return la primera tarea con ese titulo, o null.
+	 */
+	public ITarea buscarTarea(String titulo, boolean ignorarMayusculas) {
+		if (almacenColumnar != null) {
+			int fila = almacenColumnar.buscarPrimeraFila(titulo, ignorarMayusculas);
+			return fila < 0 ? null : almacenColumnar.vista(fila);
+		}
+		for (int i = 0; i < listaTareas.size(); i++) {
+			Tarea t = listaTareas.get(i);
+			if (ignorarMayusculas ? t.getTitulo().equalsIgnoreCase(titulo) : t.getTitulo().equals(titulo)) {
+				return t;
+			}
+		}
+		return null;
+	}
+
+	public int cantidadTareas() {
+		return almacenColumnar != null ? almacenColumnar.cantidad() : listaTareas.size();
+	}
+
+	/**
+	 * @return el legajo del responsable de la tarea en esa posicion, o -1 si no tiene.
+	 */
+	public int legajoResponsable(int indice) {
+		if (almacenColumnar != null) {
+			return almacenColumnar.getLegajo(indice);
+		}
+		Empleado responsable = listaTareas.get(indice).getResponsable();
+		return responsable == null ? ColumnasTareas.SIN_RESPONSABLE : responsable.getNumeroLegajo();
+	}
+
+	/**
+	 * Pasa cada tarea con su posicion al consumidor. En modo columnar la tarea
+	 * recibida es una vista reutilizada y solo vale durante la llamada.
+	 */
+	public void recorrerTareas(ConsumidorIntObjeto<ITarea> consumidor) {
+		if (almacenColumnar != null) {
+			almacenColumnar.recorrer(consumidor);
+			return;
+		}
+		for (int i = 0; i < listaTareas.size(); i++) {
+			consumidor.aceptar(i, listaTareas.get(i));
+		}
+	}
+
 	public double getCostoFinal() {
 		return this.costoFinalCalculado;
 	}
 
-	public String getEstado() {
+	public EstadoProyecto getEstado() {
 		return estado;
 	}
 
-	public List<Tarea> getListaTareas() {
-		return listaTareas;
+	/**
+	 * Lista de solo lectura; en modo columnar crea una vista por cada tarea
+	 * pedida. Para recorridos conviene {@link #recorrerTareas}.
+	 */
+	public List<ITarea> getListaTareas() {
+		if (almacenColumnar != null) {
+			return almacenColumnar.comoLista();
+		}
+		return Collections.unmodifiableList(listaTareas);
+	}
+
+	/**
+	 * @return la primera tarea con la mayor duracion, o null si no tiene tareas.
+	 */
+	public ITarea tareaMasLarga() {
+		if (almacenColumnar != null) {
+			int fila = almacenColumnar.filaMasLarga();
+			return fila < 0 ? null : almacenColumnar.vista(fila);
+		}
+		Tarea masLarga = null;
+		for (Tarea t : listaTareas) {
+			if (masLarga == null || t.getCantDiasDuracion() > masLarga.getCantDiasDuracion()) {
+				masLarga = t;
+			}
+		}
+		return masLarga;
+	}
+
+	/**
+	 * @return las tareas sin responsable y sin terminar. En modo columnar solo
+	 * crea vistas para esas tareas.
+	 */
+	public List<ITarea> tareasSinAsignar() {
+		List<ITarea> sinAsignar = new ArrayList<>();
+		if (almacenColumnar != null) {
+			for (int fila : almacenColumnar.filasSinAsignar()) {
+				sinAsignar.add(almacenColumnar.vista(fila));
+			}
+			return sinAsignar;
+		}
+		for (Tarea t : listaTareas) {
+			if (t.getResponsable() == null && !t.isTareaTerminada()) {
+				sinAsignar.add(t);
+			}
+		}
+		return sinAsignar;
 	}
 
 	public int getNumeroProyecto() {
@@ -167,4 +364,35 @@ public class Proyecto {
 	public String getDireccionVivienda() {
 		return direccionVivienda;
 	}
+
+	/**
+	 * @return el almacen columnar, o null si las tareas son objetos comunes.
+	 */
+	public AlmacenTareasColumnar getAlmacenColumnar() {
+		return almacenColumnar;
+	}
+
+	public Cliente getCliente() {
+		return cliente;
+	}
+
+	/**
+	 * Reemplaza el cliente por la instancia compartida del registro de clientes.
+	 * Los datos son los mismos.
+	 */
+	void setCliente(Cliente cliente) {
+		this.cliente = cliente;
+	}
+
+	public LocalDate getFechaInicio() {
+		return fechaInicio;
+	}
+
+	public LocalDate getFechaFinEstimada() {
+		return fechaFinEstimada;
+	}
+
+	public LocalDate getFechaFinReal() {
+		return fechaFinReal;
+	}
 }
\ No newline at end of file
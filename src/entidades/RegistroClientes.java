@@ -0,0 +1,79 @@
+package entidades;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Clientes unicos del sistema, identificados por nombre, telefono y email.
+ * Todos los proyectos de un mismo cliente comparten el mismo objeto Cliente.
+ */
+public class RegistroClientes implements MedibleEnMemoria {
+
+	private Map<Clave, Cliente> clientes;
+	private PoolCadenas cadenas;
+
+	public RegistroClientes(PoolCadenas cadenas) {
+		this.clientes = new HashMap<>();
+		this.cadenas = cadenas;
+	}
+
+	/**
+	 * @return el cliente con esos datos, creandolo si todavia no existe.
+	 */
+	public Cliente obtener(String nombre, String telefono, String email) {
+		Clave clave = new Clave(nombre, telefono, email);
+		Cliente cliente = clientes.get(clave);
+		if (cliente == null) {
+			cliente = new Cliente(cadenas.internar(nombre), cadenas.internar(telefono), cadenas.internar(email));
+			clientes.put(clave, cliente);
+		}
+		return cliente;
+	}
+
+	/**
+	 * @return el cliente con esos datos, o null si nunca se registro.
+	 */
+	public Cliente buscar(String nombre, String telefono, String email) {
+		return clientes.get(new Clave(nombre, telefono, email));
+	}
+
+	public int cantidad() {
+		return clientes.size();
+	}
+
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		for (Cliente c : clientes.values()) {
+			acumulador.sumar(ReporteMemoria.CLIENTES, 1, c.bytesEstimados());
+		}
+		acumulador.sumar(ReporteMemoria.REGISTRO_CLIENTES, clientes.size(),
+				EstimadorMemoria.hashMap(clientes.size()) + clientes.size() * EstimadorMemoria.objeto(Clave.class));
+	}
+
+	private static class Clave {
+		private String nombre;
+		private String telefono;
+		private String email;
+
+		Clave(String nombre, String telefono, String email) {
+			this.nombre = nombre;
+			this.telefono = telefono;
+			this.email = email;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (!(o instanceof Clave)) {
+				return false;
+			}
+			Clave otra = (Clave) o;
+			return Objects.equals(nombre, otra.nombre) && Objects.equals(telefono, otra.telefono)
+					&& Objects.equals(email, otra.email);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(nombre, telefono, email);
+		}
+	}
+}
@@ -0,0 +1,247 @@
+package entidades;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Contadores y latencias por operacion, mas indicadores del negocio que se
+ * calculan al pedir una {@link Instantanea}.
+ *
+ * La latencia va a un histograma de cubetas logaritmicas: la cubeta i cuenta
+ * las llamadas que tardaron entre 2^(i-1) y 2^i - 1 nanosegundos. Registrar
+ * una llamada son unos pocos incrementos de LongAdder, sin reservar memoria
+ * ni bloquear aunque lo hagan varios hilos a la vez.
+ */
+public class RegistroMetricas {
+
+	static final int CUBETAS = 64;
+
+	private final Medidor[] medidores;
+	private final Map<String, DoubleSupplier> indicadores = new LinkedHashMap<>();
+
+	public RegistroMetricas() {
+		OperacionMedida[] operaciones = OperacionMedida.values();
+		this.medidores = new Medidor[operaciones.length];
+		for (int i = 0; i < operaciones.length; i++) {
+			medidores[i] = new Medidor();
+		}
+	}
+
+	/**
+	 * Agrega un indicador; {@code valor} se evalua en cada instantanea, no al registrar operaciones.
+	 */
+	public synchronized void registrarIndicador(String nombre, DoubleSupplier valor) {
+		if (nombre == null || valor == null) {
+			throw new IllegalArgumentException("El indicador necesita nombre y valor.");
+		}
+		indicadores.put(nombre, valor);
+	}
+
+	/**
+	 * @param inicio valor de System.nanoTime() al empezar la operacion.
+	 * @param exito false si termino con una excepcion o fue rechazada.
+	 */
+	public void registrar(OperacionMedida operacion, long inicio, boolean exito) {
+		medidores[operacion.ordinal()].registrar(System.nanoTime() - inicio, exito);
+	}
+
+	/**
+	 * Copia de los valores actuales. Con operaciones en curso en otros hilos
+	 * los contadores pueden no ser exactamente simultaneos entre si.
+	 */
+	public synchronized Instantanea instantanea() {
+		OperacionMedida[] operaciones = OperacionMedida.values();
+		List<Medicion> mediciones = new ArrayList<>(operaciones.length);
+		for (OperacionMedida operacion : operaciones) {
+			mediciones.add(medidores[operacion.ordinal()].medicion(operacion));
+		}
+		Map<String, Double> valores = new LinkedHashMap<>();
+		for (Map.Entry<String, DoubleSupplier> e : indicadores.entrySet()) {
+			valores.put(e.getKey(), e.getValue().getAsDouble());
+		}
+		return new Instantanea(mediciones, valores);
+	}
+
+	/**
+	 * Cubeta de una duracion: 0 para 0 ns, si no la cantidad de bits significativos.
+	 */
+	static int cubeta(long nanos) {
+		return nanos <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(nanos);
+	}
+
+	private static class Medidor {
+		private final LongAdder cantidad = new LongAdder();
+		private final LongAdder fallos = new LongAdder();
+		private final LongAdder nanosTotales = new LongAdder();
+		private final LongAccumulator nanosMaximo = new LongAccumulator(Math::max, 0);
+		private final LongAdder[] cubetas = new LongAdder[CUBETAS];
+
+		Medidor() {
+			for (int i = 0; i < CUBETAS; i++) {
+				cubetas[i] = new LongAdder();
+			}
+		}
+
+		void registrar(long nanos, boolean exito) {
+			cantidad.increment();
+			if (!exito) {
+				fallos.increment();
+			}
+			nanosTotales.add(nanos);
+			nanosMaximo.accumulate(nanos);
+			cubetas[Math.min(CUBETAS - 1, cubeta(nanos))].increment();
+		}
+
+		Medicion medicion(OperacionMedida operacion) {
+			long[] valores = new long[CUBETAS];
+			for (int i = 0; i < CUBETAS; i++) {
+				valores[i] = cubetas[i].sum();
+			}
+			return new Medicion(operacion, cantidad.sum(), fallos.sum(), nanosTotales.sum(), nanosMaximo.get(),
+					valores);
+		}
+	}
+
+	/**
+	 * Valores de una operacion en el momento de la instantanea.
+	 */
+	public static class Medicion {
+		private final OperacionMedida operacion;
+		private final long cantidad;
+		private final long fallos;
+		private final long nanosTotales;
+		private final long nanosMaximo;
+		private final long[] cubetas;
+
+		Medicion(OperacionMedida operacion, long cantidad, long fallos, long nanosTotales, long nanosMaximo,
+				long[] cubetas) {
+			this.operacion = operacion;
+			this.cantidad = cantidad;
+			this.fallos = fallos;
+			this.nanosTotales = nanosTotales;
+			this.nanosMaximo = nanosMaximo;
+			this.cubetas = cubetas;
+		}
+
+		public OperacionMedida getOperacion() {
+			return operacion;
+		}
+
+		public long getCantidad() {
+			return cantidad;
+		}
+
+		public long getFallos() {
+			return fallos;
+		}
+
+		public long getNanosTotales() {
+			return nanosTotales;
+		}
+
+		public long getNanosMaximo() {
+			return nanosMaximo;
+		}
+
+		public double getNanosPromedio() {
+			return cantidad == 0 ? 0 : (double) nanosTotales / cantidad;
+		}
+
+		/**
+		 * Cantidad de llamadas en la cubeta i (entre 2^(i-1) y 2^i - 1 ns).
+		 */
+		public long getCubeta(int i) {
+			return cubetas[i];
+		}
+
+		/**
+		 * Cota superior del percentil: el limite de la cubeta donde cae, sin
+		 * pasar del maximo observado. 0 si no hubo llamadas.
+		 *
+		 * @param fraccion por ejemplo 0.99 para el percentil 99.
+		 */
+		public long percentil(double fraccion) {
+			long total = 0;
+			for (long c : cubetas) {
+				total += c;
+			}
+			if (total == 0) {
+				return 0;
+			}
+			long objetivo = Math.max(1, (long) Math.ceil(fraccion * total));
+			long acumulado = 0;
+			for (int i = 0; i < CUBETAS; i++) {
+				acumulado += cubetas[i];
+				if (acumulado >= objetivo) {
+					long limite = i >= 63 ? Long.MAX_VALUE : (1L << i) - 1;
+					return Math.min(limite, nanosMaximo);
+				}
+			}
+			return nanosMaximo;
+		}
+	}
+
+	/**
+	 * Todas las operaciones e indicadores en un momento. {@link #toString()}
+	 * arma el volcado en texto.
+	 */
+	public static class Instantanea {
+		private final List<Medicion> mediciones;
+		private final Map<String, Double> indicadores;
+
+		Instantanea(List<Medicion> mediciones, Map<String, Double> indicadores) {
+			this.mediciones = Collections.unmodifiableList(mediciones);
+			this.indicadores = Collections.unmodifiableMap(indicadores);
+		}
+
+		public Medicion get(OperacionMedida operacion) {
+			return mediciones.get(operacion.ordinal());
+		}
+
+		public List<Medicion> getMediciones() {
+			return mediciones;
+		}
+
+		/**
+		 * @return valor del indicador, o NaN si no existe.
+		 */
+		public double getIndicador(String nombre) {
+			Double valor = indicadores.get(nombre);
+			return valor == null ? Double.NaN : valor;
+		}
+
+		public Map<String, Double> getIndicadores() {
+			return indicadores;
+		}
+
+		/**
+		 * Una linea por operacion con llamadas (cantidad, fallos, promedio y
+		 * percentiles en microsegundos) y una por indicador.
+		 */
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(String.format("%-24s %9s %7s %10s %10s %10s %10s %10s%n", "operacion", "cantidad", "fallos",
+					"prom us", "p50 us", "p90 us", "p99 us", "max us"));
+			for (Medicion m : mediciones) {
+				if (m.getCantidad() == 0) {
+					continue;
+				}
+				sb.append(String.format("%-24s %9d %7d %10.1f %10.1f %10.1f %10.1f %10.1f%n",
+						m.getOperacion().name().toLowerCase(), m.getCantidad(), m.getFallos(),
+						m.getNanosPromedio() / 1e3, m.percentil(0.50) / 1e3, m.percentil(0.90) / 1e3,
+						m.percentil(0.99) / 1e3, m.getNanosMaximo() / 1e3));
+			}
+			for (Map.Entry<String, Double> e : indicadores.entrySet()) {
+				double v = e.getValue();
+				sb.append(String.format(v == Math.rint(v) ? "%-24s %.0f%n" : "%-24s %.2f%n", e.getKey(), v));
+			}
+			return sb.toString();
+		}
+	}
+}
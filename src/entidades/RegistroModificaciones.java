@@ -0,0 +1,55 @@
+package entidades;
+import java.util.BitSet;
+
+/**
+ * Legajos y numeros de proyecto modificados desde el ultimo punto de control.
+ * HomeSolution los marca al guardar cada cambio y GestorPuntosDeControl los
+ * toma al escribir un delta, sin recorrer los repositorios.
+ *
+ * Los ids son consecutivos, asi que alcanza con un bit por id.
+ */
+public class RegistroModificaciones {
+
+	private final BitSet empleados = new BitSet();
+	private final BitSet proyectos = new BitSet();
+
+	public synchronized void marcarEmpleado(int legajo) {
+		empleados.set(legajo);
+	}
+
+	public synchronized void marcarProyecto(int numero) {
+		proyectos.set(numero);
+	}
+
+	/**
+	 * @return los legajos marcados, en orden; quedan desmarcados.
+	 */
+	public synchronized int[] tomarEmpleados() {
+		return tomar(empleados);
+	}
+
+	/**
+	 * @return los numeros de proyecto marcados, en orden; quedan desmarcados.
+	 */
+	public synchronized int[] tomarProyectos() {
+		return tomar(proyectos);
+	}
+
+	/**
+	 * Vuelve a marcar ids tomados que no se pudieron guardar.
+	 */
+	public synchronized void devolver(int[] legajos, int[] numerosProyecto) {
+		for (int legajo : legajos) {
+			empleados.set(legajo);
+		}
+		for (int numero : numerosProyecto) {
+			proyectos.set(numero);
+		}
+	}
+
+	private static int[] tomar(BitSet marcados) {
+		int[] ids = marcados.stream().toArray();
+		marcados.clear();
+		return ids;
+	}
+}
@@ -0,0 +1,162 @@
+package entidades;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cantidad de instancias y bytes estimados por tipo de entidad e indice.
+ * Los bytes son aproximados (ver {@link EstimadorMemoria}). Los textos
+ * compartidos se cuentan en cada entidad que los usa, asi que el total es
+ * una cota superior. Con un paso mayor a 1 los proyectos, sus tareas e
+ * historiales se estiman a partir de uno de cada "paso" proyectos.
+ */
+public class ReporteMemoria {
+
+	public static final String EMPLEADOS = "Empleado";
+	public static final String PROYECTOS = "Proyecto";
+	public static final String TAREAS = "Tarea";
+	public static final String TAREAS_COLUMNARES = "Tarea (columnar)";
+	public static final String HISTORIALES = "HistorialAsignaciones";
+	public static final String CLIENTES = "Cliente";
+	public static final String INDICE_EMPLEADOS = "Indice de empleados";
+	public static final String INDICE_PROYECTOS = "Indice de proyectos";
+	public static final String POOL_CADENAS = "Pool de cadenas";
+	public static final String REGISTRO_CLIENTES = "Registro de clientes";
+	public static final String INDICE_ARCHIVADOS = "Indice de archivados";
+	public static final String BUSQUEDA_EMPLEADOS = "Busqueda de empleados";
+	public static final String BUSQUEDA_PROYECTOS = "Busqueda de proyectos";
+
+	private final List<Entrada> entradas;
+	private final long bytesFueraDelHeap;
+	private final int paso;
+
+	private ReporteMemoria(List<Entrada> entradas, long bytesFueraDelHeap, int paso) {
+		this.entradas = Collections.unmodifiableList(entradas);
+		this.bytesFueraDelHeap = bytesFueraDelHeap;
+		this.paso = paso;
+	}
+
+	public List<Entrada> getEntradas() {
+		return entradas;
+	}
+
+	/**
+	 * @return la entrada con ese nombre, o null si no se midio nada de ese tipo.
+	 */
+	public Entrada getEntrada(String nombre) {
+		for (Entrada e : entradas) {
+			if (e.getNombre().equals(nombre)) {
+				return e;
+			}
+		}
+		return null;
+	}
+
+	public long getBytesEnHeap() {
+		long total = 0;
+		for (Entrada e : entradas) {
+			total += e.getBytes();
+		}
+		return total;
+	}
+
+	public long getBytesFueraDelHeap() {
+		return bytesFueraDelHeap;
+	}
+
+	public int getPaso() {
+		return paso;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-24s %12s %14s%n", "Tipo", "Cantidad", "Bytes"));
+		for (Entrada e : entradas) {
+			sb.append(String.format("%-24s %12d %14d%n", e.getNombre(), e.getCantidad(), e.getBytes()));
+		}
+		sb.append(String.format("%-24s %12s %14d%n", "Total en heap", "", getBytesEnHeap()));
+		sb.append(String.format("%-24s %12s %14d%n", "Fuera del heap", "", bytesFueraDelHeap));
+		if (paso > 1) {
+			sb.append("(tareas estimadas con 1 de cada ").append(paso).append(" proyectos)").append(System.lineSeparator());
+		}
+		return sb.toString();
+	}
+
+	public static class Entrada {
+		private final String nombre;
+		private final long cantidad;
+		private final long bytes;
+
+		Entrada(String nombre, long cantidad, long bytes) {
+			this.nombre = nombre;
+			this.cantidad = cantidad;
+			this.bytes = bytes;
+		}
+
+		public String getNombre() {
+			return nombre;
+		}
+
+		public long getCantidad() {
+			return cantidad;
+		}
+
+		public long getBytes() {
+			return bytes;
+		}
+	}
+
+	/**
+	 * Junta las mediciones de cada estructura mientras se arma el reporte.
+	 */
+	public static class Acumulador {
+		private final Map<String, long[]> totales = new LinkedHashMap<>();
+		private final int paso;
+		private long bytesFueraDelHeap;
+
+		Acumulador(int paso) {
+			if (paso < 1) {
+				throw new IllegalArgumentException("El paso de muestreo debe ser al menos 1.");
+			}
+			this.paso = paso;
+		}
+
+		/**
+		 * @return cada cuantos proyectos se mide uno.
+		 */
+		public int getPaso() {
+			return paso;
+		}
+
+		public void sumar(String nombre, long cantidad, long bytes) {
+			long[] total = totales.computeIfAbsent(nombre, k -> new long[2]);
+			total[0] += cantidad;
+			total[1] += bytes;
+		}
+
+		/**
+		 * Suma las mediciones de una muestra multiplicadas por el factor dado.
+		 */
+		public void sumarEscalado(Acumulador muestra, double factor) {
+			for (Map.Entry<String, long[]> e : muestra.totales.entrySet()) {
+				sumar(e.getKey(), Math.round(e.getValue()[0] * factor), Math.round(e.getValue()[1] * factor));
+			}
+			bytesFueraDelHeap += Math.round(muestra.bytesFueraDelHeap * factor);
+		}
+
+		public void sumarFueraDelHeap(long bytes) {
+			bytesFueraDelHeap += bytes;
+		}
+
+		ReporteMemoria construir() {
+			List<Entrada> entradas = new ArrayList<>(totales.size());
+			for (Map.Entry<String, long[]> e : totales.entrySet()) {
+				entradas.add(new Entrada(e.getKey(), e.getValue()[0], e.getValue()[1]));
+			}
+			return new ReporteMemoria(entradas, bytesFueraDelHeap, paso);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package entidades;
+
+/**
+ * Almacenamiento de los empleados del sistema, indexados por legajo.
+ * HomeSolution solo conoce esta interfaz, asi la logica de negocio no cambia
+ * si los empleados viven en memoria o en disco.
+ */
+public interface RepositorioEmpleados {
+
+	/**
+	 * Agrega un empleado nuevo.
+	 * @throws IllegalArgumentException si ya existe un empleado con ese legajo.
+	 */
+	public void guardar(Empleado empleado) throws IllegalArgumentException;
+
+	/**
+	 * Persiste los cambios hechos sobre un empleado ya guardado.
+	 */
+	public void actualizar(Empleado empleado);
+
+	/**
+	 * @return el empleado con ese legajo, o null si no existe.
+	 */
+	public Empleado buscar(int legajo);
+
+	/**
+	 * @return todos los empleados, en orden de registro.
+	 */
+	public Iterable<Empleado> todos();
+
+	/**
+	 * Acceso por posicion, para recorrer sin crear un iterador.
+	 * @param indice entre 0 y cantidad() - 1, en orden de registro.
+	 */
+	public Empleado obtener(int indice);
+
+	public int cantidad();
+}
@@ -0,0 +1,175 @@
+package entidades;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Empleados guardados en disco con registros de tamaño fijo.
+ *
+ * empleados.dat: un registro de TAMANIO_REGISTRO bytes por empleado, en orden de registro.
+ * empleados.idx: una entrada (legajo, posicion) de 12 bytes por empleado.
+ *
+ * En memoria solo queda el indice; cada busqueda lee el registro del archivo,
+ * por eso HomeSolution llama a actualizar() despues de modificar un empleado.
+ */
+public class RepositorioEmpleadosEnArchivo implements RepositorioEmpleados, MedibleEnMemoria, Closeable {
+
+	public static final int TAMANIO_REGISTRO = 256;
+	private static final int TAMANIO_ENTRADA_INDICE = 12;
+
+	private RandomAccessFile datos;
+	private RandomAccessFile indice;
+	private MapaEnteroEntero registroPorLegajo;
+	private int cantidad;
+
+	public RepositorioEmpleadosEnArchivo(Path directorio) {
+		try {
+			Files.createDirectories(directorio);
+			this.datos = new RandomAccessFile(directorio.resolve("empleados.dat").toFile(), "rw");
+			this.indice = new RandomAccessFile(directorio.resolve("empleados.idx").toFile(), "rw");
+			this.registroPorLegajo = new MapaEnteroEntero();
+			cargarIndice();
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo abrir el repositorio de empleados en " + directorio, e);
+		}
+	}
+
+	private void cargarIndice() throws IOException {
+		long entradas = indice.length() / TAMANIO_ENTRADA_INDICE;
+		indice.seek(0);
+		for (long i = 0; i < entradas; i++) {
+			int legajo = indice.readInt();
+			long posicion = indice.readLong();
+			registroPorLegajo.put(legajo, (int) (posicion / TAMANIO_REGISTRO));
+		}
+		this.cantidad = (int) entradas;
+	}
+
+	@Override
+	public void guardar(Empleado empleado) throws IllegalArgumentException {
+		if (registroPorLegajo.containsKey(empleado.getNumeroLegajo())) {
+			throw new IllegalArgumentException("Ya existe un empleado con legajo " + empleado.getNumeroLegajo());
+		}
+		long posicion = (long) cantidad * TAMANIO_REGISTRO;
+		try {
+			escribirRegistro(posicion, empleado);
+			indice.seek((long) cantidad * TAMANIO_ENTRADA_INDICE);
+			indice.writeInt(empleado.getNumeroLegajo());
+			indice.writeLong(posicion);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo guardar el empleado " + empleado.getNumeroLegajo(), e);
+		}
+		registroPorLegajo.put(empleado.getNumeroLegajo(), cantidad);
+		cantidad++;
+	}
+
+	@Override
+	public void actualizar(Empleado empleado) {
+		int registro = registroPorLegajo.get(empleado.getNumeroLegajo());
+		if (registro == MapaEnteroEntero.NO_ENCONTRADO) {
+			throw new IllegalArgumentException("Empleado con legajo " + empleado.getNumeroLegajo() + " no encontrado.");
+		}
+		try {
+			escribirRegistro((long) registro * TAMANIO_REGISTRO, empleado);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo actualizar el empleado " + empleado.getNumeroLegajo(), e);
+		}
+	}
+
+	@Override
+	public Empleado buscar(int legajo) {
+		int registro = registroPorLegajo.get(legajo);
+		if (registro == MapaEnteroEntero.NO_ENCONTRADO) {
+			return null;
+		}
+		return leerRegistro((long) registro * TAMANIO_REGISTRO);
+	}
+
+	@Override
+	public Iterable<Empleado> todos() {
+		return new Iterable<Empleado>() {
+			@Override
+			public Iterator<Empleado> iterator() {
+				return new Iterator<Empleado>() {
+					private int siguiente = 0;
+
+					@Override
+					public boolean hasNext() {
+						return siguiente < cantidad;
+					}
+
+					@Override
+					public Empleado next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return obtener(siguiente++);
+					}
+				};
+			}
+		};
+	}
+
+	@Override
+	public Empleado obtener(int indice) {
+		if (indice < 0 || indice >= cantidad) {
+			throw new IndexOutOfBoundsException("Indice " + indice + " fuera de rango (" + cantidad + " empleados).");
+		}
+		return leerRegistro((long) indice * TAMANIO_REGISTRO);
+	}
+
+	/**
+	 * Los empleados estan en disco: en el heap solo queda el indice.
+	 */
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		acumulador.sumar(ReporteMemoria.INDICE_EMPLEADOS, cantidad, registroPorLegajo.bytesEstimados());
+	}
+
+	@Override
+	public int cantidad() {
+		return cantidad;
+	}
+
+	@Override
+	public void close() throws IOException {
+		datos.close();
+		indice.close();
+	}
+
+	private void escribirRegistro(long posicion, Empleado empleado) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(TAMANIO_REGISTRO);
+		CodificadorEntidades.escribirEmpleado(new DataOutputStream(bytes), empleado);
+		if (bytes.size() > TAMANIO_REGISTRO - 2) {
+			throw new IllegalArgumentException("Los datos del empleado " + empleado.getNumeroLegajo()
+					+ " no entran en un registro de " + TAMANIO_REGISTRO + " bytes.");
+		}
+		byte[] registro = new byte[TAMANIO_REGISTRO];
+		registro[0] = (byte) (bytes.size() >>> 8);
+		registro[1] = (byte) bytes.size();
+		System.arraycopy(bytes.toByteArray(), 0, registro, 2, bytes.size());
+		datos.seek(posicion);
+		datos.write(registro);
+	}
+
+	private Empleado leerRegistro(long posicion) {
+		try {
+			byte[] registro = new byte[TAMANIO_REGISTRO];
+			datos.seek(posicion);
+			datos.readFully(registro);
+			int largo = ((registro[0] & 0xFF) << 8) | (registro[1] & 0xFF);
+			return CodificadorEntidades.leerEmpleado(new DataInputStream(new ByteArrayInputStream(registro, 2, largo)));
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el registro de empleado en la posicion " + posicion, e);
+		}
+	}
+}
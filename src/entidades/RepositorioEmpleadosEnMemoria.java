@@ -0,0 +1,61 @@
+package entidades;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RepositorioEmpleadosEnMemoria implements RepositorioEmpleados, MedibleEnMemoria {
+
+	private MapaEnteros<Empleado> empleadosPorLegajo;
+	private List<Empleado> todosLosEmpleados;
+
+	public RepositorioEmpleadosEnMemoria() {
+		this.empleadosPorLegajo = new MapaEnteros<>();
+		this.todosLosEmpleados = new ArrayList<>();
+	}
+
+	@Override
+	public void guardar(Empleado empleado) throws IllegalArgumentException {
+		if (empleadosPorLegajo.containsKey(empleado.getNumeroLegajo())) {
+			throw new IllegalArgumentException("Ya existe un empleado con legajo " + empleado.getNumeroLegajo());
+		}
+		empleadosPorLegajo.put(empleado.getNumeroLegajo(), empleado);
+		todosLosEmpleados.add(empleado);
+	}
+
+	@Override
+	public void actualizar(Empleado empleado) {
+		// Los objetos en memoria ya son la fuente de verdad.
+	}
+
+	@Override
+	public Empleado buscar(int legajo) {
+		return empleadosPorLegajo.get(legajo);
+	}
+
+	@Override
+	public Iterable<Empleado> todos() {
+		return todosLosEmpleados;
+	}
+
+	@Override
+	public Empleado obtener(int indice) {
+		return todosLosEmpleados.get(indice);
+	}
+
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		for (Empleado e : todosLosEmpleados) {
+			long bytes = EstimadorMemoria.objeto(e.getClass()) + EstimadorMemoria.cadena(e.getNombre());
+			if (e instanceof EmpleadoPlanta) {
+				bytes += EstimadorMemoria.cadena(((EmpleadoPlanta) e).getCategoria());
+			}
+			acumulador.sumar(ReporteMemoria.EMPLEADOS, 1, bytes);
+		}
+		acumulador.sumar(ReporteMemoria.INDICE_EMPLEADOS, empleadosPorLegajo.size(),
+				empleadosPorLegajo.bytesEstimados() + EstimadorMemoria.lista(todosLosEmpleados.size()));
+	}
+
+	@Override
+	public int cantidad() {
+		return todosLosEmpleados.size();
+	}
+}
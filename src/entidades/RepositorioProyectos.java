@@ -0,0 +1,44 @@
+package entidades;
+
+/**
+ * Almacenamiento de los proyectos del sistema, indexados por numero.
+ */
+public interface RepositorioProyectos {
+
+	/**
+	 * Agrega un proyecto nuevo.
+	 * @throws IllegalArgumentException si ya existe un proyecto con ese numero.
+	 */
+	public void guardar(Proyecto proyecto) throws IllegalArgumentException;
+
+	/**
+	 * Persiste los cambios hechos sobre un proyecto ya guardado (incluidas sus tareas).
+	 */
+	public void actualizar(Proyecto proyecto);
+
+	/**
+	 * @return el proyecto con ese numero, o null si no existe.
+	 */
+	public Proyecto buscar(int numero);
+
+	/**
+	 * Quita un proyecto del repositorio, por ejemplo al archivarlo. El ultimo
+	 * proyecto pasa a ocupar su posicion.
+	 * @return true si el proyecto existia.
+	 */
+	public boolean eliminar(int numero);
+
+	/**
+	 * @return todos los proyectos, en orden de registro salvo por los lugares
+	 * que ocuparon los eliminados.
+	 */
+	public Iterable<Proyecto> todos();
+
+	/**
+	 * Acceso por posicion, para recorrer sin crear un iterador.
+	 * @param indice entre 0 y cantidad() - 1, en el mismo orden que todos().
+	 */
+	public Proyecto obtener(int indice);
+
+	public int cantidad();
+}
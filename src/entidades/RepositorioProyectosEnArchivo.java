@@ -0,0 +1,255 @@
+package entidades;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Proyectos guardados en disco.
+ *
+ * proyectos.dat: cada proyecto ocupa una cantidad entera de bloques de TAMANIO_BLOQUE bytes.
+ * Si al actualizarlo sigue entrando en sus bloques se reescribe en el lugar,
+ * si no se mueve al final del archivo.
+ * proyectos.idx: una entrada (numero, posicion, capacidad) de 16 bytes por proyecto,
+ * en orden de registro. Al eliminar, la ultima entrada se copia al lugar de la
+ * eliminada y el indice se acorta; el registro queda sin usar en proyectos.dat.
+ *
+ * Las tareas guardan el legajo de su responsable, que se resuelve con el
+ * repositorio de empleados al leer el proyecto.
+ */
+public class RepositorioProyectosEnArchivo implements RepositorioProyectos, MedibleEnMemoria, Closeable {
+
+	public static final int TAMANIO_BLOQUE = 512;
+	private static final int TAMANIO_ENTRADA_INDICE = 16;
+
+	private RandomAccessFile datos;
+	private RandomAccessFile indice;
+	private RepositorioEmpleados empleados;
+	private MapaEnteroEntero entradaPorNumero;
+	private long[] posiciones;
+	private int[] capacidades;
+	private int cantidad;
+	private long finDatos;
+
+	public RepositorioProyectosEnArchivo(Path directorio, RepositorioEmpleados empleados) {
+		this.empleados = empleados;
+		this.entradaPorNumero = new MapaEnteroEntero();
+		this.posiciones = new long[16];
+		this.capacidades = new int[16];
+		try {
+			Files.createDirectories(directorio);
+			this.datos = new RandomAccessFile(directorio.resolve("proyectos.dat").toFile(), "rw");
+			this.indice = new RandomAccessFile(directorio.resolve("proyectos.idx").toFile(), "rw");
+			cargarIndice();
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo abrir el repositorio de proyectos en " + directorio, e);
+		}
+	}
+
+	private void cargarIndice() throws IOException {
+		int entradas = (int) (indice.length() / TAMANIO_ENTRADA_INDICE);
+		indice.seek(0);
+		for (int i = 0; i < entradas; i++) {
+			int numero = indice.readInt();
+			long posicion = indice.readLong();
+			int capacidad = indice.readInt();
+			if (entradaPorNumero.containsKey(numero)) {
+				// Eliminacion cortada antes de acortar el indice: la entrada ya se copio.
+				indice.setLength((long) i * TAMANIO_ENTRADA_INDICE);
+				break;
+			}
+			agregarEntrada(numero, posicion, capacidad);
+		}
+		// El ultimo registro no llena sus bloques: lo nuevo va despues de su capacidad.
+		this.finDatos = (datos.length() + TAMANIO_BLOQUE - 1) / TAMANIO_BLOQUE * TAMANIO_BLOQUE;
+	}
+
+	private void agregarEntrada(int numero, long posicion, int capacidad) {
+		if (cantidad == posiciones.length) {
+			posiciones = Arrays.copyOf(posiciones, cantidad * 2);
+			capacidades = Arrays.copyOf(capacidades, cantidad * 2);
+		}
+		posiciones[cantidad] = posicion;
+		capacidades[cantidad] = capacidad;
+		entradaPorNumero.put(numero, cantidad);
+		cantidad++;
+	}
+
+	@Override
+	public void guardar(Proyecto proyecto) throws IllegalArgumentException {
+		if (entradaPorNumero.containsKey(proyecto.getNumeroProyecto())) {
+			throw new IllegalArgumentException("Ya existe un proyecto con numero " + proyecto.getNumeroProyecto());
+		}
+		try {
+			byte[] registro = codificar(proyecto);
+			int capacidad = bloquesNecesarios(registro.length) * TAMANIO_BLOQUE;
+			long posicion = finDatos;
+			escribirRegistro(posicion, registro);
+			finDatos += capacidad;
+
+			int entrada = cantidad;
+			agregarEntrada(proyecto.getNumeroProyecto(), posicion, capacidad);
+			escribirEntradaIndice(entrada, proyecto.getNumeroProyecto());
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo guardar el proyecto " + proyecto.getNumeroProyecto(), e);
+		}
+	}
+
+	@Override
+	public void actualizar(Proyecto proyecto) {
+		int entrada = entradaPorNumero.get(proyecto.getNumeroProyecto());
+		if (entrada == MapaEnteroEntero.NO_ENCONTRADO) {
+			throw new IllegalArgumentException("Proyecto " + proyecto.getNumeroProyecto() + " no encontrado.");
+		}
+		try {
+			byte[] registro = codificar(proyecto);
+			if (registro.length > capacidades[entrada]) {
+				posiciones[entrada] = finDatos;
+				capacidades[entrada] = bloquesNecesarios(registro.length) * TAMANIO_BLOQUE;
+				finDatos += capacidades[entrada];
+				escribirEntradaIndice(entrada, proyecto.getNumeroProyecto());
+			}
+			escribirRegistro(posiciones[entrada], registro);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo actualizar el proyecto " + proyecto.getNumeroProyecto(), e);
+		}
+	}
+
+	@Override
+	public Proyecto buscar(int numero) {
+		int entrada = entradaPorNumero.get(numero);
+		if (entrada == MapaEnteroEntero.NO_ENCONTRADO) {
+			return null;
+		}
+		return leerRegistro(entrada);
+	}
+
+	@Override
+	public boolean eliminar(int numero) {
+		int entrada = entradaPorNumero.get(numero);
+		if (entrada == MapaEnteroEntero.NO_ENCONTRADO) {
+			return false;
+		}
+		int ultima = cantidad - 1;
+		try {
+			if (entrada != ultima) {
+				indice.seek((long) ultima * TAMANIO_ENTRADA_INDICE);
+				int numeroUltima = indice.readInt();
+				posiciones[entrada] = posiciones[ultima];
+				capacidades[entrada] = capacidades[ultima];
+				escribirEntradaIndice(entrada, numeroUltima);
+				entradaPorNumero.put(numeroUltima, entrada);
+			}
+			indice.setLength((long) ultima * TAMANIO_ENTRADA_INDICE);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo eliminar el proyecto " + numero, e);
+		}
+		entradaPorNumero.remove(numero);
+		cantidad--;
+		return true;
+	}
+
+	@Override
+	public Iterable<Proyecto> todos() {
+		return new Iterable<Proyecto>() {
+			@Override
+			public Iterator<Proyecto> iterator() {
+				return new Iterator<Proyecto>() {
+					private int siguiente = 0;
+
+					@Override
+					public boolean hasNext() {
+						return siguiente < cantidad;
+					}
+
+					@Override
+					public Proyecto next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return obtener(siguiente++);
+					}
+				};
+			}
+		};
+	}
+
+	@Override
+	public Proyecto obtener(int indice) {
+		if (indice < 0 || indice >= cantidad) {
+			throw new IndexOutOfBoundsException("Indice " + indice + " fuera de rango (" + cantidad + " proyectos).");
+		}
+		return leerRegistro(indice);
+	}
+
+	/**
+	 * Los proyectos estan en disco: en el heap solo quedan el indice y las posiciones.
+	 */
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		acumulador.sumar(ReporteMemoria.INDICE_PROYECTOS, cantidad, entradaPorNumero.bytesEstimados()
+				+ EstimadorMemoria.arreglo(posiciones.length, 8) + EstimadorMemoria.arreglo(capacidades.length, 4));
+	}
+
+	@Override
+	public int cantidad() {
+		return cantidad;
+	}
+
+	@Override
+	public void close() throws IOException {
+		datos.close();
+		indice.close();
+	}
+
+	private static int bloquesNecesarios(int largoRegistro) {
+		return (largoRegistro + TAMANIO_BLOQUE - 1) / TAMANIO_BLOQUE;
+	}
+
+	private byte[] codificar(Proyecto proyecto) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(TAMANIO_BLOQUE);
+		DataOutputStream salida = new DataOutputStream(bytes);
+		salida.writeInt(0);
+		CodificadorEntidades.escribirProyecto(salida, proyecto);
+		byte[] registro = bytes.toByteArray();
+		int largo = registro.length - 4;
+		registro[0] = (byte) (largo >>> 24);
+		registro[1] = (byte) (largo >>> 16);
+		registro[2] = (byte) (largo >>> 8);
+		registro[3] = (byte) largo;
+		return registro;
+	}
+
+	private void escribirRegistro(long posicion, byte[] registro) throws IOException {
+		datos.seek(posicion);
+		datos.write(registro);
+	}
+
+	private void escribirEntradaIndice(int entrada, int numero) throws IOException {
+		indice.seek((long) entrada * TAMANIO_ENTRADA_INDICE);
+		indice.writeInt(numero);
+		indice.writeLong(posiciones[entrada]);
+		indice.writeInt(capacidades[entrada]);
+	}
+
+	private Proyecto leerRegistro(int entrada) {
+		try {
+			datos.seek(posiciones[entrada]);
+			int largo = datos.readInt();
+			byte[] registro = new byte[largo];
+			datos.readFully(registro);
+			return CodificadorEntidades.leerProyecto(new DataInputStream(new ByteArrayInputStream(registro)), empleados);
+		} catch (IOException e) {
+			throw new UncheckedIOException("No se pudo leer el proyecto de la entrada " + entrada + " del indice", e);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package entidades;
+import java.util.ArrayList;
+import java.util.List;
+
+public class RepositorioProyectosEnMemoria implements RepositorioProyectos, MedibleEnMemoria {
+
+	private MapaEnteroEntero posicionPorNumero;
+	private List<Proyecto> todosLosProyectos;
+
+	public RepositorioProyectosEnMemoria() {
+		this.posicionPorNumero = new MapaEnteroEntero();
+		this.todosLosProyectos = new ArrayList<>();
+	}
+
+	@Override
+	public void guardar(Proyecto proyecto) throws IllegalArgumentException {
+		if (posicionPorNumero.containsKey(proyecto.getNumeroProyecto())) {
+			throw new IllegalArgumentException("Ya existe un proyecto con numero " + proyecto.getNumeroProyecto());
+		}
+		posicionPorNumero.put(proyecto.getNumeroProyecto(), todosLosProyectos.size());
+		todosLosProyectos.add(proyecto);
+	}
+
+	@Override
+	public void actualizar(Proyecto proyecto) {
+		// Los objetos en memoria ya son la fuente de verdad.
+	}
+
+	@Override
+	public Proyecto buscar(int numero) {
+		int posicion = posicionPorNumero.get(numero);
+		return posicion == MapaEnteroEntero.NO_ENCONTRADO ? null : todosLosProyectos.get(posicion);
+	}
+
+	/**
+	 * El ultimo proyecto pasa a ocupar el lugar del eliminado.
+	 */
+	@Override
+	public boolean eliminar(int numero) {
+		int posicion = posicionPorNumero.remove(numero);
+		if (posicion == MapaEnteroEntero.NO_ENCONTRADO) {
+			return false;
+		}
+		int ultima = todosLosProyectos.size() - 1;
+		Proyecto ultimo = todosLosProyectos.remove(ultima);
+		if (posicion != ultima) {
+			todosLosProyectos.set(posicion, ultimo);
+			posicionPorNumero.put(ultimo.getNumeroProyecto(), posicion);
+		}
+		return true;
+	}
+
+	@Override
+	public Iterable<Proyecto> todos() {
+		return todosLosProyectos;
+	}
+
+	@Override
+	public Proyecto obtener(int indice) {
+		return todosLosProyectos.get(indice);
+	}
+
+	/**
+	 * Mide uno de cada acumulador.getPaso() proyectos comunes y escala el
+	 * resultado. Los proyectos columnares son pocos y muy grandes, asi que se
+	 * miden siempre completos para no distorsionar la extrapolacion.
+	 */
+	@Override
+	public void medir(ReporteMemoria.Acumulador acumulador) {
+		int paso = acumulador.getPaso();
+		ReporteMemoria.Acumulador muestra = new ReporteMemoria.Acumulador(1);
+		int comunes = 0;
+		int medidos = 0;
+		for (Proyecto p : todosLosProyectos) {
+			if (p.esColumnar()) {
+				p.medir(acumulador);
+			} else if (comunes++ % paso == 0) {
+				p.medir(muestra);
+				medidos++;
+			}
+		}
+		if (medidos > 0) {
+			acumulador.sumarEscalado(muestra, (double) comunes / medidos);
+		}
+		acumulador.sumar(ReporteMemoria.INDICE_PROYECTOS, posicionPorNumero.size(),
+				posicionPorNumero.bytesEstimados() + EstimadorMemoria.lista(todosLosProyectos.size()));
+	}
+
+	@Override
+	public int cantidad() {
+		return todosLosProyectos.size();
+	}
+}
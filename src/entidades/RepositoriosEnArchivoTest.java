@@ -0,0 +1,286 @@
+package entidades;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Las operaciones con repositorios en archivo tienen que dejar los mismos
+ * resultados que con los repositorios en memoria, tambien en proyectos que
+ * guardan las tareas en columnas.
+ */
+public class RepositoriosEnArchivoTest {
+    private Path directorio;
+    private RepositorioEmpleadosEnArchivo empleados;
+    private RepositorioProyectosEnArchivo proyectos;
+
+    @Before
+    public void setUp() throws IOException {
+        directorio = Files.createTempDirectory("home-solution");
+        empleados = new RepositorioEmpleadosEnArchivo(directorio);
+        proyectos = new RepositorioProyectosEnArchivo(directorio, empleados);
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        proyectos.close();
+        empleados.close();
+        try (Stream<Path> archivos = Files.walk(directorio)) {
+            archivos.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+        }
+    }
+
+    private static void registrarProyectoColumnar(IHomeSolution sistema) {
+        int cantidad = Proyecto.UMBRAL_TAREAS_COLUMNAR;
+        String[] titulos = new String[cantidad];
+        String[] descripciones = new String[cantidad];
+        double[] dias = new double[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            titulos[i] = "T" + i;
+            descripciones[i] = "";
+            dias[i] = 1;
+        }
+        sistema.registrarProyecto(titulos, descripciones, dias, "San Martin 1000",
+                new String[] {"Pedro Gomez", "mail@mail.com", "123456"}, "2025-12-01", "2025-12-31");
+    }
+
+    @Test
+    public void testFinalizarTareaColumnarLiberaAlEmpleado() {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        sistema.registrarEmpleado("Juan", 15000);
+        registrarProyectoColumnar(sistema);
+
+        assertEquals(ResultadoOperacion.OK, sistema.intentarAsignarResponsableEnTarea(5000, "T0"));
+        assertEquals(ResultadoOperacion.OK, sistema.intentarFinalizarTarea(5000, "T0"));
+        assertEquals(1, sistema.empleadosNoAsignados().length);
+        assertEquals(ResultadoOperacion.OK, sistema.intentarAsignarResponsableEnTarea(5000, "T1"));
+    }
+
+    @Test
+    public void testReasignarEnProyectoColumnarLiberaAlAnterior() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        sistema.registrarEmpleado("Juan", 15000);
+        sistema.registrarEmpleado("Luis", 15000);
+        registrarProyectoColumnar(sistema);
+
+        sistema.asignarResponsableEnTarea(5000, "T0");
+        sistema.reasignarEmpleadoEnProyecto(5000, 1001, "T0");
+        Object[] libres = sistema.empleadosNoAsignados();
+        assertEquals(1, libres.length);
+        assertEquals(1000, ((Empleado) libres[0]).getNumeroLegajo());
+    }
+
+    @Test
+    public void testRetrasosEnProyectoColumnarIgualQueEnMemoria() throws Exception {
+        HomeSolution enArchivo = new HomeSolution(empleados, proyectos);
+        HomeSolution enMemoria = new HomeSolution();
+        for (HomeSolution sistema : new HomeSolution[] {enArchivo, enMemoria}) {
+            sistema.registrarEmpleado("Juan", 15000);
+            registrarProyectoColumnar(sistema);
+            sistema.asignarResponsableEnTarea(5000, "T0");
+            sistema.registrarRetrasoEnTarea(5000, "T0", 2);
+            sistema.registrarRetrasoEnTarea(5000, "T0", 1);
+        }
+        assertEquals(enMemoria.consultarCantidadRetrasosEmpleado(1000),
+                enArchivo.consultarCantidadRetrasosEmpleado(1000));
+    }
+
+    private static void registrarProyectoChico(IHomeSolution sistema, String domicilio) {
+        sistema.registrarProyecto(new String[] {"T0"}, new String[] {""}, new double[] {1}, domicilio,
+                new String[] {"Pedro Gomez", "mail@mail.com", "123456"}, "2025-12-01", "2025-12-31");
+    }
+
+    @Test
+    public void testArchivarBorraDelDiscoSinRepetirNumeros() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        sistema.registrarEmpleado("Juan", 15000);
+        registrarProyectoChico(sistema, "Calle 0");
+        registrarProyectoChico(sistema, "Calle 1");
+        registrarProyectoChico(sistema, "Calle 2");
+        sistema.asignarResponsableEnTarea(5000, "T0");
+        sistema.finalizarTarea(5000, "T0");
+        sistema.finalizarProyecto(5000, "2025-12-10");
+
+        assertEquals(1, sistema.archivarFinalizados());
+        assertEquals(2, proyectos.cantidad());
+        try {
+            sistema.agregarTareaEnProyecto(5000, "T1", "", 1);
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("archivado"));
+        }
+        assertEquals("Calle 2", proyectos.obtener(0).getDireccionVivienda());
+
+        proyectos.close();
+        proyectos = new RepositorioProyectosEnArchivo(directorio, empleados);
+        assertEquals(2, proyectos.cantidad());
+        assertEquals(null, proyectos.buscar(5000));
+        assertEquals("Calle 1", proyectos.buscar(5001).getDireccionVivienda());
+
+        HomeSolution reabierto = new HomeSolution(empleados, proyectos);
+        registrarProyectoChico(reabierto, "Calle 3");
+        assertEquals("Calle 3", reabierto.consultarDomicilioProyecto(5003));
+    }
+
+    @Test
+    public void testPuntoDeControlGuardaLoModificado() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        RegistroModificaciones modificaciones = new RegistroModificaciones();
+        sistema.setRegistroModificaciones(modificaciones);
+        GestorPuntosDeControl puntos = new GestorPuntosDeControl(directorio.resolve("puntos"), empleados, proyectos,
+                modificaciones);
+        sistema.registrarEmpleado("Juan", 15000);
+        registrarProyectoChico(sistema, "Calle 0");
+        assertEquals(2, puntos.registrarDelta());
+        assertEquals(0, puntos.registrarDelta());
+
+        sistema.asignarResponsableEnTarea(5000, "T0");
+        assertEquals(2, puntos.registrarDelta());
+
+        RepositorioEmpleadosEnMemoria empleadosRestaurados = new RepositorioEmpleadosEnMemoria();
+        RepositorioProyectosEnMemoria proyectosRestaurados = new RepositorioProyectosEnMemoria();
+        new GestorPuntosDeControl(directorio.resolve("puntos"), empleadosRestaurados, proyectosRestaurados,
+                new RegistroModificaciones()).restaurar();
+        HomeSolution restaurado = new HomeSolution(empleadosRestaurados, proyectosRestaurados);
+        assertEquals(0, restaurado.empleadosNoAsignados().length);
+    }
+
+    @Test
+    public void testTareasDeEmpleadoIncluyeElHistorialArchivado() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        try (ArchivoHistorialEnArchivo archivo = new ArchivoHistorialEnArchivo(directorio.resolve("historial"))) {
+            sistema.setLimiteHistorial(new LimiteHistorial(2, archivo));
+            sistema.registrarEmpleado("Juan", 15000);
+            sistema.registrarEmpleado("Luis", 15000);
+            sistema.registrarEmpleado("Ana", 15000);
+            registrarProyectoChico(sistema, "Calle 0");
+            registrarProyectoChico(sistema, "Calle 1");
+            sistema.asignarResponsableEnTarea(5001, "T0");
+            sistema.reasignarEmpleadoEnProyecto(5001, 1001, "T0");
+            sistema.reasignarEmpleadoEnProyecto(5001, 1002, "T0");
+            sistema.reasignarEmpleadoEnProyecto(5001, 1001, "T0");
+
+            HistorialAsignaciones enMemoria = proyectos.buscar(5001).getTareaPorTitulo("T0").getHistorial();
+            assertTrue(enMemoria.getArchivadas() > 0);
+            assertFalse(enMemoria.contiene(1000));
+
+            List<Tupla<Integer, String>> tareas = sistema.tareasDeEmpleado(1000);
+            assertEquals(1, tareas.size());
+            assertEquals(Integer.valueOf(5001), tareas.get(0).getValor1());
+            assertEquals("T0", tareas.get(0).getValor2());
+            assertEquals(1, sistema.tareasDeEmpleado(1001).size());
+        }
+    }
+
+    @Test
+    public void testEmpleadosSobrevivenAlReabrir() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        sistema.registrarEmpleado("Juan", 15000);
+        sistema.registrarEmpleado("Luis", 80000, "EXPERTO");
+        registrarProyectoChico(sistema, "Calle 0");
+        sistema.asignarResponsableEnTarea(5000, "T0");
+        try {
+            empleados.guardar(new EmpleadoContratado("x".repeat(RepositorioEmpleadosEnArchivo.TAMANIO_REGISTRO), 1002, 1));
+            fail("Se esperaba IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            assertEquals(2, empleados.cantidad());
+        }
+
+        proyectos.close();
+        empleados.close();
+        empleados = new RepositorioEmpleadosEnArchivo(directorio);
+        proyectos = new RepositorioProyectosEnArchivo(directorio, empleados);
+        assertEquals(2, empleados.cantidad());
+        assertEquals("Juan", empleados.obtener(0).getNombre());
+        assertEquals("Luis", empleados.obtener(1).getNombre());
+        assertFalse(empleados.buscar(1000).isEstaDisponible());
+        assertTrue(empleados.buscar(1001) instanceof EmpleadoPlanta);
+        assertEquals(null, empleados.buscar(1002));
+        assertEquals(1000, proyectos.buscar(5000).getTareaPorTitulo("T0").getResponsable().getNumeroLegajo());
+
+        HomeSolution reabierto = new HomeSolution(empleados, proyectos);
+        reabierto.registrarEmpleado("Ana", 15000);
+        assertEquals("Ana", reabierto.consultarNombreEmpleado(1002));
+        assertEquals(2, reabierto.empleadosNoAsignados().length);
+    }
+
+    @Test
+    public void testProyectoQueCreceSeMueveAlFinalDelArchivo() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        registrarProyectoChico(sistema, "Calle 0");
+        registrarProyectoChico(sistema, "Calle 1");
+        Path datos = directorio.resolve("proyectos.dat");
+        long antes = Files.size(datos);
+
+        // Con estas tareas el registro de 5000 ya no entra en su bloque.
+        for (int i = 1; i <= 40; i++) {
+            sistema.agregarTareaEnProyecto(5000, "Tarea numero " + i, "", 1);
+        }
+        assertTrue(Files.size(datos) > antes + RepositorioProyectosEnArchivo.TAMANIO_BLOQUE);
+        assertEquals(41, proyectos.buscar(5000).getListaTareas().size());
+        assertEquals("Calle 1", proyectos.buscar(5001).getDireccionVivienda());
+        sistema.agregarTareaEnProyecto(5001, "Otra", "", 1);
+
+        proyectos.close();
+        proyectos = new RepositorioProyectosEnArchivo(directorio, empleados);
+        assertEquals(41, proyectos.buscar(5000).getListaTareas().size());
+        assertEquals("Tarea numero 40", proyectos.buscar(5000).getTareaPorTitulo("Tarea numero 40").getTitulo());
+        assertEquals(2, proyectos.buscar(5001).getListaTareas().size());
+        assertEquals("Calle 1", proyectos.buscar(5001).getDireccionVivienda());
+    }
+
+    @Test
+    public void testAlReabrirNoPisaLaCapacidadDelUltimoRegistro() throws Exception {
+        registrarProyectoChico(new HomeSolution(empleados, proyectos), "Calle 0");
+        proyectos.close();
+        proyectos = new RepositorioProyectosEnArchivo(directorio, empleados);
+        HomeSolution reabierto = new HomeSolution(empleados, proyectos);
+        registrarProyectoChico(reabierto, "Calle 1");
+
+        // 5000 sigue entrando en su bloque y se reescribe en el lugar.
+        reabierto.agregarTareaEnProyecto(5000, "Otra tarea", "", 1);
+        reabierto.agregarTareaEnProyecto(5000, "Una tarea mas", "", 1);
+        assertEquals(3, proyectos.buscar(5000).getListaTareas().size());
+        assertEquals("Calle 1", proyectos.buscar(5001).getDireccionVivienda());
+        assertEquals(1, proyectos.buscar(5001).getListaTareas().size());
+    }
+
+    @Test
+    public void testReabrirDescartaEliminacionCortada() throws Exception {
+        HomeSolution sistema = new HomeSolution(empleados, proyectos);
+        registrarProyectoChico(sistema, "Calle 0");
+        registrarProyectoChico(sistema, "Calle 1");
+        registrarProyectoChico(sistema, "Calle 2");
+        Path indice = directorio.resolve("proyectos.idx");
+        byte[] completo = Files.readAllBytes(indice);
+        assertTrue(proyectos.eliminar(5000));
+        proyectos.close();
+
+        // Corte despues de copiar la ultima entrada sobre la eliminada y antes de acortar el indice.
+        byte[] cortado = Files.readAllBytes(indice);
+        byte[] conUltima = Arrays.copyOf(cortado, completo.length);
+        System.arraycopy(completo, cortado.length, conUltima, cortado.length, completo.length - cortado.length);
+        Files.write(indice, conUltima);
+
+        proyectos = new RepositorioProyectosEnArchivo(directorio, empleados);
+        assertEquals(2, proyectos.cantidad());
+        assertEquals(cortado.length, Files.size(indice));
+        assertEquals(null, proyectos.buscar(5000));
+        assertEquals("Calle 1", proyectos.buscar(5001).getDireccionVivienda());
+        assertEquals("Calle 2", proyectos.buscar(5002).getDireccionVivienda());
+        assertEquals("Calle 2", proyectos.obtener(0).getDireccionVivienda());
+    }
+}
@@ -0,0 +1,33 @@
+package entidades;
+
+/**
+ * Resultado de las variantes "intentar..." de HomeSolution. Cubre los casos
+ * esperables (datos que no existen, nadie disponible, estado que no lo
+ * permite) sin lanzar excepciones; las excepciones quedan para errores reales.
+ */
+public enum ResultadoOperacion {
+	OK("Operacion realizada."),
+	PROYECTO_NO_ENCONTRADO("El proyecto no existe."),
+	PROYECTO_FINALIZADO("El proyecto ya esta finalizado."),
+	TAREA_NO_ENCONTRADA("La tarea no existe en el proyecto."),
+	TAREA_FINALIZADA("La tarea ya fue finalizada."),
+	TAREA_SIN_RESPONSABLE("La tarea no tiene empleado responsable."),
+	SIN_EMPLEADOS_DISPONIBLES("No hay empleados disponibles, el proyecto quedara pendiente");
+
+	private final String mensaje;
+
+	ResultadoOperacion(String mensaje) {
+		this.mensaje = mensaje;
+	}
+
+	public boolean esExito() {
+		return this == OK;
+	}
+
+	/**
+	 * @return un texto fijo para mostrar al usuario.
+	 */
+	public String getMensaje() {
+		return mensaje;
+	}
+}
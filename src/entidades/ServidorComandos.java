@@ -0,0 +1,57 @@
+package entidades;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Atiende conexiones TCP que envian lineas de {@link InterpreteComandos} y
+ * devuelve la respuesta de cada una. Cada conexion tiene su propio hilo, pero
+ * las operaciones se ejecutan de a una: HomeSolution no admite llamadas
+ * concurrentes.
+ */
+public class ServidorComandos {
+
+	private final IHomeSolution sistema;
+	private final int puerto;
+
+	public ServidorComandos(IHomeSolution sistema, int puerto) {
+		this.sistema = sistema;
+		this.puerto = puerto;
+	}
+
+	/**
+	 * Acepta conexiones hasta que el proceso termine.
+	 */
+	public void atender() throws IOException {
+		try (ServerSocket servidor = new ServerSocket(puerto)) {
+			System.out.println("Atendiendo comandos en el puerto " + servidor.getLocalPort());
+			while (true) {
+				Socket conexion = servidor.accept();
+				Thread hilo = new Thread(() -> atender(conexion), "conexion-" + conexion.getPort());
+				hilo.setDaemon(true);
+				hilo.start();
+			}
+		}
+	}
+
+	private void atender(Socket conexion) {
+		try (Socket c = conexion;
+				BufferedReader entrada = new BufferedReader(
+						new InputStreamReader(c.getInputStream(), StandardCharsets.UTF_8));
+				PrintStream salida = new PrintStream(c.getOutputStream(), true, StandardCharsets.UTF_8)) {
+			InterpreteComandos interprete = new InterpreteComandos(sistema, salida);
+			String linea;
+			while ((linea = entrada.readLine()) != null) {
+				synchronized (sistema) {
+					interprete.ejecutar(linea);
+				}
+			}
+		} catch (IOException e) {
+			System.err.println("Conexion cerrada con error: " + e.getMessage());
+		}
+	}
+}
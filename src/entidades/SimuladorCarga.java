@@ -0,0 +1,244 @@
+package entidades;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ejecuta desde varios hilos las operaciones de un {@link GeneradorCarga}
+ * contra un {@link IHomeSolution} y mide el throughput y la latencia de cada
+ * llamada (percentiles 50, 90 y 99 por tipo de operacion).
+ *
+ * Por defecto las llamadas se serializan sincronizando sobre el sistema, como
+ * en {@link ServidorComandos}, porque HomeSolution no admite llamadas
+ * concurrentes; la latencia medida incluye la espera por el sistema.
+ *
+ * Solo cuentan como rechazos los que el sistema informa como tales; cualquier
+ * otra excepcion corta la carga y la hace fallar.
+ */
+public class SimuladorCarga {
+
+	private final IHomeSolution sistema;
+	private final GeneradorCarga generador;
+	private boolean sincronizar = true;
+
+	public SimuladorCarga(IHomeSolution sistema, GeneradorCarga generador) {
+		this.sistema = sistema;
+		this.generador = generador;
+	}
+
+	/**
+	 * Con false las llamadas se hacen sin sincronizar; solo para
+	 * implementaciones que admiten llamadas concurrentes.
+	 */
+	public void setSincronizar(boolean sincronizar) {
+		this.sincronizar = sincronizar;
+	}
+
+	/**
+	 * Carga los datos del generador (sin medir) y ejecuta
+	 * {@code operacionesPorHilo} operaciones en cada uno de los hilos.
+	 * @throws IllegalStateException si una operacion fallo por algo que no es un rechazo.
+	 */
+	public Resultado ejecutar(int hilos, int operacionesPorHilo) throws InterruptedException {
+		int[] numeros = generador.cargar(sistema);
+		GeneradorCarga.Operacion[][] operaciones = new GeneradorCarga.Operacion[hilos][];
+		for (int h = 0; h < hilos; h++) {
+			operaciones[h] = generador.operaciones(h, hilos, operacionesPorHilo);
+		}
+
+		long[][] latencias = new long[hilos][];
+		int[][] rechazos = new int[hilos][GeneradorCarga.TipoOperacion.values().length];
+		CountDownLatch largada = new CountDownLatch(1);
+		AtomicReference<Throwable> falla = new AtomicReference<>();
+		Thread[] trabajadores = new Thread[hilos];
+		for (int h = 0; h < hilos; h++) {
+			int hilo = h;
+			latencias[h] = new long[operaciones[h].length];
+			trabajadores[h] = new Thread(() -> {
+				try {
+					largada.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				try {
+					correr(operaciones[hilo], numeros, latencias[hilo], rechazos[hilo], falla);
+				} catch (RuntimeException | Error e) {
+					falla.compareAndSet(null, e);
+				}
+			}, "carga-" + h);
+			trabajadores[h].start();
+		}
+		long inicio = System.nanoTime();
+		largada.countDown();
+		for (Thread t : trabajadores) {
+			t.join();
+		}
+		long duracion = System.nanoTime() - inicio;
+		if (falla.get() != null) {
+			throw new IllegalStateException("Fallo una operacion durante la carga.", falla.get());
+		}
+		return new Resultado(hilos, duracion, operaciones, latencias, rechazos);
+	}
+
+	private void correr(GeneradorCarga.Operacion[] operaciones, int[] numeros, long[] latencias, int[] rechazos,
+			AtomicReference<Throwable> falla) {
+		for (int i = 0; i < operaciones.length && falla.get() == null; i++) {
+			GeneradorCarga.Operacion op = operaciones[i];
+			long inicio = System.nanoTime();
+			boolean exito;
+			if (sincronizar) {
+				synchronized (sistema) {
+					exito = aplicar(op, numeros[op.getProyecto()]);
+				}
+			} else {
+				exito = aplicar(op, numeros[op.getProyecto()]);
+			}
+			latencias[i] = System.nanoTime() - inicio;
+			if (!exito) {
+				rechazos[op.getTipo().ordinal()]++;
+			}
+		}
+	}
+
+	/**
+	 * @return false si el sistema rechazo la operacion (por ejemplo, nadie libre):
+	 * un resultado que no es exito, una IllegalArgumentException o la excepcion
+	 * que declara reasignarEmpleadoConMenosRetraso. Lo demas se propaga.
+	 */
+	private boolean aplicar(GeneradorCarga.Operacion op, int numero) {
+		try {
+			switch (op.getTipo()) {
+			case ASIGNAR:
+				return sistema.intentarAsignarResponsableEnTarea(numero, op.getTitulo()).esExito();
+			case RETRASO:
+				sistema.registrarRetrasoEnTarea(numero, op.getTitulo(), op.getDias());
+				return true;
+			case FINALIZAR:
+				return sistema.intentarFinalizarTarea(numero, op.getTitulo()).esExito();
+			case REASIGNAR:
+				sistema.reasignarEmpleadoConMenosRetraso(numero, op.getTitulo());
+				return true;
+			default:
+				throw new IllegalStateException();
+			}
+		} catch (IllegalArgumentException e) {
+			return false;
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			// reasignarEmpleadoConMenosRetraso informa asi las reglas que no se cumplen.
+			return false;
+		}
+	}
+
+	/**
+	 * Totales de una ejecucion. {@link #toString()} arma el reporte en texto.
+	 */
+	public static class Resultado {
+		private static final double[] PERCENTILES = { 0.50, 0.90, 0.99 };
+
+		private final int hilos;
+		private final long duracionNanos;
+		private final int[] cantidades;
+		private final int[] rechazos;
+		private final long[][] latencias;
+		private final long[] todas;
+
+		Resultado(int hilos, long duracionNanos, GeneradorCarga.Operacion[][] operaciones, long[][] porHilo,
+				int[][] rechazosPorHilo) {
+			int tipos = GeneradorCarga.TipoOperacion.values().length;
+			this.hilos = hilos;
+			this.duracionNanos = duracionNanos;
+			this.cantidades = new int[tipos];
+			this.rechazos = new int[tipos];
+			int total = 0;
+			for (int h = 0; h < operaciones.length; h++) {
+				for (GeneradorCarga.Operacion op : operaciones[h]) {
+					cantidades[op.getTipo().ordinal()]++;
+				}
+				for (int t = 0; t < tipos; t++) {
+					rechazos[t] += rechazosPorHilo[h][t];
+				}
+				total += operaciones[h].length;
+			}
+			this.latencias = new long[tipos][];
+			for (int t = 0; t < tipos; t++) {
+				latencias[t] = new long[cantidades[t]];
+			}
+			this.todas = new long[total];
+			int[] llenas = new int[tipos];
+			int k = 0;
+			for (int h = 0; h < operaciones.length; h++) {
+				for (int i = 0; i < operaciones[h].length; i++) {
+					int t = operaciones[h][i].getTipo().ordinal();
+					latencias[t][llenas[t]++] = porHilo[h][i];
+					todas[k++] = porHilo[h][i];
+				}
+			}
+			for (long[] l : latencias) {
+				Arrays.sort(l);
+			}
+			Arrays.sort(todas);
+		}
+
+		public int getOperaciones() {
+			return todas.length;
+		}
+
+		public double getOperacionesPorSegundo() {
+			return duracionNanos == 0 ? 0 : todas.length * 1e9 / duracionNanos;
+		}
+
+		/**
+		 * @param fraccion por ejemplo 0.99 para el percentil 99.
+		 * @return latencia en nanosegundos sobre todas las operaciones; 0 si no hubo.
+		 */
+		public long percentil(double fraccion) {
+			return percentil(todas, fraccion);
+		}
+
+		public long percentil(GeneradorCarga.TipoOperacion tipo, double fraccion) {
+			return percentil(latencias[tipo.ordinal()], fraccion);
+		}
+
+		public int getRechazos(GeneradorCarga.TipoOperacion tipo) {
+			return rechazos[tipo.ordinal()];
+		}
+
+		private static long percentil(long[] ordenadas, double fraccion) {
+			if (ordenadas.length == 0) {
+				return 0;
+			}
+			int i = (int) Math.ceil(fraccion * ordenadas.length) - 1;
+			return ordenadas[Math.max(0, Math.min(ordenadas.length - 1, i))];
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append(String.format("%d operaciones en %d hilos, %.1f ms, %.0f op/s%n", todas.length, hilos,
+					duracionNanos / 1e6, getOperacionesPorSegundo()));
+			sb.append(String.format("%-10s %9s %9s %10s %10s %10s %10s%n", "operacion", "cantidad", "rechazos",
+					"p50 us", "p90 us", "p99 us", "max us"));
+			for (GeneradorCarga.TipoOperacion tipo : GeneradorCarga.TipoOperacion.values()) {
+				int t = tipo.ordinal();
+				linea(sb, tipo.name().toLowerCase(), cantidades[t], rechazos[t], latencias[t]);
+			}
+			int rechazadas = 0;
+			for (int r : rechazos) {
+				rechazadas += r;
+			}
+			linea(sb, "total", todas.length, rechazadas, todas);
+			return sb.toString();
+		}
+
+		private static void linea(StringBuilder sb, String nombre, int cantidad, int rechazadas, long[] ordenadas) {
+			sb.append(String.format("%-10s %9d %9d", nombre, cantidad, rechazadas));
+			for (double p : PERCENTILES) {
+				sb.append(String.format(" %10.1f", percentil(ordenadas, p) / 1e3));
+			}
+			sb.append(String.format(" %10.1f%n",
+					ordenadas.length == 0 ? 0.0 : ordenadas[ordenadas.length - 1] / 1e3));
+		}
+	}
+}
@@ -0,0 +1,79 @@
+package entidades;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SimuladorCargaTest {
+    private PrintStream salida;
+
+    @Before
+    public void setUp() {
+        salida = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @After
+    public void tearDown() {
+        System.setOut(salida);
+    }
+
+    @Test
+    public void testCargaSobreElSistemaTerminaSinFallas() throws Exception {
+        GeneradorCarga generador = new GeneradorCarga(7, 10, 20);
+        SimuladorCarga.Resultado resultado = new SimuladorCarga(new HomeSolution(), generador).ejecutar(2, 200);
+        assertTrue(resultado.getOperaciones() > 0);
+    }
+
+    @Test
+    public void testRechazosDelSistemaSeCuentanSinCortarLaCarga() throws Exception {
+        HomeSolution sistema = new HomeSolution() {
+            @Override
+            public ResultadoOperacion intentarFinalizarTarea(int numero, String titulo) {
+                return ResultadoOperacion.TAREA_FINALIZADA;
+            }
+
+            @Override
+            public void registrarRetrasoEnTarea(int numero, String titulo, double cantidadDias) {
+                throw new IllegalArgumentException("Tarea no encontrada");
+            }
+
+            @Override
+            public void reasignarEmpleadoConMenosRetraso(Integer numero, String titulo) throws Exception {
+                throw new Exception("No hay empleados disponibles para reasignar la tarea.");
+            }
+        };
+        GeneradorCarga generador = new GeneradorCarga(7, 10, 20);
+        generador.setProporciones(1, 1, 1, 1);
+        SimuladorCarga.Resultado resultado = new SimuladorCarga(sistema, generador).ejecutar(1, 200);
+
+        assertTrue(resultado.getRechazos(GeneradorCarga.TipoOperacion.FINALIZAR) > 0);
+        assertTrue(resultado.getRechazos(GeneradorCarga.TipoOperacion.RETRASO) > 0);
+        assertTrue(resultado.getRechazos(GeneradorCarga.TipoOperacion.REASIGNAR) > 0);
+    }
+
+    @Test
+    public void testExcepcionInesperadaHaceFallarLaCarga() throws Exception {
+        IllegalStateException error = new IllegalStateException("estado roto");
+        HomeSolution sistema = new HomeSolution() {
+            @Override
+            public ResultadoOperacion intentarFinalizarTarea(int numero, String titulo) {
+                throw error;
+            }
+        };
+        GeneradorCarga generador = new GeneradorCarga(7, 3, 20);
+        generador.setProporciones(0, 0, 1, 0);
+        try {
+            new SimuladorCarga(sistema, generador).ejecutar(2, 100);
+            fail("Se esperaba IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getCause() == error);
+        }
+    }
+}
@@ -2,7 +2,7 @@ package entidades;
 import java.util.ArrayList;
 import java.util.List;
 
-public class Tarea {
+public class Tarea implements ITarea {
 
 	private String titulo;
 	private String descripcion;
@@ -11,7 +11,7 @@ public class Tarea {
 	private double diasDeRetraso;
 	private boolean tareaTerminada;
 	private double costoTarea;
-	private List<Empleado> historialEmpleados;
+	private HistorialAsignaciones historial;
 
 	public Tarea(String titulo, String descripcion, double duracionDias) {
 		super();
@@ -22,19 +22,30 @@ public class Tarea {
 		this.diasDeRetraso = 0.0;
 		this.tareaTerminada = false;
 		this.costoTarea = 0.0;
-		this.historialEmpleados = new ArrayList<>();
 	}
 
 	public void asignarEmpleado(Empleado empleado) {
+		this.asignarEmpleado(empleado, LimiteHistorial.SIN_LIMITE, 0);
+	}
+
+	public void asignarEmpleado(Empleado empleado, LimiteHistorial limite, int numeroProyecto) {
+		this.getEstado().verificarTransicion(EstadoTarea.ASIGNADA);
 		if (this.responsable != null) {
 			this.responsable.setEstaDisponible(true);
 		}
 		this.responsable = empleado;
 		empleado.setEstaDisponible(false);
-		this.historialEmpleados.add(empleado);
+		if (this.historial == null) {
+			this.historial = new HistorialAsignaciones();
+		}
+		this.historial.agregar(empleado.getNumeroLegajo(), System.currentTimeMillis(), limite, numeroProyecto, this.titulo);
 	}
 	
 	public void desasignarEmpleado() {
+		if (this.responsable == null) {
+			return;
+		}
+		this.getEstado().verificarTransicion(EstadoTarea.PENDIENTE);
 		this.responsable = null;
 	}
 
@@ -62,6 +73,7 @@ public class Tarea {
 	}
 
 	public void establecerTareaFinalizada() {
+		this.getEstado().verificarTransicion(EstadoTarea.FINALIZADA);
 		this.tareaTerminada = true;
 		this.costoTarea = this.calcularCosto();
 
@@ -72,6 +84,10 @@ public class Tarea {
 		}
 	}
 
+	public EstadoTarea getEstado() {
+		return EstadoTarea.de(this.tareaTerminada, this.responsable != null);
+	}
+
 	public String getTitulo() {
 		return titulo;
 	}
@@ -128,12 +144,37 @@ public class Tarea {
 		this.costoTarea = costoTarea;
 	}
 
-	public List<Empleado> getHistorialEmpleados() {
-		return historialEmpleados;
+	public HistorialAsignaciones getHistorial() {
+		return historial == null ? HistorialAsignaciones.VACIO : historial;
+	}
+
+	/**
+	 * @deprecated el historial guarda legajos; usar {@link #getHistorial()}. Las
+	 * entradas archivadas por el limite no se incluyen.
+	 * @param empleados donde se buscan los legajos; los que no estan se omiten.
+	 */
+	@Deprecated
+	public List<Empleado> getHistorialEmpleados(RepositorioEmpleados empleados) {
+		HistorialAsignaciones h = getHistorial();
+		List<Empleado> lista = new ArrayList<>(h.cantidad());
+		for (int i = 0; i < h.cantidad(); i++) {
+			Empleado empleado = empleados.buscar(h.getLegajo(i));
+			if (empleado != null) {
+				lista.add(empleado);
+			}
+		}
+		return lista;
 	}
 
-	public void setHistorialEmpleados(List<Empleado> historialEmpleados) {
-		this.historialEmpleados = historialEmpleados;
+	void setHistorial(HistorialAsignaciones historial) {
+		this.historial = historial.isEmpty() && historial.getArchivadas() == 0 ? null : historial;
 	}
 
+	void medir(ReporteMemoria.Acumulador acumulador) {
+		acumulador.sumar(ReporteMemoria.TAREAS, 1, EstimadorMemoria.objeto(Tarea.class)
+				+ EstimadorMemoria.cadena(titulo) + EstimadorMemoria.cadena(descripcion));
+		if (historial != null) {
+			acumulador.sumar(ReporteMemoria.HISTORIALES, 1, historial.bytesEstimados());
+		}
+	}
 }
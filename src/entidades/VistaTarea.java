@@ -0,0 +1,171 @@
+package entidades;
+
+/**
+ * Tarea que no guarda datos propios: lee y escribe una fila de un
+ * {@link AlmacenTareasColumnar}. Se crea a pedido y es barata de descartar;
+ * solo guarda el almacen, la fila y el ultimo responsable leido.
+ *
+ * Recuerda el responsable que devolvio getResponsable() y es esa misma
+ * instancia la que liberan o modifican las operaciones siguientes, como hace
+ * Tarea con su campo. Asi HomeSolution persiste el empleado que cambio.
+ */
+class VistaTarea implements ITarea {
+
+	private final AlmacenTareasColumnar almacen;
+	private int fila;
+	private Empleado responsable;
+
+	VistaTarea(AlmacenTareasColumnar almacen, int fila) {
+		this.almacen = almacen;
+		this.fila = fila;
+	}
+
+	int getFila() {
+		return fila;
+	}
+
+	/**
+	 * Reutiliza la vista para otra fila, para recorridos que no retienen la tarea.
+	 */
+	void mover(int fila) {
+		this.fila = fila;
+		this.responsable = null;
+	}
+
+	@Override
+	public void asignarEmpleado(Empleado empleado) {
+		asignarEmpleado(empleado, LimiteHistorial.SIN_LIMITE, 0);
+	}
+
+	@Override
+	public void asignarEmpleado(Empleado empleado, LimiteHistorial limite, int numeroProyecto) {
+		almacen.asignarEmpleado(fila, empleado, getResponsable(), limite, numeroProyecto);
+		responsable = empleado;
+	}
+
+	@Override
+	public void desasignarEmpleado() {
+		almacen.desasignarEmpleado(fila);
+		responsable = null;
+	}
+
+	@Override
+	public EstadoTarea getEstado() {
+		return almacen.getEstado(fila);
+	}
+
+	@Override
+	public void registrarRetraso(double cantidadDias) {
+		almacen.registrarRetraso(fila, cantidadDias, getResponsable());
+	}
+
+	@Override
+	public double calcularCosto() {
+		return almacen.calcularCosto(fila, getResponsable());
+	}
+
+	@Override
+	public void establecerTareaFinalizada() {
+		almacen.establecerTareaFinalizada(fila, getResponsable());
+		responsable = null;
+	}
+
+	@Override
+	public String getTitulo() {
+		return almacen.getTitulo(fila);
+	}
+
+	@Override
+	public void setTitulo(String titulo) {
+		almacen.setTitulo(fila, titulo);
+	}
+
+	@Override
+	public String getDescripcion() {
+		return almacen.getDescripcion(fila);
+	}
+
+	@Override
+	public void setDescripcion(String descripcion) {
+		almacen.setDescripcion(fila, descripcion);
+	}
+
+	@Override
+	public double getCantDiasDuracion() {
+		return almacen.getDuracion(fila);
+	}
+
+	@Override
+	public void setCantDiasDuracion(double cantDiasDuracion) {
+		almacen.setDuracion(fila, cantDiasDuracion);
+	}
+
+	@Override
+	public Empleado getResponsable() {
+		int legajo = almacen.getLegajo(fila);
+		if (legajo == ColumnasTareas.SIN_RESPONSABLE) {
+			responsable = null;
+		} else if (responsable == null || responsable.getNumeroLegajo() != legajo) {
+			responsable = almacen.getResponsable(fila);
+		}
+		return responsable;
+	}
+
+	@Override
+	public void setResponsable(Empleado responsable) {
+		almacen.setResponsable(fila, responsable);
+		this.responsable = responsable;
+	}
+
+	@Override
+	public double getDiasDeRetraso() {
+		return almacen.getRetraso(fila);
+	}
+
+	@Override
+	public void setDiasDeRetraso(double diasDeRetraso) {
+		almacen.setRetraso(fila, diasDeRetraso);
+	}
+
+	@Override
+	public boolean isTareaTerminada() {
+		return almacen.isTerminada(fila);
+	}
+
+	@Override
+	public void setTareaTerminada(boolean tareaTerminada) {
+		almacen.setTerminada(fila, tareaTerminada);
+	}
+
+	@Override
+	public double getCostoTarea() {
+		return almacen.getCosto(fila);
+	}
+
+	@Override
+	public void setCostoTarea(double costoTarea) {
+		almacen.setCosto(fila, costoTarea);
+	}
+
+	@Override
+	public HistorialAsignaciones getHistorial() {
+		return almacen.getHistorial(fila);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof VistaTarea)) {
+			return false;
+		}
+		VistaTarea otra = (VistaTarea) obj;
+		return almacen == otra.almacen && fila == otra.fila;
+	}
+
+	@Override
+	public int hashCode() {
+		return System.identityHashCode(almacen) * 31 + fila;
+	}
+}
@@ -0,0 +1,63 @@
+package gui;
+
+import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Busca mientras se escribe en un campo de texto. Cada cambio pide una
+ * busqueda al sistema en segundo plano y solo se muestra la respuesta del
+ * ultimo pedido; las que llegan tarde se descartan.
+ */
+public class BusquedaIncremental<T> implements DocumentListener {
+    private final PanelManager panelManager;
+    private final JTextField campo;
+    private final Function<String, OperacionSistema<T>> busqueda;
+    private final Consumer<T> mostrar;
+    private int ultimoPedido;
+
+    private BusquedaIncremental(PanelManager panelManager, JTextField campo,
+                                Function<String, OperacionSistema<T>> busqueda, Consumer<T> mostrar) {
+        this.panelManager = panelManager;
+        this.campo = campo;
+        this.busqueda = busqueda;
+        this.mostrar = mostrar;
+    }
+
+    /**
+     * Engancha la busqueda al campo. No busca hasta el primer cambio.
+     */
+    public static <T> BusquedaIncremental<T> conectar(PanelManager panelManager, JTextField campo,
+                                                      Function<String, OperacionSistema<T>> busqueda,
+                                                      Consumer<T> mostrar) {
+        BusquedaIncremental<T> b = new BusquedaIncremental<>(panelManager, campo, busqueda, mostrar);
+        campo.getDocument().addDocumentListener(b);
+        return b;
+    }
+
+    public void buscar() {
+        int pedido = ++ultimoPedido;
+        panelManager.enSegundoPlano(busqueda.apply(campo.getText().trim()),
+                resultado -> {
+                    if (pedido == ultimoPedido)
+                        mostrar.accept(resultado);
+                },
+                exception -> {});
+    }
+
+    @Override
+    public void insertUpdate(DocumentEvent e) {
+        buscar();
+    }
+
+    @Override
+    public void removeUpdate(DocumentEvent e) {
+        buscar();
+    }
+
+    @Override
+    public void changedUpdate(DocumentEvent e) {
+    }
+}
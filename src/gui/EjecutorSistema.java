@@ -0,0 +1,132 @@
+package gui;
+
+import entidades.IHomeSolution;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Corre las llamadas al sistema en un unico hilo de fondo, en el orden en
+ * que se piden, y entrega el resultado en el hilo de Swing. Un solo hilo
+ * porque HomeSolution no esta pensado para llamadas concurrentes.
+ *
+ * Mientras haya operaciones pendientes muestra una barra de progreso sobre
+ * la ventana (despues de una breve espera, para no parpadear en las rapidas)
+ * y bloquea los clics. La barra se prende y apaga una sola vez por tanda.
+ * Las operaciones de {@link #ejecutarSinIndicador} no cuentan como pendientes.
+ */
+public class EjecutorSistema {
+    private static final int ESPERA_INDICADOR_MS = 200;
+
+    private final IHomeSolution sistema;
+    private final JFrame ventana;
+    private final ExecutorService hilo;
+    private final JPanel indicador;
+    private final Timer demoraIndicador;
+    private int pendientes;
+
+    public EjecutorSistema(IHomeSolution sistema, JFrame ventana) {
+        this.sistema = sistema;
+        this.ventana = ventana;
+        this.hilo = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "home-solution");
+            t.setDaemon(true);
+            return t;
+        });
+        this.indicador = armarIndicador();
+        this.demoraIndicador = new Timer(ESPERA_INDICADOR_MS, e -> mostrarIndicador(true));
+        this.demoraIndicador.setRepeats(false);
+    }
+
+    private JPanel armarIndicador() {
+        JProgressBar barra = new JProgressBar();
+        barra.setIndeterminate(true);
+        barra.setString("Procesando...");
+        barra.setStringPainted(true);
+        JPanel panel = new JPanel(new GridBagLayout());
+        panel.setOpaque(false);
+        panel.add(barra);
+        panel.addMouseListener(new MouseAdapter() {});
+        return panel;
+    }
+
+    /**
+     * Debe llamarse desde el hilo de Swing. {@code alTerminar} y
+     * {@code alFallar} tambien corren en el hilo de Swing.
+     */
+    public <T> void ejecutar(OperacionSistema<T> operacion, Consumer<T> alTerminar, Consumer<Exception> alFallar) {
+        ejecutar(operacion, alTerminar, alFallar, true);
+    }
+
+    /**
+     * Igual que {@link #ejecutar}, pero sin cursor de espera ni barra: para
+     * cargas que pide el dibujado (por ejemplo paginas de una tabla al hacer
+     * scroll) y no deben bloquear los clics.
+     */
+    public <T> void ejecutarSinIndicador(OperacionSistema<T> operacion, Consumer<T> alTerminar,
+                                         Consumer<Exception> alFallar) {
+        ejecutar(operacion, alTerminar, alFallar, false);
+    }
+
+    private <T> void ejecutar(OperacionSistema<T> operacion, Consumer<T> alTerminar, Consumer<Exception> alFallar,
+                              boolean conIndicador) {
+        if (conIndicador) {
+            empezo();
+        }
+        hilo.execute(new SwingWorker<T, Void>() {
+            @Override
+            protected T doInBackground() throws Exception {
+                return operacion.ejecutar(sistema);
+            }
+
+            @Override
+            protected void done() {
+                if (conIndicador) {
+                    terminoUna();
+                }
+                T resultado;
+                try {
+                    resultado = get();
+                } catch (ExecutionException e) {
+                    Throwable causa = e.getCause();
+                    if (causa instanceof Exception) {
+                        alFallar.accept((Exception) causa);
+                        return;
+                    }
+                    throw new IllegalStateException(causa);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                alTerminar.accept(resultado);
+            }
+        });
+    }
+
+    private void empezo() {
+        if (pendientes++ == 0) {
+            ventana.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+            demoraIndicador.restart();
+        }
+    }
+
+    private void terminoUna() {
+        if (--pendientes == 0) {
+            demoraIndicador.stop();
+            mostrarIndicador(false);
+            ventana.setCursor(Cursor.getDefaultCursor());
+        }
+    }
+
+    private void mostrarIndicador(boolean visible) {
+        if (ventana.getGlassPane() != indicador) {
+            ventana.setGlassPane(indicador);
+        }
+        indicador.setVisible(visible);
+    }
+}
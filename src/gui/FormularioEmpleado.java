@@ -40,25 +40,41 @@ public class FormularioEmpleado extends JPanel {
         agregaPermanente.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                String nombre = textNombreP.getText();
+                String categoria = cCategoria.getSelectedItem().toString();
+                double valor;
                 try {
-                    panelManager.sistema().registrarEmpleado(textNombreP.getText(), Double.parseDouble(textValorDia.getText()),
-                            cCategoria.getSelectedItem().toString());
+                    valor = Double.parseDouble(textValorDia.getText());
                 }
                 catch(IllegalArgumentException exception){
                     JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos");
+                    return;
                 }
+                panelManager.enSegundoPlano(sistema -> {
+                            sistema.registrarEmpleado(nombre, valor, categoria);
+                            return null;
+                        }, r -> {},
+                        exception -> JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos"));
             }
         });
         agregaContratado.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                String nombre = textNombreC.getText();
+                double valor;
                 try {
-                    panelManager.sistema().registrarEmpleado(textNombreC.getText(), Double.parseDouble(textValorHora.getText()));
+                    valor = Double.parseDouble(textValorHora.getText());
                 }
                 catch (IllegalArgumentException exception)
                 {
                     JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos");
+                    return;
                 }
+                panelManager.enSegundoPlano(sistema -> {
+                            sistema.registrarEmpleado(nombre, valor);
+                            return null;
+                        }, r -> {},
+                        exception -> JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos"));
             }
         });
         setLayout(new BorderLayout());
@@ -79,15 +79,14 @@ public class FormularioProyecto extends JPanel {
                                  textClienteMail.getText(),
                                  textClienteTelefono.getText()};
                armarArrays(titulos, desc,dias, modelTabla);
-               try {
-                   panelManager.sistema().registrarProyecto(titulos, desc, dias, textDomicilio.getText(),
-                           cliente, textFechaInicio.getText(),
-                           textFechaFin.getText());
-                   panelManager.mostrar(5);
-               }
-               catch (IllegalArgumentException exception){
-                   JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos");
-               }
+               String domicilio=textDomicilio.getText();
+               String inicio=textFechaInicio.getText();
+               String fin=textFechaFin.getText();
+               panelManager.enSegundoPlano(sistema -> {
+                           sistema.registrarProyecto(titulos, desc, dias, domicilio, cliente, inicio, fin);
+                           return null;
+                       }, r -> panelManager.mostrar(5),
+                       exception -> JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos"));
             }
         });
         setLayout(new BorderLayout());
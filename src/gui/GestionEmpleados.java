@@ -1,15 +1,13 @@
 package gui;
 
 import entidades.Estado;
-import entidades.Tupla;
+import entidades.EventoDominio;
+import entidades.IHomeSolution;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.ArrayList;
-import java.util.List;
 
 public class GestionEmpleados extends JPanel{
     private PanelManager panelManager;
@@ -26,9 +24,14 @@ public class GestionEmpleados extends JPanel{
     }
 
     public void armarFormulario() {
-        DefaultTableModel modelTabla = new DefaultTableModel();
+        ModeloTablaPerezoso modelTabla = new ModeloTablaPerezoso("Legajo", "Nombre", panelManager,
+                IHomeSolution::consultarNombreEmpleado);
         armarPantalla(modelTabla);
         cargarTabla(modelTabla);
+        panelManager.escucharCambios(evento -> {
+            if (evento instanceof EventoDominio.EmpleadoRegistrado && modelTabla.esPosterior(evento.getSecuencia()))
+                modelTabla.agregar(((EventoDominio.EmpleadoRegistrado) evento).getLegajo());
+        });
         volverPrincipal.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -42,9 +45,13 @@ public class GestionEmpleados extends JPanel{
                 int filaSeleccionada = tablaEmpleados.getSelectedRow();
                     if (filaSeleccionada != -1) {
                         int fila = tablaEmpleados.getSelectedRow();
-                        int retrasos=panelManager.sistema().consultarCantidadRetrasosEmpleado(Integer.parseInt(tablaEmpleados.getValueAt(fila, 0).toString()));
-                        String mensaje=retrasos==0?"No tiene retrasos":"Tiene :"+retrasos +" retrasos";
-                        JOptionPane.showMessageDialog(null, mensaje);
+                        int legajo=modelTabla.getNumero(fila);
+                        panelManager.enSegundoPlano(sistema -> sistema.consultarCantidadRetrasosEmpleado(legajo),
+                                retrasos -> {
+                                    String mensaje=retrasos==0?"No tiene retrasos":"Tiene :"+retrasos +" retrasos";
+                                    JOptionPane.showMessageDialog(null, mensaje);
+                                },
+                                exception -> JOptionPane.showMessageDialog(null, "No se pudo consultar el empleado"));
                     }
                 }
             });
@@ -54,11 +61,9 @@ public class GestionEmpleados extends JPanel{
         add(gestionEmpleados, BorderLayout.CENTER);
     }
 
-    private void armarPantalla(DefaultTableModel modelTabla) {
+    private void armarPantalla(ModeloTablaPerezoso modelTabla) {
         GridBagConstraints gbc = new GridBagConstraints();
 
-        modelTabla.addColumn("Legajo");
-        modelTabla.addColumn("Nombre");
         labelEmpleados=new JLabel("Empleados ");
         labelEmpleados.setFont(new Font("Arial", Font.BOLD, 18));
         tablaEmpleados=new JTable(modelTabla);
@@ -87,14 +92,10 @@ public class GestionEmpleados extends JPanel{
         gbc.weighty = 1.0;
         gestionEmpleados.add(volverPrincipal, gbc);
     }
-    private void cargarTabla(DefaultTableModel tableModel){
-        List<Tupla<Integer,String>> empleados;
-        empleados = panelManager.sistema().empleados();
-        tableModel.setRowCount(0);
-        if(empleados!=null)
-            for(Tupla<Integer,String> t:empleados) {
-                Object[] nuevaFila = {t.getValor1(), t.getValor2()};
-                tableModel.addRow(nuevaFila);
-            }
+    private void cargarTabla(ModeloTablaPerezoso tableModel){
+        panelManager.enSegundoPlano(
+                sistema -> ModeloTablaPerezoso.recolectar(sistema::recorrerEmpleados, sistema.ultimaSecuenciaEventos()),
+                tableModel::reemplazar,
+                exception -> JOptionPane.showMessageDialog(null, "No se pudieron cargar los empleados"));
     }
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package gui;
 
+import entidades.ColumnasTareas;
+import entidades.EstadoTarea;
+import entidades.EventoDominio;
 import entidades.IHomeSolution;
+import entidades.ResultadoOperacion;
 import entidades.Tupla;
 
 import javax.swing.*;
@@ -11,9 +15,14 @@ import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 public class GestionProyectos extends  JPanel{
+    private static final int MAX_RESULTADOS_BUSQUEDA = 50;
     private PanelManager panelManager;
     private JPanel gestionProyecto;
     private JLabel labelTitulo;
@@ -35,6 +44,11 @@ public class GestionProyectos extends  JPanel{
     private JButton empleadosAsignados;
     private JButton datosProyecto;
     private JButton volverPrincipal;
+    private Integer numeroMostrado;
+    private long secuenciaCargada;
+    private long ultimaSecuenciaRecibida;
+    private boolean proyectoCerrado;
+    private Map<String, EstadoFila> filas = new LinkedHashMap<>();
 
     public GestionProyectos(PanelManager panelManager) {
         this.panelManager = panelManager;
@@ -42,11 +56,10 @@ public class GestionProyectos extends  JPanel{
     }
     public void armarFormulario()
     {   DefaultTableModel modelTabla=new DefaultTableModel();
-        Integer numero=panelManager.consultarSeleccionado();
-        Object[] listaTareas=panelManager.sistema().tareasDeUnProyecto(numero);
         armarPantalla(modelTabla);
-        tareas.setModel(new DefaultComboBoxModel(listaTareas));
-        tareas.setSelectedIndex(-1);
+        mostrarProyecto(panelManager.consultarSeleccionado());
+        panelManager.escucharCambios(this::aplicarCambio);
+        tareas.addActionListener(e -> mostrarTareaSeleccionada());
         volverPrincipal.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
@@ -56,13 +69,12 @@ public class GestionProyectos extends  JPanel{
         asignarEmpleado.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                Integer proyecto=numeroMostrado;
                 if (seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    try {
-                        panelManager.sistema().asignarResponsableEnTarea(panelManager.consultarSeleccionado(), titulo);
-                    } catch (Exception exception) {
-                        JOptionPane.showMessageDialog(null, "No hay empleados disponibles, el proyecto quedara pendiente");
-                    }
+                    panelManager.enSegundoPlano(
+                            sistema -> sistema.intentarAsignarResponsableEnTarea(proyecto, titulo),
+                            GestionProyectos::informar, avisar("No se pudo asignar el empleado"));
                 }
                 else{
                     JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -73,13 +85,12 @@ public class GestionProyectos extends  JPanel{
         asignarEmpleadoEficiente.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
+                Integer proyecto=numeroMostrado;
                 if (seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    try {
-                        panelManager.sistema().asignarResponsableMenosRetraso(panelManager.consultarSeleccionado(), titulo);
-                    } catch (Exception exception) {
-                        JOptionPane.showMessageDialog(null, "No hay empleados disponibles, el proyecto quedara pendiente");
-                    }
+                    panelManager.enSegundoPlano(
+                            sistema -> sistema.intentarAsignarResponsableMenosRetraso(proyecto, titulo),
+                            GestionProyectos::informar, avisar("No se pudo asignar el empleado"));
                 }
                 else{
                         JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -91,31 +102,7 @@ public class GestionProyectos extends  JPanel{
             public void actionPerformed(ActionEvent actionEvent) {
                 if(seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    Object[] datos = panelManager.sistema().empleadosNoAsignados();
-                    JComboBox empleados = new JComboBox();
-                    empleados.setModel(new DefaultComboBoxModel(datos));
-                    JPanel panel = new JPanel();
-                    panel.add(new JLabel("Seleccione un empleado:"));
-                    panel.add(empleados);
-                    int resultado = JOptionPane.showOptionDialog(
-                            null,
-                            panel,
-                            "Empleados no asignados",
-                            JOptionPane.OK_CANCEL_OPTION,
-                            JOptionPane.PLAIN_MESSAGE,
-                            null,
-                            null,
-                            null
-                    );
-                    if (resultado == JOptionPane.OK_OPTION) {
-                        try{
-                        Integer legajo = Integer.parseInt(empleados.getSelectedItem().toString());
-                        panelManager.sistema().reasignarEmpleadoEnProyecto(panelManager.consultarSeleccionado(), legajo, titulo);
-                        }
-                        catch (Exception exception ){
-                            JOptionPane.showMessageDialog(null, "No hay empleado asignado anterioremente");
-                        }
-                    }
+                    elegirYReasignar(titulo);
                 }
                 else{
                     JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -125,13 +112,14 @@ public class GestionProyectos extends  JPanel{
         reasignarEmpleadoEficiente.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
+                Integer proyecto=numeroMostrado;
                 if(seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    try {
-                        panelManager.sistema().reasignarEmpleadoConMenosRetraso(panelManager.consultarSeleccionado(), titulo);
-                    } catch (Exception exception) {
-                        JOptionPane.showMessageDialog(null, "No hay empleados disponibles, el proyecto quedara pendiente");
-                    }
+                    panelManager.enSegundoPlano(sistema -> {
+                                sistema.reasignarEmpleadoConMenosRetraso(proyecto, titulo);
+                                return null;
+                            }, sinRespuesta(),
+                            avisar("No hay empleados disponibles, el proyecto quedara pendiente"));
                 }
                 else{
                     JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -141,14 +129,11 @@ public class GestionProyectos extends  JPanel{
         establecerComoFinalizada.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
+                Integer proyecto=numeroMostrado;
                 if (seleccionValida()) {
                     String titulo = tareas.getSelectedItem().toString();
-                    try {
-						panelManager.sistema().finalizarTarea(panelManager.consultarSeleccionado(), titulo);
-					} catch (Exception e) {
-						// TODO Auto-generated catch block
-						e.printStackTrace();
-					}
+                    panelManager.enSegundoPlano(sistema -> sistema.intentarFinalizarTarea(proyecto, titulo),
+                            GestionProyectos::informar, avisar("No se pudo finalizar la tarea"));
                 }
                 else{
                     JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -158,16 +143,23 @@ public class GestionProyectos extends  JPanel{
         registrarRetrasoEnTarea.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
+                Integer proyecto=numeroMostrado;
                 if(seleccionValida()){
                     String titulo = tareas.getSelectedItem().toString();
                     String valor=JOptionPane.showInputDialog("Ingresar la cantidad de dias de retraso");
+                    double dias;
                     try {
-                        double dias=Double.parseDouble(valor);
-                        panelManager.sistema().registrarRetrasoEnTarea(panelManager.consultarSeleccionado(), titulo, dias);
+                        dias=Double.parseDouble(valor);
                     }
                     catch (IllegalArgumentException | NullPointerException exception){
                         JOptionPane.showMessageDialog(null, "Los valores ingresados no son validos");
+                        return;
                     }
+                    panelManager.enSegundoPlano(sistema -> {
+                                sistema.registrarRetrasoEnTarea(proyecto, titulo, dias);
+                                return null;
+                            }, sinRespuesta(),
+                            avisar("Los valores ingresados no son validos"));
                 }
                 else{
                     JOptionPane.showMessageDialog(null,"No hay tarea seleccionada");
@@ -177,77 +169,68 @@ public class GestionProyectos extends  JPanel{
         agregarTarea.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
+                Integer proyecto=numeroMostrado;
                 FormularioTarea nuevaTarea=new FormularioTarea(null);
                 nuevaTarea.setVisible(true);
                 String titulo=nuevaTarea.getTitulo();
                 String descripcion=nuevaTarea.getDescripcion();
                 String dias=nuevaTarea.getDescripcion();
+                double cantidadDias;
                 try{
-                    panelManager.sistema().agregarTareaEnProyecto(panelManager.consultarSeleccionado(),
-                            titulo,descripcion,Double.parseDouble(dias));
-                    tareas.addItem(titulo);
+                    cantidadDias=Double.parseDouble(dias);
                 }
                 catch(IllegalArgumentException | NullPointerException exception){
                     JOptionPane.showMessageDialog(null,"Los valores no son validos");
+                    return;
                 }
+                panelManager.enSegundoPlano(sistema -> {
+                            sistema.agregarTareaEnProyecto(proyecto, titulo, descripcion, cantidadDias);
+                            return null;
+                        }, sinRespuesta(),
+                        avisar("Los valores no son validos"));
             }
         });
         costoActualProyecto.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
-                double costo=panelManager.sistema().costoProyecto();
-                JOptionPane.showMessageDialog(null, "El costo actual del proyecto es: " + costo);
+                panelManager.enSegundoPlano(IHomeSolution::costoProyecto,
+                        costo -> JOptionPane.showMessageDialog(null, "El costo actual del proyecto es: " + costo),
+                        avisar("No se pudo calcular el costo"));
             }
         });
         proyectoFinalizado.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
+                Integer proyecto=numeroMostrado;
                 FormularioProyectoFinalizado formularioProyectoFinalizado=new FormularioProyectoFinalizado(null);
                 formularioProyectoFinalizado.setVisible(true);
                 String fecha=formularioProyectoFinalizado.getFecha();
-                try{
-                    panelManager.sistema().finalizarProyecto(panelManager.consultarSeleccionado(), fecha);
-                }
-                catch(IllegalArgumentException exception){
-                    JOptionPane.showMessageDialog(null,"Los valores no son validos");
-                }
+                panelManager.enSegundoPlano(sistema -> {
+                            sistema.finalizarProyecto(proyecto, fecha);
+                            return null;
+                        }, sinRespuesta(),
+                        avisar("Los valores no son validos"));
             }
         });
         empleadosAsignados.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
-                DefaultTableModel modelTabla = new DefaultTableModel();
-                JTable tablaEmpleados = new JTable(modelTabla);
-                JScrollPane scrollPane = new JScrollPane(tablaEmpleados);
-                modelTabla.addColumn("Legajo");
-                modelTabla.addColumn("Nombre");
-                List<Tupla<Integer,String>> empleados=panelManager.sistema().empleadosAsignadosAProyecto(panelManager.consultarSeleccionado());
-                for(Tupla<Integer,String> t:empleados) {
-                    Object[] nuevaFila = {t.getValor1(), t.getValor2()};
-                    modelTabla.addRow(nuevaFila);
-                }
-                JPanel panel = new JPanel();
-                panel.add(new JLabel("Empleados Asignados"));
-                panel.add(scrollPane);
-                int resultado = JOptionPane.showOptionDialog(
-                        null,
-                        panel,
-                        "Empleados Asignados",
-                        JOptionPane.PLAIN_MESSAGE,
-                        JOptionPane.PLAIN_MESSAGE,
-                        null,
-                        null,
-                        null
-                );
+                Integer proyecto=numeroMostrado;
+                panelManager.enSegundoPlano(sistema -> sistema.empleadosAsignadosAProyecto(proyecto),
+                        GestionProyectos::mostrarEmpleadosAsignados,
+                        avisar("No se pudieron consultar los empleados"));
             }
         });
         datosProyecto.addActionListener(new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent actionEvent) {
-                Integer numero=panelManager.consultarSeleccionado();
-                String infoProyecto=panelManager.sistema().consultarProyecto(numero);
-                InformacionProyecto informacionProyecto=new InformacionProyecto(null,numero,infoProyecto);
-                informacionProyecto.setVisible(true);
+                Integer proyecto=numeroMostrado;
+                panelManager.enSegundoPlano(sistema -> sistema.consultarProyecto(proyecto),
+                        infoProyecto -> {
+                            InformacionProyecto informacionProyecto=new InformacionProyecto(null,proyecto,infoProyecto);
+                            informacionProyecto.setVisible(true);
+                        },
+                        avisar("No se pudo consultar el proyecto"));
             }
         });
         setLayout(new BorderLayout());
@@ -256,8 +239,7 @@ public class GestionProyectos extends  JPanel{
     private void armarPantalla(DefaultTableModel modelTabla)
     {   GridBagConstraints gbc = new GridBagConstraints();
 
-        labelTitulo=new JLabel("Proyecto: " + panelManager.consultarSeleccionado() +
-                      " " + panelManager.sistema().consultarDomicilioProyecto(panelManager.consultarSeleccionado()));
+        labelTitulo=new JLabel();
         labelTitulo.setFont(new Font("Arial", Font.BOLD, 24));
         itemTareas=new JLabel("Gestion Tareas");
         itemTareas.setFont(new Font("Arial", Font.BOLD, 20));
@@ -336,20 +318,215 @@ public class GestionProyectos extends  JPanel{
         gbc.weightx = 1.0;
         gbc.weighty = 1.0;
         gestionProyecto.add(volverPrincipal, gbc);
-        deshabilitarBotones();
+    }
+    /**
+     * Carga en la pantalla los datos del proyecto, sin reconstruirla.
+     */
+    public void mostrarProyecto(Integer numero){
+        numeroMostrado=numero;
+        labelTitulo.setText("Proyecto: " + numero);
+        filas=new LinkedHashMap<>();
+        tareas.setModel(new DefaultComboBoxModel<>());
+        panelManager.enSegundoPlano(sistema -> new DatosProyecto(sistema, numero),
+                datos -> {
+                    if (!Objects.equals(numero, numeroMostrado))
+                        return;
+                    secuenciaCargada=datos.secuencia;
+                    labelTitulo.setText("Proyecto: " + numero + " " + datos.domicilio);
+                    filas=datos.filas;
+                    proyectoCerrado=datos.finalizado;
+                    tareas.setModel(new DefaultComboBoxModel<>(filas.keySet().toArray(new String[0])));
+                    tareas.setSelectedIndex(-1);
+                    mostrarTareaSeleccionada();
+                },
+                avisar("No se pudieron cargar los datos del proyecto"));
+    }
+    /**
+     * Aplica un evento del proyecto mostrado. Si falto algun evento (el sistema
+     * descarta los que no entran en el buffer) se vuelve a cargar el proyecto.
+     */
+    private void aplicarCambio(EventoDominio evento){
+        long anterior=ultimaSecuenciaRecibida;
+        ultimaSecuenciaRecibida=Math.max(anterior, evento.getSecuencia());
+        if (numeroMostrado == null || evento.getSecuencia() <= secuenciaCargada)
+            return;
+        long aplicada=Math.max(anterior, secuenciaCargada);
+        if (aplicada > 0 && evento.getSecuencia() > aplicada + 1) {
+            mostrarProyecto(numeroMostrado);
+            return;
+        }
+        if (evento.getNumeroProyecto() != numeroMostrado)
+            return;
+        if (evento instanceof EventoDominio.TareaAgregada) {
+            String titulo=((EventoDominio.TareaAgregada) evento).getTitulo();
+            if (filas.putIfAbsent(titulo, new EstadoFila(EstadoTarea.PENDIENTE, ColumnasTareas.SIN_RESPONSABLE)) == null)
+                tareas.addItem(titulo);
+        }
+        else if (evento instanceof EventoDominio.EmpleadoAsignado) {
+            EventoDominio.EmpleadoAsignado asignado=(EventoDominio.EmpleadoAsignado) evento;
+            actualizarFila(asignado.getTitulo(), EstadoTarea.ASIGNADA, asignado.getLegajo(), false);
+        }
+        else if (evento instanceof EventoDominio.EmpleadoReasignado) {
+            EventoDominio.EmpleadoReasignado reasignado=(EventoDominio.EmpleadoReasignado) evento;
+            actualizarFila(reasignado.getTitulo(), EstadoTarea.ASIGNADA, reasignado.getLegajoNuevo(), false);
+        }
+        else if (evento instanceof EventoDominio.RetrasoRegistrado) {
+            EventoDominio.RetrasoRegistrado retraso=(EventoDominio.RetrasoRegistrado) evento;
+            actualizarFila(retraso.getTitulo(), null, retraso.getLegajo(), true);
+        }
+        else if (evento instanceof EventoDominio.TareaFinalizada) {
+            EventoDominio.TareaFinalizada finalizada=(EventoDominio.TareaFinalizada) evento;
+            actualizarFila(finalizada.getTitulo(), EstadoTarea.FINALIZADA, finalizada.getLegajo(), false);
+        }
+        else if (evento instanceof EventoDominio.ProyectoFinalizado) {
+            proyectoCerrado=true;
+            mostrarTareaSeleccionada();
+        }
+    }
+    private void actualizarFila(String titulo, EstadoTarea estado, int legajo, boolean conRetraso){
+        EstadoFila fila=filas.get(titulo);
+        if (fila == null)
+            return;
+        if (estado != null)
+            fila.estado=estado;
+        fila.legajo=legajo;
+        fila.conRetraso|=conRetraso;
+        if (titulo.equals(tareas.getSelectedItem()))
+            mostrarTareaSeleccionada();
+    }
+    /**
+     * Muestra el estado de la tarea elegida y habilita solo los botones que aplican.
+     */
+    private void mostrarTareaSeleccionada(){
+        EstadoFila fila=seleccionValida() ? filas.get(tareas.getSelectedItem()) : null;
+        if (fila == null) {
+            labelMensajeTarea.setText("Seleccionar una tarea");
+        }
+        else {
+            String responsable=fila.legajo == ColumnasTareas.SIN_RESPONSABLE ? "sin responsable"
+                    : "legajo " + fila.legajo;
+            labelMensajeTarea.setText(fila.estado + " (" + responsable + ")" + (fila.conRetraso ? ", con retraso" : ""));
+        }
+        boolean abierta=!proyectoCerrado && (fila == null || fila.estado != EstadoTarea.FINALIZADA);
+        boolean conResponsable=fila == null || fila.estado == EstadoTarea.ASIGNADA;
+        asignarEmpleado.setEnabled(abierta);
+        asignarEmpleadoEficiente.setEnabled(abierta);
+        registrarRetrasoEnTarea.setEnabled(abierta);
+        establecerComoFinalizada.setEnabled(abierta);
+        reasignarEmpleado.setEnabled(abierta && conResponsable);
+        reasignarEmpleadoEficiente.setEnabled(abierta && conResponsable);
+        proyectoFinalizado.setEnabled(!proyectoCerrado);
+    }
+    private void elegirYReasignar(String titulo){
+        PanelBusqueda panel = new PanelBusqueda(panelManager, "Buscar empleado no asignado:",
+                texto -> sistema -> empleadosNoAsignados(sistema, texto));
+        int resultado = JOptionPane.showOptionDialog(
+                null,
+                panel,
+                "Empleados no asignados",
+                JOptionPane.OK_CANCEL_OPTION,
+                JOptionPane.PLAIN_MESSAGE,
+                null,
+                null,
+                null
+        );
+        if (resultado == JOptionPane.OK_OPTION) {
+            Integer proyecto = numeroMostrado;
+            Integer legajo = panel.getSeleccionado();
+            if (legajo == null) {
+                JOptionPane.showMessageDialog(null, "No hay empleado seleccionado");
+                return;
+            }
+            panelManager.enSegundoPlano(sistema -> {
+                        sistema.reasignarEmpleadoEnProyecto(proyecto, legajo, titulo);
+                        return null;
+                    }, sinRespuesta(),
+                    avisar("No hay empleado asignado anterioremente"));
+        }
+    }
+    private static List<Tupla<Integer,String>> empleadosNoAsignados(IHomeSolution sistema, String texto){
+        List<Tupla<Integer,String>> encontrados = new ArrayList<>();
+        if (texto.isEmpty()) {
+            sistema.recorrerEmpleadosNoAsignados((legajo, empleado) -> {
+                if (encontrados.size() < MAX_RESULTADOS_BUSQUEDA)
+                    encontrados.add(new Tupla<>(legajo, empleado.getNombre()));
+            });
+        }
+        else {
+            sistema.buscarEmpleados(texto, true, MAX_RESULTADOS_BUSQUEDA,
+                    (legajo, empleado) -> encontrados.add(new Tupla<>(legajo, empleado.getNombre())));
+        }
+        return encontrados;
+    }
+    private static void mostrarEmpleadosAsignados(List<Tupla<Integer,String>> empleados){
+        DefaultTableModel modelTabla = new DefaultTableModel();
+        JTable tablaEmpleados = new JTable(modelTabla);
+        JScrollPane scrollPane = new JScrollPane(tablaEmpleados);
+        modelTabla.addColumn("Legajo");
+        modelTabla.addColumn("Nombre");
+        for(Tupla<Integer,String> t:empleados) {
+            Object[] nuevaFila = {t.getValor1(), t.getValor2()};
+            modelTabla.addRow(nuevaFila);
+        }
+        JPanel panel = new JPanel();
+        panel.add(new JLabel("Empleados Asignados"));
+        panel.add(scrollPane);
+        JOptionPane.showOptionDialog(
+                null,
+                panel,
+                "Empleados Asignados",
+                JOptionPane.PLAIN_MESSAGE,
+                JOptionPane.PLAIN_MESSAGE,
+                null,
+                null,
+                null
+        );
+    }
+    private static void informar(ResultadoOperacion resultado){
+        if (!resultado.esExito()) {
+            JOptionPane.showMessageDialog(null, resultado.getMensaje());
+        }
+    }
+    private static Consumer<Exception> avisar(String mensaje){
+        return e -> JOptionPane.showMessageDialog(null, mensaje);
+    }
+    private static <T> Consumer<T> sinRespuesta(){
+        return r -> {};
     }
     private boolean seleccionValida(){
         return tareas.getSelectedIndex()!=-1;
     }
-    private void deshabilitarBotones(){
-        if(panelManager.sistema().estaFinalizado(panelManager.consultarSeleccionado())){
-            registrarRetrasoEnTarea.setEnabled(false);
-            proyectoFinalizado.setEnabled(false);
-            reasignarEmpleado.setEnabled(false);
-            reasignarEmpleadoEficiente.setEnabled(false);
-            establecerComoFinalizada.setEnabled(false);
+
+    /**
+     * Lo que la pantalla sabe de una tarea; se actualiza con los eventos.
+     */
+    private static class EstadoFila {
+        private EstadoTarea estado;
+        private int legajo;
+        private boolean conRetraso;
+
+        EstadoFila(EstadoTarea estado, int legajo) {
+            this.estado=estado;
+            this.legajo=legajo;
         }
+    }
 
+    private static class DatosProyecto {
+        private final long secuencia;
+        private final String domicilio;
+        private final boolean finalizado;
+        private final Map<String, EstadoFila> filas=new LinkedHashMap<>();
+
+        DatosProyecto(IHomeSolution sistema, Integer numero) {
+            secuencia=sistema.ultimaSecuenciaEventos();
+            domicilio=sistema.consultarDomicilioProyecto(numero);
+            finalizado=sistema.estaFinalizado(numero);
+            sistema.recorrerTareasDeUnProyecto(numero, (posicion, tarea) -> {
+                EstadoFila fila=new EstadoFila(tarea.getEstado(), tarea.getHistorial().ultimoLegajo());
+                fila.conRetraso=tarea.getDiasDeRetraso() > 0;
+                filas.putIfAbsent(tarea.getTitulo(), fila);
+            });
+        }
     }
 
 
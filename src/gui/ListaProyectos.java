@@ -1,21 +1,20 @@
 package gui;
 
 import entidades.Estado;
+import entidades.EstadoProyecto;
+import entidades.EventoDominio;
 import entidades.IHomeSolution;
 import entidades.Proyecto;
-import entidades.Tupla;
 
 import javax.swing.*;
-import javax.swing.table.DefaultTableModel;
 
 
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
-import java.util.List;
-import java.util.ArrayList;
 
 public class ListaProyectos extends JPanel{
+    private static final int MAX_RESULTADOS_BUSQUEDA = 1000;
     private PanelManager panelManager;
     private JPanel listaProyectos;
     private JLabel estado;
@@ -26,6 +25,9 @@ public class ListaProyectos extends JPanel{
     private JTable proyectos;
     private JButton mostrar;
     private JButton gestion;
+    private JLabel labelBuscar;
+    private JTextField buscar;
+    private EstadoProyecto estadoMostrado;
 
 
     public ListaProyectos(PanelManager panelManager) {
@@ -33,7 +35,8 @@ public class ListaProyectos extends JPanel{
         armarFormulario();
     }
     public void armarFormulario(){
-        DefaultTableModel modelTabla=new DefaultTableModel();
+        ModeloTablaPerezoso modelTabla=new ModeloTablaPerezoso("Numero Proyecto","Datos",panelManager,
+                IHomeSolution::consultarDomicilioProyecto);
         armarPantalla(modelTabla);
         mostrar.addActionListener(new ActionListener() {
             @Override
@@ -45,8 +48,6 @@ public class ListaProyectos extends JPanel{
                     cargarTabla(Estado.activo,modelTabla);
                 if(finalizado.isSelected())
                      cargarTabla(Estado.finalizado,modelTabla);
-                if (modelTabla.getRowCount()==0)
-                    JOptionPane.showMessageDialog(null, "No hay proyectos");
             }
         });
         gestion.addActionListener(new ActionListener() {
@@ -55,22 +56,52 @@ public class ListaProyectos extends JPanel{
                 int filaSeleccionada=proyectos.getSelectedRow();
                 if (filaSeleccionada!=-1) {
                     int fila = proyectos.getSelectedRow();
-                    panelManager.seleccionar(Integer.parseInt(proyectos.getValueAt(fila, 0).toString()));
+                    panelManager.seleccionar(modelTabla.getNumero(fila));
                     panelManager.mostrar(6);
                 }
                 else
                     JOptionPane.showMessageDialog(null, "Debe seleccionar un proyecto");
             }
         });
+        BusquedaIncremental.conectar(panelManager, buscar,
+                texto -> sistema -> ModeloTablaPerezoso.recolectar(
+                        consumidor -> sistema.buscarProyectos(texto, MAX_RESULTADOS_BUSQUEDA, consumidor),
+                        sistema.ultimaSecuenciaEventos()),
+                carga -> {
+                    // Los resultados mezclan estados: no se actualizan por eventos.
+                    estadoMostrado = null;
+                    grupoOpciones.clearSelection();
+                    modelTabla.reemplazar(carga);
+                });
+        panelManager.escucharCambios(evento -> aplicarCambio(evento, modelTabla));
         setLayout(new BorderLayout());
         add(listaProyectos,BorderLayout.CENTER);
     }
-    private void armarPantalla(DefaultTableModel modelTabla){
+    private void aplicarCambio(EventoDominio evento, ModeloTablaPerezoso modelTabla){
+        if (estadoMostrado == null || !modelTabla.esPosterior(evento.getSecuencia()))
+            return;
+        int numero = evento.getNumeroProyecto();
+        if (evento instanceof EventoDominio.ProyectoRegistrado) {
+            if (((EventoDominio.ProyectoRegistrado) evento).getEstado() == estadoMostrado)
+                modelTabla.agregar(numero);
+        }
+        else if (evento instanceof EventoDominio.ProyectoFinalizado) {
+            if (estadoMostrado == EstadoProyecto.FINALIZADO)
+                modelTabla.agregar(numero);
+            else
+                modelTabla.quitar(numero);
+        }
+        else if (evento instanceof EventoDominio.TareaAgregada) {
+            // Una tarea nueva pasa un proyecto pendiente a activo.
+            if (estadoMostrado == EstadoProyecto.PENDIENTE)
+                modelTabla.quitar(numero);
+            else if (estadoMostrado == EstadoProyecto.ACTIVO && !modelTabla.contiene(numero))
+                modelTabla.agregar(numero);
+        }
+    }
+    private void armarPantalla(ModeloTablaPerezoso modelTabla){
         GridBagConstraints gbc = new GridBagConstraints();
 
-        modelTabla.addColumn("Numero Proyecto");
-        modelTabla.addColumn("Datos");
-
         estado=new JLabel("Seleccionar estado del proyecto");
         pendiente=new JRadioButton(Estado.pendiente);
         activo=new JRadioButton(Estado.activo);
@@ -80,6 +111,8 @@ public class ListaProyectos extends JPanel{
         grupoOpciones.add(activo);
         grupoOpciones.add(finalizado);
         pendiente.setSelected(true);
+        labelBuscar=new JLabel("Buscar por domicilio o cliente");
+        buscar=new JTextField(20);
         proyectos=new JTable(modelTabla);
         JScrollPane scrollPane = new JScrollPane(proyectos);
         mostrar=new JButton("Mostrar proyectos seleccionados");
@@ -108,6 +141,12 @@ public class ListaProyectos extends JPanel{
         gbc.gridy = 3;
         listaProyectos.add(mostrar, gbc);
         gbc.gridx = 0;
+        gbc.gridy = 0;
+        listaProyectos.add(labelBuscar, gbc);
+        gbc.gridx = 0;
+        gbc.gridy = 1;
+        listaProyectos.add(buscar, gbc);
+        gbc.gridx = 0;
         gbc.gridy = 4;
         listaProyectos.add(scrollPane, gbc);
         gbc.gridx = 0;
@@ -121,27 +160,25 @@ public class ListaProyectos extends JPanel{
         listaProyectos.add(gestion,gbc);
 
     }
-    private void cargarTabla(String opcion,DefaultTableModel tableModel){
-        List <Tupla<Integer,String>> proyectos=new ArrayList<>();
-
-        switch(opcion)
-        {
-            case Estado.pendiente:
-                proyectos = panelManager.sistema().proyectosPendientes();
-                break;
-            case Estado.activo:
-                proyectos = panelManager.sistema().proyectosActivos();
-            break;
-            case Estado.finalizado:
-                proyectos = panelManager.sistema().proyectosFinalizados();
-                break;
-        }
-        tableModel.setRowCount(0);
-
-        for(Tupla<Integer,String> t:proyectos) {
-            Object[] nuevaFila = {t.getValor1(), t.getValor2()};
-            tableModel.addRow(nuevaFila);
-        }
+    private void cargarTabla(String opcion,ModeloTablaPerezoso tableModel){
+        panelManager.enSegundoPlano(sistema -> {
+                    long secuencia = sistema.ultimaSecuenciaEventos();
+                    switch(opcion)
+                    {
+                        case Estado.pendiente:
+                            return ModeloTablaPerezoso.recolectar(sistema::recorrerProyectosPendientes, secuencia);
+                        case Estado.activo:
+                            return ModeloTablaPerezoso.recolectar(sistema::recorrerProyectosActivos, secuencia);
+                        default:
+                            return ModeloTablaPerezoso.recolectar(sistema::recorrerProyectosFinalizados, secuencia);
+                    }
+                }, carga -> {
+                    tableModel.reemplazar(carga);
+                    estadoMostrado = EstadoProyecto.valueOf(opcion);
+                    if (carga.cantidad()==0)
+                        JOptionPane.showMessageDialog(null, "No hay proyectos");
+                },
+                exception -> JOptionPane.showMessageDialog(null, "No se pudieron cargar los proyectos"));
     }
 
-}
+}
\ No newline at end of file
@@ -0,0 +1,253 @@
+package gui;
+
+import entidades.ConsumidorIntObjeto;
+import entidades.IHomeSolution;
+
+import javax.swing.table.AbstractTableModel;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Modelo de dos columnas (numero, texto) que solo guarda los numeros.
+ * El texto se pide al sistema por paginas, cuando la tabla dibuja esas filas.
+ * Las paginas se cargan en el hilo de fondo del sistema; mientras tanto la
+ * fila muestra {@link #CARGANDO_TEXTO}.
+ */
+public class ModeloTablaPerezoso extends AbstractTableModel {
+    private static final long serialVersionUID = 1L;
+    private static final int FILAS_POR_PAGINA = 128;
+    private static final int MAX_PAGINAS_CARGADAS = 64;
+    private static final String CARGANDO_TEXTO = "...";
+    private static final String[] CARGANDO = new String[0];
+
+    private final String[] columnas;
+    private final PanelManager panelManager;
+    private final TextoFila texto;
+    private int[] ids;
+    private int cantidad;
+    private long secuencia;
+    private String[][] paginas;
+    private int paginasCargadas;
+
+    public ModeloTablaPerezoso(String columnaNumero, String columnaTexto, PanelManager panelManager,
+                               TextoFila texto) {
+        this.columnas = new String[] {columnaNumero, columnaTexto};
+        this.panelManager = panelManager;
+        this.texto = texto;
+        this.ids = new int[0];
+        this.paginas = new String[0][];
+    }
+
+    /**
+     * Junta los numeros que entrega el recorrido. Puede correr fuera del hilo
+     * de Swing; el resultado se pasa despues a {@link #reemplazar(Carga)}.
+     *
+     * @param secuencia ultima secuencia de eventos ya reflejada en el recorrido.
+     */
+    public static Carga recolectar(Consumer<ConsumidorIntObjeto<String>> recorrido, long secuencia) {
+        Carga carga = new Carga(secuencia);
+        recorrido.accept(carga);
+        return carga;
+    }
+
+    /**
+     * Reemplaza todas las filas y avisa a la tabla con un unico evento.
+     */
+    public void reemplazar(Carga carga) {
+        ids = carga.numeros;
+        cantidad = carga.cantidad;
+        secuencia = carga.secuencia;
+        paginas = new String[(cantidad + FILAS_POR_PAGINA - 1) / FILAS_POR_PAGINA][];
+        paginasCargadas = 0;
+        fireTableStructureChanged();
+    }
+
+    /**
+     * @return false si el evento ya estaba incluido en la ultima carga.
+     */
+    public boolean esPosterior(long secuenciaEvento) {
+        return secuenciaEvento > secuencia;
+    }
+
+    public void agregar(int numero) {
+        if (cantidad == ids.length) {
+            ids = Arrays.copyOf(ids, Math.max(FILAS_POR_PAGINA, ids.length * 2));
+        }
+        ids[cantidad] = numero;
+        int p = cantidad / FILAS_POR_PAGINA;
+        if (p == paginas.length) {
+            paginas = Arrays.copyOf(paginas, p + 1);
+        } else {
+            descartarPagina(p);
+        }
+        cantidad++;
+        fireTableRowsInserted(cantidad - 1, cantidad - 1);
+    }
+
+    public void quitar(int numero) {
+        int fila = buscar(numero);
+        if (fila == -1) {
+            return;
+        }
+        System.arraycopy(ids, fila + 1, ids, fila, cantidad - fila - 1);
+        cantidad--;
+        for (int p = fila / FILAS_POR_PAGINA; p < paginas.length; p++) {
+            descartarPagina(p);
+        }
+        fireTableRowsDeleted(fila, fila);
+    }
+
+    public boolean contiene(int numero) {
+        return buscar(numero) != -1;
+    }
+
+    private int buscar(int numero) {
+        for (int i = 0; i < cantidad; i++) {
+            if (ids[i] == numero) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void descartarPagina(int p) {
+        if (paginas[p] != null && paginas[p] != CARGANDO) {
+            paginasCargadas--;
+        }
+        paginas[p] = null;
+    }
+
+    public int getNumero(int fila) {
+        return ids[fila];
+    }
+
+    @Override
+    public int getRowCount() {
+        return cantidad;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnas.length;
+    }
+
+    @Override
+    public String getColumnName(int columna) {
+        return columnas[columna];
+    }
+
+    @Override
+    public Class<?> getColumnClass(int columna) {
+        return columna == 0 ? Integer.class : String.class;
+    }
+
+    @Override
+    public Object getValueAt(int fila, int columna) {
+        if (columna == 0) {
+            return ids[fila];
+        }
+        int p = fila / FILAS_POR_PAGINA;
+        String[] pagina = paginas[p];
+        if (pagina == null) {
+            pedirPagina(p);
+            return CARGANDO_TEXTO;
+        }
+        if (pagina == CARGANDO) {
+            return CARGANDO_TEXTO;
+        }
+        return pagina[fila - p * FILAS_POR_PAGINA];
+    }
+
+    private void pedirPagina(int p) {
+        paginas[p] = CARGANDO;
+        int desde = p * FILAS_POR_PAGINA;
+        int[] numeros = Arrays.copyOfRange(ids, desde, Math.min(cantidad, desde + FILAS_POR_PAGINA));
+        // Sin indicador: el dibujado pide paginas seguido al hacer scroll.
+        panelManager.enSegundoPlanoSinIndicador(sistema -> {
+                    String[] pagina = new String[numeros.length];
+                    for (int i = 0; i < numeros.length; i++) {
+                        try {
+                            pagina[i] = texto.obtener(sistema, numeros[i]);
+                        } catch (Exception e) {
+                            pagina[i] = "";
+                        }
+                    }
+                    return pagina;
+                },
+                pagina -> recibirPagina(p, numeros, pagina),
+                e -> {
+                    String[] vacia = new String[numeros.length];
+                    Arrays.fill(vacia, "");
+                    recibirPagina(p, numeros, vacia);
+                });
+    }
+
+    /**
+     * Guarda la pagina solo si las filas siguen siendo las mismas que cuando
+     * se pidio; si cambiaron, la tabla la vuelve a pedir al redibujar.
+     */
+    private void recibirPagina(int p, int[] numeros, String[] pagina) {
+        if (p >= paginas.length) {
+            return;
+        }
+        int desde = p * FILAS_POR_PAGINA;
+        boolean vigente = Math.min(cantidad, desde + FILAS_POR_PAGINA) - desde == numeros.length
+                && Arrays.equals(ids, desde, desde + numeros.length, numeros, 0, numeros.length);
+        if (!vigente) {
+            if (paginas[p] == CARGANDO) {
+                paginas[p] = null;
+            }
+        } else {
+            if (paginas[p] != null && paginas[p] != CARGANDO) {
+                return;
+            }
+            if (paginasCargadas == MAX_PAGINAS_CARGADAS) {
+                for (int i = 0; i < paginas.length; i++) {
+                    if (paginas[i] != CARGANDO) {
+                        paginas[i] = null;
+                    }
+                }
+                paginasCargadas = 0;
+            }
+            paginas[p] = pagina;
+            paginasCargadas++;
+        }
+        int hasta = Math.min(cantidad, desde + FILAS_POR_PAGINA);
+        if (desde < hasta) {
+            fireTableRowsUpdated(desde, hasta - 1);
+        }
+    }
+
+    /**
+     * Texto de una fila, consultado en el hilo de fondo.
+     */
+    @FunctionalInterface
+    public interface TextoFila {
+        String obtener(IHomeSolution sistema, int numero) throws Exception;
+    }
+
+    /**
+     * Numeros juntados fuera del hilo de Swing, listos para {@link #reemplazar(Carga)}.
+     */
+    public static class Carga implements ConsumidorIntObjeto<String> {
+        private final long secuencia;
+        private int[] numeros = new int[FILAS_POR_PAGINA];
+        private int cantidad;
+
+        private Carga(long secuencia) {
+            this.secuencia = secuencia;
+        }
+
+        public int cantidad() {
+            return cantidad;
+        }
+
+        @Override
+        public void aceptar(int numero, String ignorado) {
+            if (cantidad == numeros.length) {
+                numeros = Arrays.copyOf(numeros, numeros.length * 2);
+            }
+            numeros[cantidad++] = numero;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package gui;
+
+import entidades.IHomeSolution;
+
+/**
+ * Llamada al sistema que corre fuera del hilo de Swing. Puede lanzar las
+ * mismas excepciones que los metodos de {@link IHomeSolution}.
+ */
+@FunctionalInterface
+public interface OperacionSistema<T> {
+    T ejecutar(IHomeSolution sistema) throws Exception;
+}
@@ -0,0 +1,53 @@
+package gui;
+
+import entidades.Tupla;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Campo de texto con una lista de resultados (numero, texto) que se filtra
+ * mientras se escribe.
+ */
+public class PanelBusqueda extends JPanel {
+    private static final long serialVersionUID = 1L;
+    private JTextField campo;
+    private DefaultListModel<String> modeloLista;
+    private JList<String> lista;
+    private List<Tupla<Integer,String>> resultados;
+
+    public PanelBusqueda(PanelManager panelManager, String titulo,
+                         Function<String, OperacionSistema<List<Tupla<Integer,String>>>> busqueda) {
+        resultados=new ArrayList<>();
+        campo=new JTextField(20);
+        modeloLista=new DefaultListModel<>();
+        lista=new JList<>(modeloLista);
+        lista.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        lista.setVisibleRowCount(10);
+        setLayout(new BorderLayout(4, 4));
+        add(new JLabel(titulo), BorderLayout.NORTH);
+        add(campo, BorderLayout.CENTER);
+        add(new JScrollPane(lista), BorderLayout.SOUTH);
+        BusquedaIncremental.conectar(panelManager, campo, busqueda, this::mostrar).buscar();
+    }
+
+    private void mostrar(List<Tupla<Integer,String>> nuevos) {
+        resultados=nuevos;
+        modeloLista.clear();
+        for (Tupla<Integer,String> t : nuevos)
+            modeloLista.addElement(t.getValor1() + " - " + t.getValor2());
+        if (!nuevos.isEmpty())
+            lista.setSelectedIndex(0);
+    }
+
+    /**
+     * @return el numero elegido, o null si no hay ninguno seleccionado.
+     */
+    public Integer getSeleccionado() {
+        int i=lista.getSelectedIndex();
+        return i == -1 ? null : resultados.get(i).getValor1();
+    }
+}
@@ -1,14 +1,18 @@
 package gui;
 
+import entidades.EventoDominio;
 import entidades.IHomeSolution;
 
 import javax.swing.*;
 import java.awt.*;
+import java.util.function.Consumer;
 
 public class PanelManager {
 
     private JFrame jFrame;
     private IHomeSolution homeSolution;
+    private EjecutorSistema ejecutor;
+    private ReceptorEventos receptor;
     private Integer seleccionado;
     private PanelPrincipal principal;
     private FormularioProyecto formularioProyecto;
@@ -23,6 +27,9 @@ public class PanelManager {
         jFrame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         principal=new PanelPrincipal(this);
         this.homeSolution=h;
+        this.ejecutor=new EjecutorSistema(h,jFrame);
+        this.receptor=new ReceptorEventos();
+        h.publicadorEventos().subscribe(receptor);
         mostrar(principal);
     }
     public void mostrar(JPanel panel)
@@ -40,6 +47,29 @@ public class PanelManager {
         return homeSolution;
     }
 
+    /**
+     * Corre la operacion fuera del hilo de Swing; las respuestas vuelven al hilo de Swing.
+     */
+    public <T> void enSegundoPlano(OperacionSistema<T> operacion, Consumer<T> alTerminar,
+                                   Consumer<Exception> alFallar) {
+        ejecutor.ejecutar(operacion, alTerminar, alFallar);
+    }
+
+    /**
+     * Como {@link #enSegundoPlano}, pero sin cursor de espera ni bloqueo de clics.
+     */
+    public <T> void enSegundoPlanoSinIndicador(OperacionSistema<T> operacion, Consumer<T> alTerminar,
+                                               Consumer<Exception> alFallar) {
+        ejecutor.ejecutarSinIndicador(operacion, alTerminar, alFallar);
+    }
+
+    /**
+     * El oyente recibe, en el hilo de Swing, cada cambio que hace el sistema.
+     */
+    public void escucharCambios(Consumer<EventoDominio> oyente) {
+        receptor.agregarOyente(oyente);
+    }
+
     public void seleccionar(Integer num)
     {
         seleccionado=num;
@@ -68,7 +98,10 @@ public class PanelManager {
             mostrar(listaProyectos);
         }
         if (codigoPantalla==6) {
-            gestionProyectos= gestionProyectos == null ? new GestionProyectos(this) : gestionProyectos;
+            if (gestionProyectos == null)
+                gestionProyectos = new GestionProyectos(this);
+            else
+                gestionProyectos.mostrarProyecto(seleccionado);
             mostrar(gestionProyectos);
         }
 
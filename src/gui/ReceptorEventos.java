@@ -0,0 +1,61 @@
+package gui;
+
+import entidades.EventoDominio;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Recibe los eventos del sistema y los reparte a las pantallas en el hilo
+ * de Swing. Los eventos que llegan juntos se entregan en una sola pasada,
+ * con un unico invokeLater, en el orden en que se publicaron.
+ */
+public class ReceptorEventos implements Flow.Subscriber<EventoDominio> {
+    private final ConcurrentLinkedQueue<EventoDominio> pendientes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean entregaProgramada = new AtomicBoolean();
+    private final List<Consumer<EventoDominio>> oyentes = new ArrayList<>();
+
+    /**
+     * Debe llamarse desde el hilo de Swing.
+     */
+    public void agregarOyente(Consumer<EventoDominio> oyente) {
+        oyentes.add(oyente);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription suscripcion) {
+        suscripcion.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(EventoDominio evento) {
+        pendientes.add(evento);
+        if (entregaProgramada.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(this::entregar);
+        }
+    }
+
+    private void entregar() {
+        entregaProgramada.set(false);
+        EventoDominio evento;
+        while ((evento = pendientes.poll()) != null) {
+            for (Consumer<EventoDominio> oyente : oyentes) {
+                oyente.accept(evento);
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        error.printStackTrace();
+    }
+
+    @Override
+    public void onComplete() {
+    }
+}